@@ -33,12 +33,14 @@ import org.hyperledger.besu.ethereum.api.graphql.GraphQLContextType;
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLDataFetchers;
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLHttpService;
 import org.hyperledger.besu.ethereum.api.graphql.GraphQLProvider;
+import org.hyperledger.besu.ethereum.api.handlers.AbstractJsonRpcExecutor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.EngineJsonRpcService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcHttpService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.DefaultAuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.EngineAuthService;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AdmissionControlJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AuthenticatedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
@@ -48,6 +50,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.health.LivenessCheck;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.ReadinessCheck;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter.FilterManager;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter.FilterManagerBuilder;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.FinalizedResponseCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.ipc.JsonRpcIpcConfiguration;
 import org.hyperledger.besu.ethereum.api.jsonrpc.ipc.JsonRpcIpcService;
@@ -787,7 +790,7 @@ public class RunnerBuilder {
     Optional<JsonRpcHttpService> jsonRpcHttpService = Optional.empty();
 
     if (jsonRpcConfiguration.isEnabled()) {
-      final Map<String, JsonRpcMethod> nonEngineMethods =
+      Map<String, JsonRpcMethod> nonEngineMethods =
           jsonRpcMethods(
               protocolSchedule,
               context,
@@ -814,6 +817,14 @@ public class RunnerBuilder {
               besuPluginContext.getNamedPlugins(),
               dataDir,
               rpcEndpointServiceImpl);
+      if (jsonRpcConfiguration.getResponseCacheMaxBytes() > 0) {
+        nonEngineMethods =
+            new FinalizedResponseCache(
+                    context.getBlockchain(),
+                    jsonRpcConfiguration.getResponseCacheMaxBytes(),
+                    AbstractJsonRpcExecutor.createResponseWriter(jsonRpcConfiguration))
+                .decorate(nonEngineMethods);
+      }
 
       jsonRpcHttpService =
           Optional.of(
@@ -1358,15 +1369,26 @@ public class RunnerBuilder {
         .values()
         .forEach(websocketMethodsFactory::addMethods);
 
+    final JsonRpcProcessor baseProcessor =
+        AdmissionControlJsonRpcProcessor.isEnabled(
+                configuration.getMethodGroupConcurrencyLimits(),
+                configuration.getMethodConcurrencyLimits(),
+                configuration.getMaxClientCostMillis())
+            ? new AdmissionControlJsonRpcProcessor(
+                new BaseJsonRpcProcessor(),
+                configuration.getMethodGroupConcurrencyLimits(),
+                configuration.getMethodConcurrencyLimits(),
+                configuration.getMaxClientCostMillis(),
+                metricsSystem,
+                "ws")
+            : new BaseJsonRpcProcessor();
     final JsonRpcProcessor jsonRpcProcessor;
     if (authenticationService.isPresent()) {
       jsonRpcProcessor =
           new AuthenticatedJsonRpcProcessor(
-              new BaseJsonRpcProcessor(),
-              authenticationService.get(),
-              configuration.getRpcApisNoAuth());
+              baseProcessor, authenticationService.get(), configuration.getRpcApisNoAuth());
     } else {
-      jsonRpcProcessor = new BaseJsonRpcProcessor();
+      jsonRpcProcessor = baseProcessor;
     }
     final JsonRpcExecutor jsonRpcExecutor =
         new JsonRpcExecutor(jsonRpcProcessor, websocketMethodsFactory.methods());
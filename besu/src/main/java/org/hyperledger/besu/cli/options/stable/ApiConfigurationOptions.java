@@ -86,6 +86,20 @@ public class ApiConfigurationOptions {
           "Specifies the maximum number of blocks for the trace_filter method. Must be >=0. 0 specifies no limit  (default: $DEFAULT-VALUE)")
   private final Long maxTraceFilterRange = 1000L;
 
+  @CommandLine.Option(
+      names = {"--rpc-trace-filter-parallelism"},
+      hidden = true,
+      description =
+          "Specifies the maximum number of block ranges replayed concurrently by a trace_filter request. Must be >=1  (default: ${DEFAULT-VALUE})")
+  private final Integer traceFilterParallelism = 4;
+
+  @CommandLine.Option(
+      names = {"--rpc-trace-cache-max-traces"},
+      hidden = true,
+      description =
+          "Specifies the number of traces of the blocks cached for the trace methods. 0 disables the cache  (default: ${DEFAULT-VALUE})")
+  private final Long traceCacheMaxTraces = 0L;
+
   /**
    * Validates the API options.
    *
@@ -100,6 +114,10 @@ public class ApiConfigurationOptions {
             "--api-gas-and-priority-fee-lower-bound-coefficient cannot be greater than the value of --api-gas-and-priority-fee-upper-bound-coefficient");
       }
     }
+    if (traceFilterParallelism < 1) {
+      throw new CommandLine.ParameterException(
+          commandLine, "--rpc-trace-filter-parallelism must be greater than or equal to 1");
+    }
     checkApiOptionsDependencies(commandLine, logger);
   }
 
@@ -131,7 +149,9 @@ public class ApiConfigurationOptions {
             .maxLogsRange(rpcMaxLogsRange)
             .gasCap(rpcGasCap)
             .isGasAndPriorityFeeLimitingEnabled(apiGasAndPriorityFeeLimitingEnabled)
-            .maxTraceFilterRange(maxTraceFilterRange);
+            .maxTraceFilterRange(maxTraceFilterRange)
+            .traceFilterParallelism(traceFilterParallelism)
+            .traceCacheMaxTraces(traceCacheMaxTraces);
     if (apiGasAndPriorityFeeLimitingEnabled) {
       builder
           .lowerBoundGasAndPriorityFeeCoefficient(apiGasAndPriorityFeeLowerBoundCoefficient)
@@ -19,6 +19,7 @@ package org.hyperledger.besu.cli.options.stable;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.DEFAULT_RECEIPT_COMPACTION_ENABLED;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED;
+import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_HASHED_KEY_CACHE_SIZE;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_LIMIT_TRIE_LOGS_ENABLED;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.DEFAULT_BONSAI_TRIE_LOG_PRUNING_WINDOW_SIZE;
 import static org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration.Unstable.MINIMUM_BONSAI_TRIE_LOG_RETENTION_LIMIT;
@@ -81,6 +82,9 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
     public static final String BONSAI_TRIE_LOG_PRUNING_WINDOW_SIZE =
         "--Xbonsai-trie-logs-pruning-window-size";
 
+    /** The number of account and storage slot key hashes to cache. */
+    public static final String BONSAI_HASHED_KEY_CACHE_SIZE = "--Xbonsai-hashed-key-cache-size";
+
     @CommandLine.Option(
         hidden = true,
         names = {BONSAI_LIMIT_TRIE_LOGS_ENABLED, "--Xbonsai-trie-log-pruning-enabled"},
@@ -102,6 +106,15 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
         description =
             "Enables code storage using code hash instead of by account hash. (default: ${DEFAULT-VALUE})")
     private boolean bonsaiCodeUsingCodeHashEnabled = DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED;
+
+    @CommandLine.Option(
+        hidden = true,
+        names = {BONSAI_HASHED_KEY_CACHE_SIZE},
+        paramLabel = "<LONG>",
+        arity = "1",
+        description =
+            "Number of account and storage slot key hashes kept across blocks, 0 to disable. (default: ${DEFAULT-VALUE})")
+    private long bonsaiHashedKeyCacheSize = DEFAULT_BONSAI_HASHED_KEY_CACHE_SIZE;
   }
 
   /**
@@ -119,6 +132,13 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
    * @param commandLine the full commandLine to check all the options specified by the user
    */
   public void validate(final CommandLine commandLine) {
+    if (unstableOptions.bonsaiHashedKeyCacheSize < 0) {
+      throw new CommandLine.ParameterException(
+          commandLine,
+          String.format(
+              Unstable.BONSAI_HASHED_KEY_CACHE_SIZE + "=%d must not be negative",
+              unstableOptions.bonsaiHashedKeyCacheSize));
+    }
     if (unstableOptions.bonsaiLimitTrieLogsEnabled) {
       if (bonsaiMaxLayersToLoad < MINIMUM_BONSAI_TRIE_LOG_RETENTION_LIMIT) {
         throw new CommandLine.ParameterException(
@@ -165,6 +185,8 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
         domainObject.getUnstable().getBonsaiTrieLogPruningWindowSize();
     dataStorageOptions.unstableOptions.bonsaiCodeUsingCodeHashEnabled =
         domainObject.getUnstable().getBonsaiCodeStoredByCodeHashEnabled();
+    dataStorageOptions.unstableOptions.bonsaiHashedKeyCacheSize =
+        domainObject.getUnstable().getBonsaiHashedKeyCacheSize();
 
     return dataStorageOptions;
   }
@@ -180,6 +202,7 @@ public class DataStorageOptions implements CLIOptions<DataStorageConfiguration>
                 .bonsaiLimitTrieLogsEnabled(unstableOptions.bonsaiLimitTrieLogsEnabled)
                 .bonsaiTrieLogPruningWindowSize(unstableOptions.bonsaiTrieLogPruningWindowSize)
                 .bonsaiCodeStoredByCodeHashEnabled(unstableOptions.bonsaiCodeUsingCodeHashEnabled)
+                .bonsaiHashedKeyCacheSize(unstableOptions.bonsaiHashedKeyCacheSize)
                 .build())
         .build();
   }
@@ -16,6 +16,8 @@ package org.hyperledger.besu.cli.options.stable;
 
 import static java.util.Arrays.asList;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_JSON_RPC_PORT;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_MAX_BATCH_CONCURRENCY;
+import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_MAX_CONCURRENT_BATCH_REQUESTS;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration.DEFAULT_PRETTY_JSON_ENABLED;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.RpcApis.DEFAULT_RPC_APIS;
 import static org.hyperledger.besu.ethereum.api.jsonrpc.RpcApis.VALID_APIS;
@@ -37,7 +39,9 @@ import java.security.KeyManagementException;
 import java.security.NoSuchAlgorithmException;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -196,6 +200,52 @@ public class JsonRpcHttpOptions {
           "Specifies the maximum number of requests in a single RPC batch request via RPC. -1 specifies no limit  (default: ${DEFAULT-VALUE})")
   private final Integer rpcHttpMaxBatchSize = DefaultCommandValues.DEFAULT_HTTP_MAX_BATCH_SIZE;
 
+  @CommandLine.Option(
+      names = {"--rpc-http-max-batch-concurrency"},
+      paramLabel = DefaultCommandValues.MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Specifies the maximum number of requests of a single RPC batch request executed concurrently. 1 executes them one after another (default: ${DEFAULT-VALUE})")
+  private final Integer rpcHttpMaxBatchConcurrency = DEFAULT_MAX_BATCH_CONCURRENCY;
+
+  @CommandLine.Option(
+      names = {"--rpc-http-max-concurrent-batch-requests"},
+      paramLabel = DefaultCommandValues.MANDATORY_INTEGER_FORMAT_HELP,
+      description =
+          "Specifies the maximum number of requests, from all the RPC batch requests, executed concurrently on top of the threads serving the batches (default: ${DEFAULT-VALUE})")
+  private final Integer rpcHttpMaxConcurrentBatchRequests = DEFAULT_MAX_CONCURRENT_BATCH_REQUESTS;
+
+  @CommandLine.Option(
+      names = {"--rpc-http-method-group-concurrency-limits"},
+      paramLabel = "GROUP=LIMIT",
+      description =
+          "Maximum number of concurrent executions of the methods of a method group, like debug or trace, requests exceeding it being rejected. Groups that are not listed are not limited",
+      arity = "*",
+      split = ",")
+  private final Map<String, Integer> rpcHttpMethodGroupConcurrencyLimits = new HashMap<>();
+
+  @CommandLine.Option(
+      names = {"--rpc-http-method-concurrency-limits"},
+      paramLabel = "METHOD=LIMIT",
+      description =
+          "Maximum number of concurrent executions of a method, like debug_traceBlock, requests exceeding it being rejected. Methods that are not listed are not limited",
+      arity = "*",
+      split = ",")
+  private final Map<String, Integer> rpcHttpMethodConcurrencyLimits = new HashMap<>();
+
+  @CommandLine.Option(
+      names = {"--rpc-http-max-client-cost"},
+      paramLabel = DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP,
+      description =
+          "Maximum estimated CPU time, in milliseconds, of the requests a client runs concurrently, requests exceeding it being rejected. 0 does not limit clients (default: ${DEFAULT-VALUE})")
+  private final Long rpcHttpMaxClientCostMillis = 0L;
+
+  @CommandLine.Option(
+      names = {"--rpc-http-response-cache-max-size"},
+      paramLabel = DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP,
+      description =
+          "Maximum size, in bytes, of the cached results of the queries of finalized blocks, like eth_getBlockByNumber or trace_block. 0 disables the cache (default: ${DEFAULT-VALUE})")
+  private final Long rpcHttpResponseCacheMaxBytes = 0L;
+
   @CommandLine.Option(
       names = {"--rpc-http-max-request-content-length"},
       paramLabel = DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP,
@@ -288,6 +338,12 @@ public class JsonRpcHttpOptions {
     jsonRpcConfiguration.setTlsConfiguration(rpcHttpTlsConfiguration());
     jsonRpcConfiguration.setHttpTimeoutSec(timoutSec);
     jsonRpcConfiguration.setMaxBatchSize(rpcHttpMaxBatchSize);
+    jsonRpcConfiguration.setMaxBatchConcurrency(rpcHttpMaxBatchConcurrency);
+    jsonRpcConfiguration.setMaxConcurrentBatchRequests(rpcHttpMaxConcurrentBatchRequests);
+    jsonRpcConfiguration.setMethodGroupConcurrencyLimits(rpcHttpMethodGroupConcurrencyLimits);
+    jsonRpcConfiguration.setMethodConcurrencyLimits(rpcHttpMethodConcurrencyLimits);
+    jsonRpcConfiguration.setMaxClientCostMillis(rpcHttpMaxClientCostMillis);
+    jsonRpcConfiguration.setResponseCacheMaxBytes(rpcHttpResponseCacheMaxBytes);
     jsonRpcConfiguration.setMaxRequestContentLength(rpcHttpMaxRequestContentLength);
     jsonRpcConfiguration.setPrettyJsonEnabled(prettyJsonEnabled);
     return jsonRpcConfiguration;
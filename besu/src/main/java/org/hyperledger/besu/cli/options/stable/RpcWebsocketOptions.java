@@ -27,7 +27,9 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.WebSocketConfiguratio
 
 import java.io.File;
 import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -120,6 +122,31 @@ public class RpcWebsocketOptions {
       arity = "1")
   private final File rpcWsAuthenticationPublicKeyFile = null;
 
+  @CommandLine.Option(
+      names = {"--rpc-ws-method-group-concurrency-limits"},
+      paramLabel = "GROUP=LIMIT",
+      description =
+          "Maximum number of concurrent executions of the methods of a method group, like debug or trace, requests exceeding it being rejected. Groups that are not listed are not limited",
+      arity = "*",
+      split = ",")
+  private final Map<String, Integer> rpcWsMethodGroupConcurrencyLimits = new HashMap<>();
+
+  @CommandLine.Option(
+      names = {"--rpc-ws-method-concurrency-limits"},
+      paramLabel = "METHOD=LIMIT",
+      description =
+          "Maximum number of concurrent executions of a method, like debug_traceBlock, requests exceeding it being rejected. Methods that are not listed are not limited",
+      arity = "*",
+      split = ",")
+  private final Map<String, Integer> rpcWsMethodConcurrencyLimits = new HashMap<>();
+
+  @CommandLine.Option(
+      names = {"--rpc-ws-max-client-cost"},
+      paramLabel = DefaultCommandValues.MANDATORY_LONG_FORMAT_HELP,
+      description =
+          "Maximum estimated CPU time, in milliseconds, of the requests a client runs concurrently, requests exceeding it being rejected. 0 does not limit clients (default: ${DEFAULT-VALUE})")
+  private final Long rpcWsMaxClientCostMillis = 0L;
+
   /**
    * Validates the WebSocket options.
    *
@@ -219,6 +246,9 @@ public class RpcWebsocketOptions {
     webSocketConfiguration.setAuthenticationPublicKeyFile(rpcWsAuthenticationPublicKeyFile);
     webSocketConfiguration.setAuthenticationAlgorithm(rpcWebsocketsAuthenticationAlgorithm);
     webSocketConfiguration.setTimeoutSec(wsTimoutSec);
+    webSocketConfiguration.setMethodGroupConcurrencyLimits(rpcWsMethodGroupConcurrencyLimits);
+    webSocketConfiguration.setMethodConcurrencyLimits(rpcWsMethodConcurrencyLimits);
+    webSocketConfiguration.setMaxClientCostMillis(rpcWsMaxClientCostMillis);
     return webSocketConfiguration;
   }
 
@@ -33,6 +33,7 @@ import java.io.IOException;
 import java.net.ServerSocket;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 import java.util.Optional;
 import java.util.function.Function;
 
@@ -854,6 +855,75 @@ public class JsonRpcHttpOptionsTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
   }
 
+  @Test
+  public void rpcHttpMaxBatchConcurrencyOptionMustBeUsed() {
+    final int rpcHttpMaxBatchConcurrency = 4;
+    final int rpcHttpMaxConcurrentBatchRequests = 8;
+    parseCommand(
+        "--rpc-http-max-batch-concurrency",
+        Integer.toString(rpcHttpMaxBatchConcurrency),
+        "--rpc-http-max-concurrent-batch-requests",
+        Integer.toString(rpcHttpMaxConcurrentBatchRequests));
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxBatchConcurrency())
+        .isEqualTo(rpcHttpMaxBatchConcurrency);
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxConcurrentBatchRequests())
+        .isEqualTo(rpcHttpMaxConcurrentBatchRequests);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpAdmissionControlOptionsMustBeUsed() {
+    parseCommand(
+        "--rpc-http-method-concurrency-limits",
+        "debug_traceBlock=1,trace_filter=2",
+        "--rpc-http-max-client-cost",
+        "1000");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMethodConcurrencyLimits())
+        .containsExactlyInAnyOrderEntriesOf(Map.of("debug_traceBlock", 1, "trace_filter", 2));
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMaxClientCostMillis()).isEqualTo(1000L);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpResponseCacheMaxSizeOptionMustBeUsed() {
+    parseCommand("--rpc-http-response-cache-max-size", "16777216");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getResponseCacheMaxBytes())
+        .isEqualTo(16777216L);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
+  @Test
+  public void rpcHttpMethodGroupConcurrencyLimitsOptionMustBeUsed() {
+    parseCommand("--rpc-http-method-group-concurrency-limits", "debug=2,trace=1");
+
+    verify(mockRunnerBuilder).jsonRpcConfiguration(jsonRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(jsonRpcConfigArgumentCaptor.getValue().getMethodGroupConcurrencyLimits())
+        .containsExactlyInAnyOrderEntriesOf(Map.of("debug", 2, "trace", 1));
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
   @Test
   public void portInUseReportsError() throws IOException {
     final ServerSocket serverSocket = new ServerSocket(8545);
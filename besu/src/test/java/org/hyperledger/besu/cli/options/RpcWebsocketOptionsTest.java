@@ -27,6 +27,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.JwtAlgorithm;
 import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.util.Map;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -68,6 +69,39 @@ public class RpcWebsocketOptionsTest extends CommandTestAbstract {
     assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
   }
 
+  @Test
+  public void rpcWsAdmissionControlOptionsMustBeUsed() {
+    parseCommand(
+        "--rpc-ws-method-concurrency-limits",
+        "debug_traceBlock=1,trace_filter=2",
+        "--rpc-ws-max-client-cost",
+        "1000");
+
+    verify(mockRunnerBuilder).webSocketConfiguration(wsRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(wsRpcConfigArgumentCaptor.getValue().getMethodConcurrencyLimits())
+        .containsExactlyInAnyOrderEntriesOf(Map.of("debug_traceBlock", 1, "trace_filter", 2));
+    assertThat(wsRpcConfigArgumentCaptor.getValue().getMaxClientCostMillis()).isEqualTo(1000L);
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
+  @Test
+  public void rpcWsMethodGroupConcurrencyLimitsOptionMustBeUsed() {
+    parseCommand("--rpc-ws-method-group-concurrency-limits", "debug=2,trace=1");
+
+    verify(mockRunnerBuilder).webSocketConfiguration(wsRpcConfigArgumentCaptor.capture());
+    verify(mockRunnerBuilder).build();
+
+    assertThat(wsRpcConfigArgumentCaptor.getValue().getMethodGroupConcurrencyLimits())
+        .containsExactlyInAnyOrderEntriesOf(Map.of("debug", 2, "trace", 1));
+
+    assertThat(commandOutput.toString(UTF_8)).isEmpty();
+    assertThat(commandErrorOutput.toString(UTF_8)).isEmpty();
+  }
+
   @Test
   public void rpcWsMaxFrameSizePropertyMustBeUsed() {
     final int maxFrameSize = 65535;
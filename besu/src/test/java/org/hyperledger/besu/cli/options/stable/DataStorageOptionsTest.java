@@ -110,6 +110,24 @@ public class DataStorageOptionsTest
         "false");
   }
 
+  @Test
+  public void bonsaiHashedKeyCacheSizeOption() {
+    internalTestSuccess(
+        dataStorageConfiguration ->
+            assertThat(dataStorageConfiguration.getUnstable().getBonsaiHashedKeyCacheSize())
+                .isEqualTo(500_000L),
+        "--Xbonsai-hashed-key-cache-size",
+        "500000");
+  }
+
+  @Test
+  public void bonsaiHashedKeyCacheSizeShouldNotBeNegative() {
+    internalTestFailure(
+        "--Xbonsai-hashed-key-cache-size=-1 must not be negative",
+        "--Xbonsai-hashed-key-cache-size",
+        "-1");
+  }
+
   @Test
   public void receiptCompactionCanBeEnabled() {
     internalTestSuccess(
@@ -0,0 +1,95 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+
+import org.bouncycastle.crypto.Digest;
+import org.bouncycastle.crypto.digests.KeccakDigest;
+import org.bouncycastle.crypto.digests.SHA256Digest;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Compares {@link Keccak256} and {@link Sha256} with the BouncyCastle digests, both through the
+ * {@link MessageDigest} provider, cloned for every call as {@link Hash} used to do, and through the
+ * lightweight API. Allocations can be compared with {@code -Pprof=gc}.
+ */
+@State(Scope.Thread)
+public class HashBenchmark {
+
+  /** The hash functions that can be benchmarked. */
+  public enum Algorithm {
+    /** Keccak-256 */
+    KECCAK256,
+    /** SHA-256 */
+    SHA256
+  }
+
+  @Param public Algorithm algorithm;
+
+  // an address, a storage slot key, a full Keccak block and a typical trie branch node
+  @Param({"20", "32", "136", "532"})
+  public int size;
+
+  private byte[] input;
+  private final byte[] output = new byte[32];
+  private MessageDigest messageDigest;
+  private Digest digest;
+
+  @Setup
+  public void setUp() throws NoSuchAlgorithmException {
+    input = new byte[size];
+    new Random(1).nextBytes(input);
+    switch (algorithm) {
+      case KECCAK256 -> {
+        messageDigest = MessageDigestFactory.create(MessageDigestFactory.KECCAK256_ALG);
+        digest = new KeccakDigest(256);
+      }
+      case SHA256 -> {
+        messageDigest = MessageDigestFactory.create(MessageDigestFactory.SHA256_ALG);
+        digest = new SHA256Digest();
+      }
+    }
+  }
+
+  @Benchmark
+  public byte[] besu() {
+    switch (algorithm) {
+      case KECCAK256 -> Keccak256.hash(input, 0, input.length, output, 0);
+      case SHA256 -> Sha256.hash(input, 0, input.length, output, 0);
+    }
+    return output;
+  }
+
+  @Benchmark
+  public byte[] clonedMessageDigest() throws CloneNotSupportedException {
+    final MessageDigest clone = (MessageDigest) messageDigest.clone();
+    clone.update(input);
+    return clone.digest();
+  }
+
+  @Benchmark
+  public byte[] bouncyCastleDigest() {
+    digest.update(input, 0, input.length);
+    digest.doFinal(output, 0);
+    return output;
+  }
+}
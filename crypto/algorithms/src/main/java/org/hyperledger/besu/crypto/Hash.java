@@ -15,9 +15,7 @@
 package org.hyperledger.besu.crypto;
 
 import static org.hyperledger.besu.crypto.MessageDigestFactory.BLAKE2BF_ALG;
-import static org.hyperledger.besu.crypto.MessageDigestFactory.KECCAK256_ALG;
 import static org.hyperledger.besu.crypto.MessageDigestFactory.RIPEMD160_ALG;
-import static org.hyperledger.besu.crypto.MessageDigestFactory.SHA256_ALG;
 
 import java.security.MessageDigest;
 import java.security.NoSuchAlgorithmException;
@@ -31,10 +29,6 @@ import org.apache.tuweni.bytes.Bytes32;
 public abstract class Hash {
   private Hash() {}
 
-  private static final Supplier<MessageDigest> KECCAK256_SUPPLIER =
-      Suppliers.memoize(() -> messageDigest(KECCAK256_ALG));
-  private static final Supplier<MessageDigest> SHA256_SUPPLIER =
-      Suppliers.memoize(() -> messageDigest(SHA256_ALG));
   private static final Supplier<MessageDigest> RIPEMD160_SUPPLIER =
       Suppliers.memoize(() -> messageDigest(RIPEMD160_ALG));
   private static final Supplier<MessageDigest> BLAKE2BF_SUPPLIER =
@@ -73,7 +67,10 @@ public abstract class Hash {
    * @return A digest.
    */
   public static Bytes32 sha256(final Bytes input) {
-    return Bytes32.wrap(digestUsingAlgorithm(input, SHA256_SUPPLIER));
+    final byte[] bytes = input.toArrayUnsafe();
+    final byte[] digest = new byte[Sha256.DIGEST_LENGTH];
+    Sha256.hash(bytes, 0, bytes.length, digest, 0);
+    return Bytes32.wrap(digest);
   }
 
   /**
@@ -83,7 +80,10 @@ public abstract class Hash {
    * @return A digest.
    */
   public static Bytes32 keccak256(final Bytes input) {
-    return Bytes32.wrap(digestUsingAlgorithm(input, KECCAK256_SUPPLIER));
+    final byte[] bytes = input.toArrayUnsafe();
+    final byte[] digest = new byte[Keccak256.DIGEST_LENGTH];
+    Keccak256.hash(bytes, 0, bytes.length, digest, 0);
+    return Bytes32.wrap(digest);
   }
 
   /**
@@ -0,0 +1,280 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * Keccak-256, as used by Ethereum, which is Keccak[r=1088, c=512] with the original Keccak padding
+ * rather than the SHA3-256 one.
+ *
+ * <p>The sponge state is kept in a per thread {@code long[]}, so hashing does not allocate
+ * anything besides what the caller provides. The permutation works on local variables, in the same
+ * way as the one of BouncyCastle.
+ */
+public final class Keccak256 {
+  /** The length in bytes of a Keccak-256 digest. */
+  public static final int DIGEST_LENGTH = 32;
+
+  // 1088 bits, the part of the state the input is absorbed into
+  private static final int RATE = 136;
+  private static final int RATE_LANES = RATE / Long.BYTES;
+
+  private static final VarHandle LONG_LE =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.LITTLE_ENDIAN);
+
+  private static final long[] ROUND_CONSTANTS = {
+    0x0000000000000001L, 0x0000000000008082L, 0x800000000000808aL, 0x8000000080008000L,
+    0x000000000000808bL, 0x0000000080000001L, 0x8000000080008081L, 0x8000000000008009L,
+    0x000000000000008aL, 0x0000000000000088L, 0x0000000080008009L, 0x000000008000000aL,
+    0x000000008000808bL, 0x800000000000008bL, 0x8000000000008089L, 0x8000000000008003L,
+    0x8000000000008002L, 0x8000000000000080L, 0x000000000000800aL, 0x800000008000000aL,
+    0x8000000080008081L, 0x8000000000008080L, 0x0000000080000001L, 0x8000000080008008L
+  };
+
+  private static final ThreadLocal<long[]> STATE = ThreadLocal.withInitial(() -> new long[25]);
+
+  private Keccak256() {}
+
+  /**
+   * Computes the Keccak-256 digest of a range of bytes.
+   *
+   * @param in the array holding the bytes to hash
+   * @param off the offset of the first byte to hash
+   * @param len the number of bytes to hash
+   * @param out the array the digest is written to
+   * @param outOff the offset at which the {@link #DIGEST_LENGTH} bytes of the digest are written
+   */
+  public static void hash(
+      final byte[] in, final int off, final int len, final byte[] out, final int outOff) {
+    Objects.checkFromIndexSize(off, len, in.length);
+    Objects.checkFromIndexSize(outOff, DIGEST_LENGTH, out.length);
+
+    final long[] state = STATE.get();
+    Arrays.fill(state, 0L);
+
+    int pos = off;
+    final int end = off + len;
+    while (end - pos >= RATE) {
+      for (int i = 0; i < RATE_LANES; i++) {
+        state[i] ^= (long) LONG_LE.get(in, pos + i * Long.BYTES);
+      }
+      permute(state);
+      pos += RATE;
+    }
+
+    // the last block holds the remaining bytes followed by the 10*1 padding
+    final int remaining = end - pos;
+    final int fullLanes = remaining / Long.BYTES;
+    for (int i = 0; i < fullLanes; i++) {
+      state[i] ^= (long) LONG_LE.get(in, pos + i * Long.BYTES);
+    }
+    final int tailStart = pos + fullLanes * Long.BYTES;
+    final int tailLength = remaining % Long.BYTES;
+    long tail = 0L;
+    for (int i = 0; i < tailLength; i++) {
+      tail |= (in[tailStart + i] & 0xFFL) << (i * Byte.SIZE);
+    }
+    state[fullLanes] ^= tail | (0x01L << (tailLength * Byte.SIZE));
+    state[RATE_LANES - 1] ^= 0x8000000000000000L;
+    permute(state);
+
+    for (int i = 0; i < DIGEST_LENGTH / Long.BYTES; i++) {
+      LONG_LE.set(out, outOff + i * Long.BYTES, state[i]);
+    }
+  }
+
+  /**
+   * Computes the Keccak-256 digest of a whole array.
+   *
+   * @param in the bytes to hash
+   * @return the digest
+   */
+  public static byte[] hash(final byte[] in) {
+    final byte[] out = new byte[DIGEST_LENGTH];
+    hash(in, 0, in.length, out, 0);
+    return out;
+  }
+
+  private static void permute(final long[] a) {
+    long a00 = a[0];
+    long a01 = a[1];
+    long a02 = a[2];
+    long a03 = a[3];
+    long a04 = a[4];
+    long a05 = a[5];
+    long a06 = a[6];
+    long a07 = a[7];
+    long a08 = a[8];
+    long a09 = a[9];
+    long a10 = a[10];
+    long a11 = a[11];
+    long a12 = a[12];
+    long a13 = a[13];
+    long a14 = a[14];
+    long a15 = a[15];
+    long a16 = a[16];
+    long a17 = a[17];
+    long a18 = a[18];
+    long a19 = a[19];
+    long a20 = a[20];
+    long a21 = a[21];
+    long a22 = a[22];
+    long a23 = a[23];
+    long a24 = a[24];
+
+    for (int round = 0; round < 24; round++) {
+      // theta
+      long c0 = a00 ^ a05 ^ a10 ^ a15 ^ a20;
+      long c1 = a01 ^ a06 ^ a11 ^ a16 ^ a21;
+      final long c2 = a02 ^ a07 ^ a12 ^ a17 ^ a22;
+      final long c3 = a03 ^ a08 ^ a13 ^ a18 ^ a23;
+      final long c4 = a04 ^ a09 ^ a14 ^ a19 ^ a24;
+
+      final long d0 = Long.rotateLeft(c1, 1) ^ c4;
+      final long d1 = Long.rotateLeft(c2, 1) ^ c0;
+      final long d2 = Long.rotateLeft(c3, 1) ^ c1;
+      final long d3 = Long.rotateLeft(c4, 1) ^ c2;
+      final long d4 = Long.rotateLeft(c0, 1) ^ c3;
+
+      a00 ^= d0;
+      a05 ^= d0;
+      a10 ^= d0;
+      a15 ^= d0;
+      a20 ^= d0;
+      a01 ^= d1;
+      a06 ^= d1;
+      a11 ^= d1;
+      a16 ^= d1;
+      a21 ^= d1;
+      a02 ^= d2;
+      a07 ^= d2;
+      a12 ^= d2;
+      a17 ^= d2;
+      a22 ^= d2;
+      a03 ^= d3;
+      a08 ^= d3;
+      a13 ^= d3;
+      a18 ^= d3;
+      a23 ^= d3;
+      a04 ^= d4;
+      a09 ^= d4;
+      a14 ^= d4;
+      a19 ^= d4;
+      a24 ^= d4;
+
+      // rho and pi
+      c1 = Long.rotateLeft(a01, 1);
+      a01 = Long.rotateLeft(a06, 44);
+      a06 = Long.rotateLeft(a09, 20);
+      a09 = Long.rotateLeft(a22, 61);
+      a22 = Long.rotateLeft(a14, 39);
+      a14 = Long.rotateLeft(a20, 18);
+      a20 = Long.rotateLeft(a02, 62);
+      a02 = Long.rotateLeft(a12, 43);
+      a12 = Long.rotateLeft(a13, 25);
+      a13 = Long.rotateLeft(a19, 8);
+      a19 = Long.rotateLeft(a23, 56);
+      a23 = Long.rotateLeft(a15, 41);
+      a15 = Long.rotateLeft(a04, 27);
+      a04 = Long.rotateLeft(a24, 14);
+      a24 = Long.rotateLeft(a21, 2);
+      a21 = Long.rotateLeft(a08, 55);
+      a08 = Long.rotateLeft(a16, 45);
+      a16 = Long.rotateLeft(a05, 36);
+      a05 = Long.rotateLeft(a03, 28);
+      a03 = Long.rotateLeft(a18, 21);
+      a18 = Long.rotateLeft(a17, 15);
+      a17 = Long.rotateLeft(a11, 10);
+      a11 = Long.rotateLeft(a07, 6);
+      a07 = Long.rotateLeft(a10, 3);
+      a10 = c1;
+
+      // chi
+      c0 = a00 ^ (~a01 & a02);
+      c1 = a01 ^ (~a02 & a03);
+      a02 ^= ~a03 & a04;
+      a03 ^= ~a04 & a00;
+      a04 ^= ~a00 & a01;
+      a00 = c0;
+      a01 = c1;
+
+      c0 = a05 ^ (~a06 & a07);
+      c1 = a06 ^ (~a07 & a08);
+      a07 ^= ~a08 & a09;
+      a08 ^= ~a09 & a05;
+      a09 ^= ~a05 & a06;
+      a05 = c0;
+      a06 = c1;
+
+      c0 = a10 ^ (~a11 & a12);
+      c1 = a11 ^ (~a12 & a13);
+      a12 ^= ~a13 & a14;
+      a13 ^= ~a14 & a10;
+      a14 ^= ~a10 & a11;
+      a10 = c0;
+      a11 = c1;
+
+      c0 = a15 ^ (~a16 & a17);
+      c1 = a16 ^ (~a17 & a18);
+      a17 ^= ~a18 & a19;
+      a18 ^= ~a19 & a15;
+      a19 ^= ~a15 & a16;
+      a15 = c0;
+      a16 = c1;
+
+      c0 = a20 ^ (~a21 & a22);
+      c1 = a21 ^ (~a22 & a23);
+      a22 ^= ~a23 & a24;
+      a23 ^= ~a24 & a20;
+      a24 ^= ~a20 & a21;
+      a20 = c0;
+      a21 = c1;
+
+      // iota
+      a00 ^= ROUND_CONSTANTS[round];
+    }
+
+    a[0] = a00;
+    a[1] = a01;
+    a[2] = a02;
+    a[3] = a03;
+    a[4] = a04;
+    a[5] = a05;
+    a[6] = a06;
+    a[7] = a07;
+    a[8] = a08;
+    a[9] = a09;
+    a[10] = a10;
+    a[11] = a11;
+    a[12] = a12;
+    a[13] = a13;
+    a[14] = a14;
+    a[15] = a15;
+    a[16] = a16;
+    a[17] = a17;
+    a[18] = a18;
+    a[19] = a19;
+    a[20] = a20;
+    a[21] = a21;
+    a[22] = a22;
+    a[23] = a23;
+    a[24] = a24;
+  }
+}
@@ -0,0 +1,171 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.util.Arrays;
+import java.util.Objects;
+
+/**
+ * SHA-256, as specified by FIPS 180-4.
+ *
+ * <p>The message schedule and the padded last blocks are kept in per thread arrays, so hashing does
+ * not allocate anything besides what the caller provides.
+ */
+public final class Sha256 {
+  /** The length in bytes of a SHA-256 digest. */
+  public static final int DIGEST_LENGTH = 32;
+
+  private static final int BLOCK_LENGTH = 64;
+
+  private static final VarHandle INT_BE =
+      MethodHandles.byteArrayViewVarHandle(int[].class, ByteOrder.BIG_ENDIAN);
+  private static final VarHandle LONG_BE =
+      MethodHandles.byteArrayViewVarHandle(long[].class, ByteOrder.BIG_ENDIAN);
+
+  private static final int[] INITIAL_STATE = {
+    0x6a09e667, 0xbb67ae85, 0x3c6ef372, 0xa54ff53a, 0x510e527f, 0x9b05688c, 0x1f83d9ab, 0x5be0cd19
+  };
+
+  private static final int[] K = {
+    0x428a2f98, 0x71374491, 0xb5c0fbcf, 0xe9b5dba5, 0x3956c25b, 0x59f111f1, 0x923f82a4, 0xab1c5ed5,
+    0xd807aa98, 0x12835b01, 0x243185be, 0x550c7dc3, 0x72be5d74, 0x80deb1fe, 0x9bdc06a7, 0xc19bf174,
+    0xe49b69c1, 0xefbe4786, 0x0fc19dc6, 0x240ca1cc, 0x2de92c6f, 0x4a7484aa, 0x5cb0a9dc, 0x76f988da,
+    0x983e5152, 0xa831c66d, 0xb00327c8, 0xbf597fc7, 0xc6e00bf3, 0xd5a79147, 0x06ca6351, 0x14292967,
+    0x27b70a85, 0x2e1b2138, 0x4d2c6dfc, 0x53380d13, 0x650a7354, 0x766a0abb, 0x81c2c92e, 0x92722c85,
+    0xa2bfe8a1, 0xa81a664b, 0xc24b8b70, 0xc76c51a3, 0xd192e819, 0xd6990624, 0xf40e3585, 0x106aa070,
+    0x19a4c116, 0x1e376c08, 0x2748774c, 0x34b0bcb5, 0x391c0cb3, 0x4ed8aa4a, 0x5b9cca4f, 0x682e6ff3,
+    0x748f82ee, 0x78a5636f, 0x84c87814, 0x8cc70208, 0x90befffa, 0xa4506ceb, 0xbef9a3f7, 0xc67178f2
+  };
+
+  private static final ThreadLocal<Scratch> SCRATCH = ThreadLocal.withInitial(Scratch::new);
+
+  private static final class Scratch {
+    private final int[] state = new int[8];
+    private final int[] schedule = new int[64];
+    // the last one or two blocks, once padded
+    private final byte[] tail = new byte[2 * BLOCK_LENGTH];
+  }
+
+  private Sha256() {}
+
+  /**
+   * Computes the SHA-256 digest of a range of bytes.
+   *
+   * @param in the array holding the bytes to hash
+   * @param off the offset of the first byte to hash
+   * @param len the number of bytes to hash
+   * @param out the array the digest is written to
+   * @param outOff the offset at which the {@link #DIGEST_LENGTH} bytes of the digest are written
+   */
+  public static void hash(
+      final byte[] in, final int off, final int len, final byte[] out, final int outOff) {
+    Objects.checkFromIndexSize(off, len, in.length);
+    Objects.checkFromIndexSize(outOff, DIGEST_LENGTH, out.length);
+
+    final Scratch scratch = SCRATCH.get();
+    final int[] state = scratch.state;
+    System.arraycopy(INITIAL_STATE, 0, state, 0, INITIAL_STATE.length);
+
+    int pos = off;
+    final int end = off + len;
+    while (end - pos >= BLOCK_LENGTH) {
+      compress(state, scratch.schedule, in, pos);
+      pos += BLOCK_LENGTH;
+    }
+
+    // the remaining bytes, a single 1 bit, zeros and the length in bits fill one or two blocks
+    final int remaining = end - pos;
+    final byte[] tail = scratch.tail;
+    final int tailLength =
+        remaining + 1 + Long.BYTES <= BLOCK_LENGTH ? BLOCK_LENGTH : 2 * BLOCK_LENGTH;
+    System.arraycopy(in, pos, tail, 0, remaining);
+    tail[remaining] = (byte) 0x80;
+    Arrays.fill(tail, remaining + 1, tailLength - Long.BYTES, (byte) 0);
+    LONG_BE.set(tail, tailLength - Long.BYTES, (long) len * Byte.SIZE);
+    for (int blockStart = 0; blockStart < tailLength; blockStart += BLOCK_LENGTH) {
+      compress(state, scratch.schedule, tail, blockStart);
+    }
+
+    for (int i = 0; i < state.length; i++) {
+      INT_BE.set(out, outOff + i * Integer.BYTES, state[i]);
+    }
+  }
+
+  /**
+   * Computes the SHA-256 digest of a whole array.
+   *
+   * @param in the bytes to hash
+   * @return the digest
+   */
+  public static byte[] hash(final byte[] in) {
+    final byte[] out = new byte[DIGEST_LENGTH];
+    hash(in, 0, in.length, out, 0);
+    return out;
+  }
+
+  private static void compress(
+      final int[] state, final int[] w, final byte[] block, final int blockStart) {
+    for (int t = 0; t < 16; t++) {
+      w[t] = (int) INT_BE.get(block, blockStart + t * Integer.BYTES);
+    }
+    for (int t = 16; t < 64; t++) {
+      final int w15 = w[t - 15];
+      final int w2 = w[t - 2];
+      final int s0 = Integer.rotateRight(w15, 7) ^ Integer.rotateRight(w15, 18) ^ (w15 >>> 3);
+      final int s1 = Integer.rotateRight(w2, 17) ^ Integer.rotateRight(w2, 19) ^ (w2 >>> 10);
+      w[t] = w[t - 16] + s0 + w[t - 7] + s1;
+    }
+
+    int a = state[0];
+    int b = state[1];
+    int c = state[2];
+    int d = state[3];
+    int e = state[4];
+    int f = state[5];
+    int g = state[6];
+    int h = state[7];
+
+    for (int t = 0; t < 64; t++) {
+      final int s1 =
+          Integer.rotateRight(e, 6) ^ Integer.rotateRight(e, 11) ^ Integer.rotateRight(e, 25);
+      final int ch = (e & f) ^ (~e & g);
+      final int t1 = h + s1 + ch + K[t] + w[t];
+      final int s0 =
+          Integer.rotateRight(a, 2) ^ Integer.rotateRight(a, 13) ^ Integer.rotateRight(a, 22);
+      final int maj = (a & b) ^ (a & c) ^ (b & c);
+      final int t2 = s0 + maj;
+      h = g;
+      g = f;
+      f = e;
+      e = d + t1;
+      d = c;
+      c = b;
+      b = a;
+      a = t1 + t2;
+    }
+
+    state[0] += a;
+    state[1] += b;
+    state[2] += c;
+    state[3] += d;
+    state[4] += e;
+    state[5] += f;
+    state[6] += g;
+    state[7] += h;
+  }
+}
@@ -0,0 +1,64 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.crypto;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.hyperledger.besu.crypto.Keccak256.DIGEST_LENGTH;
+import static org.hyperledger.besu.crypto.MessageDigestFactory.KECCAK256_ALG;
+
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+public class Keccak256Test {
+
+  @Test
+  public void matchesMessageDigestForAllBlockBoundaries() throws Exception {
+    final Random random = new Random(42);
+    // covers empty inputs, partial blocks and several full blocks
+    for (int length = 0; length < 600; length++) {
+      final byte[] input = new byte[length];
+      random.nextBytes(input);
+      final MessageDigest messageDigest = MessageDigestFactory.create(KECCAK256_ALG);
+
+      assertThat(Keccak256.hash(input)).isEqualTo(messageDigest.digest(input));
+    }
+  }
+
+  @Test
+  public void hashesRangeIntoOutputAtOffset() {
+    final byte[] input = new byte[300];
+    new Random(7).nextBytes(input);
+    final byte[] output = new byte[DIGEST_LENGTH + 8];
+
+    Keccak256.hash(input, 5, 200, output, 3);
+
+    final byte[] expected = Keccak256.hash(Arrays.copyOfRange(input, 5, 205));
+    assertThat(Arrays.copyOfRange(output, 3, 3 + DIGEST_LENGTH)).isEqualTo(expected);
+    assertThat(Arrays.copyOfRange(output, 0, 3)).containsOnly(0);
+    assertThat(Arrays.copyOfRange(output, 3 + DIGEST_LENGTH, output.length)).containsOnly(0);
+  }
+
+  @Test
+  public void rejectsOutOfBoundsRanges() {
+    assertThatThrownBy(() -> Keccak256.hash(new byte[10], 5, 6, new byte[DIGEST_LENGTH], 0))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+    assertThatThrownBy(() -> Keccak256.hash(new byte[10], 0, 10, new byte[DIGEST_LENGTH], 1))
+        .isInstanceOf(IndexOutOfBoundsException.class);
+  }
+}
@@ -82,4 +82,14 @@ public abstract class ApiConfiguration {
   public Long getMaxTraceFilterRange() {
     return 1000L;
   }
+
+  @Value.Default
+  public int getTraceFilterParallelism() {
+    return 4;
+  }
+
+  @Value.Default
+  public long getTraceCacheMaxTraces() {
+    return 0L;
+  }
 }
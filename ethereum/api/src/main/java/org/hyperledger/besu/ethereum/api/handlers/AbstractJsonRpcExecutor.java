@@ -28,13 +28,16 @@ import java.io.IOException;
 import java.util.Optional;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 import com.fasterxml.jackson.datatype.jdk8.Jdk8Module;
 import io.netty.handler.codec.http.HttpResponseStatus;
 import io.opentelemetry.api.trace.Tracer;
 import io.opentelemetry.context.Context;
+import io.vertx.core.http.HttpServerRequest;
 import io.vertx.core.http.HttpServerResponse;
 import io.vertx.core.json.Json;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.auth.User;
 import io.vertx.ext.web.RoutingContext;
 import org.slf4j.Logger;
@@ -84,8 +87,13 @@ public abstract class AbstractJsonRpcExecutor {
       final RoutingContext ctx) {
     final Optional<User> user = ContextKey.AUTHENTICATED_USER.extractFrom(ctx, Optional::empty);
     final Context spanContext = ctx.get(SPAN_CONTEXT);
+    final Optional<String> clientAddress =
+        Optional.ofNullable(ctx.request())
+            .map(HttpServerRequest::remoteAddress)
+            .map(SocketAddress::hostAddress);
     return jsonRpcExecutor.execute(
         user,
+        clientAddress,
         tracer,
         spanContext,
         () -> !ctx.response().closed(),
@@ -120,6 +128,19 @@ public abstract class AbstractJsonRpcExecutor {
     return jsonObjectMapper;
   }
 
+  /**
+   * Creates the writer serializing the responses of the JSON-RPC HTTP service, which pretty prints
+   * them when enabled.
+   *
+   * @param jsonRpcConfiguration The configuration for JSON RPC operations
+   * @return the writer of the responses
+   */
+  public static ObjectWriter createResponseWriter(final JsonRpcConfiguration jsonRpcConfiguration) {
+    return jsonRpcConfiguration.isPrettyJsonEnabled()
+        ? jsonObjectMapper.writerWithDefaultPrettyPrinter()
+        : jsonObjectMapper.writer();
+  }
+
   @FunctionalInterface
   protected interface ExceptionThrowingSupplier<T> {
     T get() throws Exception;
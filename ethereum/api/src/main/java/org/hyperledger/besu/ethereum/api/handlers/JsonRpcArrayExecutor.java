@@ -26,6 +26,12 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcRespon
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import com.fasterxml.jackson.core.JsonGenerator;
 import io.opentelemetry.api.trace.Tracer;
@@ -35,12 +41,27 @@ import io.vertx.core.json.JsonObject;
 import io.vertx.ext.web.RoutingContext;
 
 public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
+  private final Executor batchExecutor;
+
+  /**
+   * Creates a new JsonRpcArrayExecutor.
+   *
+   * @param jsonRpcExecutor The executor used to process the JSON RPC requests.
+   * @param tracer The tracer used for monitoring and debugging purposes.
+   * @param ctx The context of the routing, containing information about the HTTP request and
+   *     response.
+   * @param jsonRpcConfiguration The configuration for JSON RPC operations
+   * @param batchExecutor The executor, shared by all the batches, running the requests of a batch
+   *     concurrently with the thread serving it.
+   */
   public JsonRpcArrayExecutor(
       final JsonRpcExecutor jsonRpcExecutor,
       final Tracer tracer,
       final RoutingContext ctx,
-      final JsonRpcConfiguration jsonRpcConfiguration) {
+      final JsonRpcConfiguration jsonRpcConfiguration,
+      final Executor batchExecutor) {
     super(jsonRpcExecutor, tracer, ctx, jsonRpcConfiguration);
+    this.batchExecutor = batchExecutor;
   }
 
   /**
@@ -65,20 +86,28 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
   /**
    * Executes a batch of RPC requests.
    *
+   * <p>Up to the configured batch concurrency, the requests are executed concurrently by the
+   * current thread and by the batch executor. The responses are streamed in the order of the
+   * requests, each one as soon as it and the previous ones are ready.
+   *
    * @param rpcRequestBatch the batch of RPC requests.
    * @param streamer the JsonResponseStreamer to use.
    */
   public void executeRpcRequestBatch(
       final JsonArray rpcRequestBatch, final JsonResponseStreamer streamer) throws IOException {
+    final BatchExecution execution = new BatchExecution(rpcRequestBatch);
     try (JsonGenerator generator = getJsonObjectMapper().getFactory().createGenerator(streamer)) {
+      execution.start();
       generator.writeStartArray();
       for (int i = 0; i < rpcRequestBatch.size(); i++) {
-        JsonRpcResponse response = processMaybeRequest(rpcRequestBatch.getValue(i));
+        JsonRpcResponse response = execution.awaitResponse(i);
         if (response.getType() != JsonRpcResponseType.NONE) {
           generator.writeObject(response);
         }
       }
       generator.writeEndArray();
+    } finally {
+      execution.cancel();
     }
   }
 
@@ -116,6 +145,63 @@ public class JsonRpcArrayExecutor extends AbstractJsonRpcExecutor {
     return new JsonRpcErrorResponse(null, INVALID_REQUEST);
   }
 
+  /** The requests of a batch, executed in order by the threads taking part in the execution. */
+  private class BatchExecution {
+    private final JsonArray requests;
+    private final List<CompletableFuture<JsonRpcResponse>> responses;
+    private final AtomicInteger nextRequest = new AtomicInteger();
+
+    private BatchExecution(final JsonArray requests) {
+      this.requests = requests;
+      this.responses = new ArrayList<>(requests.size());
+      for (int i = 0; i < requests.size(); i++) {
+        responses.add(new CompletableFuture<>());
+      }
+    }
+
+    private void start() {
+      final int helpers =
+          Math.min(jsonRpcConfiguration.getMaxBatchConcurrency(), requests.size()) - 1;
+      for (int i = 0; i < helpers; i++) {
+        try {
+          batchExecutor.execute(this::executeRemainingRequests);
+        } catch (final RejectedExecutionException e) {
+          // the current thread executes the requests left
+          break;
+        }
+      }
+    }
+
+    private JsonRpcResponse awaitResponse(final int index) {
+      final CompletableFuture<JsonRpcResponse> response = responses.get(index);
+      // requests are taken in order, so the awaited one is either taken or the next one to take
+      while (!response.isDone() && executeNextRequest()) {}
+      return response.join();
+    }
+
+    private void cancel() {
+      nextRequest.set(requests.size());
+    }
+
+    private void executeRemainingRequests() {
+      while (executeNextRequest()) {}
+    }
+
+    private boolean executeNextRequest() {
+      final int index = nextRequest.getAndIncrement();
+      if (index >= requests.size()) {
+        return false;
+      }
+      final CompletableFuture<JsonRpcResponse> response = responses.get(index);
+      try {
+        response.complete(processMaybeRequest(requests.getValue(index)));
+      } catch (final RuntimeException e) {
+        response.completeExceptionally(e);
+      }
+      return true;
+    }
+  }
+
   @Override
   String getRpcMethodName(final RoutingContext ctx) {
     return "JsonArray";
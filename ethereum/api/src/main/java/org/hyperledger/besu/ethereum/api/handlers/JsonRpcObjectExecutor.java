@@ -91,11 +91,7 @@ public class JsonRpcObjectExecutor extends AbstractJsonRpcExecutor {
   }
 
   private ObjectWriter createObjectWriter() {
-    ObjectWriter writer =
-        jsonRpcConfiguration.isPrettyJsonEnabled()
-            ? getJsonObjectMapper().writerWithDefaultPrettyPrinter()
-            : getJsonObjectMapper().writer();
-    return writer
+    return createResponseWriter(jsonRpcConfiguration)
         .without(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
         .with(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
   }
@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 
@@ -37,6 +38,8 @@ public class JsonRpcConfiguration {
   public static final int DEFAULT_ENGINE_JSON_RPC_PORT = 8551;
   public static final int DEFAULT_MAX_ACTIVE_CONNECTIONS = 80;
   public static final int DEFAULT_MAX_BATCH_SIZE = 1024;
+  public static final int DEFAULT_MAX_BATCH_CONCURRENCY = 1;
+  public static final int DEFAULT_MAX_CONCURRENT_BATCH_REQUESTS = 16;
   public static final long DEFAULT_MAX_REQUEST_CONTENT_LENGTH = 5 * 1024 * 1024; // 5MB
   public static final boolean DEFAULT_PRETTY_JSON_ENABLED = false;
 
@@ -55,6 +58,12 @@ public class JsonRpcConfiguration {
   private long httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
   private int maxActiveConnections;
   private int maxBatchSize;
+  private int maxBatchConcurrency;
+  private int maxConcurrentBatchRequests;
+  private Map<String, Integer> methodGroupConcurrencyLimits = Collections.emptyMap();
+  private Map<String, Integer> methodConcurrencyLimits = Collections.emptyMap();
+  private long maxClientCostMillis;
+  private long responseCacheMaxBytes;
   private long maxRequestContentLength;
   private boolean prettyJsonEnabled;
 
@@ -67,6 +76,8 @@ public class JsonRpcConfiguration {
     config.httpTimeoutSec = TimeoutOptions.defaultOptions().getTimeoutSeconds();
     config.setMaxActiveConnections(DEFAULT_MAX_ACTIVE_CONNECTIONS);
     config.setMaxBatchSize(DEFAULT_MAX_BATCH_SIZE);
+    config.setMaxBatchConcurrency(DEFAULT_MAX_BATCH_CONCURRENCY);
+    config.setMaxConcurrentBatchRequests(DEFAULT_MAX_CONCURRENT_BATCH_REQUESTS);
     config.setMaxRequestContentLength(DEFAULT_MAX_REQUEST_CONTENT_LENGTH);
     config.setPrettyJsonEnabled(DEFAULT_PRETTY_JSON_ENABLED);
     return config;
@@ -223,6 +234,12 @@ public class JsonRpcConfiguration {
         .add("httpTimeoutSec", httpTimeoutSec)
         .add("maxActiveConnections", maxActiveConnections)
         .add("maxBatchSize", maxBatchSize)
+        .add("maxBatchConcurrency", maxBatchConcurrency)
+        .add("maxConcurrentBatchRequests", maxConcurrentBatchRequests)
+        .add("methodGroupConcurrencyLimits", methodGroupConcurrencyLimits)
+        .add("methodConcurrencyLimits", methodConcurrencyLimits)
+        .add("maxClientCostMillis", maxClientCostMillis)
+        .add("responseCacheMaxBytes", responseCacheMaxBytes)
         .toString();
   }
 
@@ -244,7 +261,13 @@ public class JsonRpcConfiguration {
         && Objects.equals(hostsAllowlist, that.hostsAllowlist)
         && Objects.equals(authenticationCredentialsFile, that.authenticationCredentialsFile)
         && Objects.equals(authenticationPublicKeyFile, that.authenticationPublicKeyFile)
-        && maxBatchSize == that.maxBatchSize;
+        && maxBatchSize == that.maxBatchSize
+        && maxBatchConcurrency == that.maxBatchConcurrency
+        && maxConcurrentBatchRequests == that.maxConcurrentBatchRequests
+        && Objects.equals(methodGroupConcurrencyLimits, that.methodGroupConcurrencyLimits)
+        && Objects.equals(methodConcurrencyLimits, that.methodConcurrencyLimits)
+        && maxClientCostMillis == that.maxClientCostMillis
+        && responseCacheMaxBytes == that.responseCacheMaxBytes;
   }
 
   @Override
@@ -259,7 +282,13 @@ public class JsonRpcConfiguration {
         authenticationEnabled,
         authenticationCredentialsFile,
         authenticationPublicKeyFile,
-        maxBatchSize);
+        maxBatchSize,
+        maxBatchConcurrency,
+        maxConcurrentBatchRequests,
+        methodGroupConcurrencyLimits,
+        methodConcurrencyLimits,
+        maxClientCostMillis,
+        responseCacheMaxBytes);
   }
 
   public int getMaxActiveConnections() {
@@ -278,6 +307,90 @@ public class JsonRpcConfiguration {
     this.maxBatchSize = maxBatchSize;
   }
 
+  /**
+   * Returns the maximum number of requests of a batch that are executed at the same time, 1 to
+   * execute them one after another.
+   *
+   * @return the maximum number of requests of a batch executed concurrently
+   */
+  public int getMaxBatchConcurrency() {
+    return maxBatchConcurrency;
+  }
+
+  public void setMaxBatchConcurrency(final int maxBatchConcurrency) {
+    this.maxBatchConcurrency = maxBatchConcurrency;
+  }
+
+  /**
+   * Returns the maximum number of requests, from all the batches being executed, that are executed
+   * at the same time on top of the threads serving the batches.
+   *
+   * @return the maximum number of batch requests executed concurrently
+   */
+  public int getMaxConcurrentBatchRequests() {
+    return maxConcurrentBatchRequests;
+  }
+
+  public void setMaxConcurrentBatchRequests(final int maxConcurrentBatchRequests) {
+    this.maxConcurrentBatchRequests = maxConcurrentBatchRequests;
+  }
+
+  /**
+   * Returns the maximum number of concurrent executions of the methods of each method group, like
+   * {@code eth} or {@code debug}. Methods of the groups that are not present are not limited.
+   *
+   * @return the concurrency limits per method group, empty when no group is limited
+   */
+  public Map<String, Integer> getMethodGroupConcurrencyLimits() {
+    return methodGroupConcurrencyLimits;
+  }
+
+  public void setMethodGroupConcurrencyLimits(
+      final Map<String, Integer> methodGroupConcurrencyLimits) {
+    this.methodGroupConcurrencyLimits = methodGroupConcurrencyLimits;
+  }
+
+  /**
+   * Returns the maximum number of concurrent executions of each method, requests exceeding it being
+   * rejected instead of executed. Methods that are not present are not limited.
+   *
+   * @return the concurrency limits per method, empty when no method is limited
+   */
+  public Map<String, Integer> getMethodConcurrencyLimits() {
+    return methodConcurrencyLimits;
+  }
+
+  public void setMethodConcurrencyLimits(final Map<String, Integer> methodConcurrencyLimits) {
+    this.methodConcurrencyLimits = methodConcurrencyLimits;
+  }
+
+  /**
+   * Returns the maximum estimated cost, in milliseconds of CPU time, of the requests a client runs
+   * concurrently, requests exceeding it being rejected instead of executed.
+   *
+   * @return the cost budget of a client, 0 when clients are not limited
+   */
+  public long getMaxClientCostMillis() {
+    return maxClientCostMillis;
+  }
+
+  public void setMaxClientCostMillis(final long maxClientCostMillis) {
+    this.maxClientCostMillis = maxClientCostMillis;
+  }
+
+  /**
+   * Returns the maximum size, in bytes, of the cached results of the queries of finalized blocks.
+   *
+   * @return the maximum size of the response cache, 0 when responses are not cached
+   */
+  public long getResponseCacheMaxBytes() {
+    return responseCacheMaxBytes;
+  }
+
+  public void setResponseCacheMaxBytes(final long responseCacheMaxBytes) {
+    this.responseCacheMaxBytes = responseCacheMaxBytes;
+  }
+
   public long getMaxRequestContentLength() {
     return maxRequestContentLength;
   }
@@ -21,9 +21,11 @@ import org.hyperledger.besu.ethereum.api.handlers.HandlerFactory;
 import org.hyperledger.besu.ethereum.api.handlers.TimeoutOptions;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.AuthenticationService;
 import org.hyperledger.besu.ethereum.api.jsonrpc.authentication.DefaultAuthenticationService;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AdmissionControlJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.AuthenticatedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.BaseJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.TimedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.execution.TracedJsonRpcProcessor;
 import org.hyperledger.besu.ethereum.api.jsonrpc.health.HealthService;
@@ -340,16 +342,28 @@ public class JsonRpcHttpService {
         .handler(HandlerFactory.jsonRpcParser())
         .handler(
             HandlerFactory.timeout(new TimeoutOptions(config.getHttpTimeoutSec()), rpcMethods));
+    final JsonRpcProcessor timedProcessor =
+        new TimedJsonRpcProcessor(
+            new TracedJsonRpcProcessor(new BaseJsonRpcProcessor(), metricsSystem), requestTimer);
+    final JsonRpcProcessor admittedProcessor =
+        AdmissionControlJsonRpcProcessor.isEnabled(
+                config.getMethodGroupConcurrencyLimits(),
+                config.getMethodConcurrencyLimits(),
+                config.getMaxClientCostMillis())
+            ? new AdmissionControlJsonRpcProcessor(
+                timedProcessor,
+                config.getMethodGroupConcurrencyLimits(),
+                config.getMethodConcurrencyLimits(),
+                config.getMaxClientCostMillis(),
+                metricsSystem,
+                "http")
+            : timedProcessor;
     if (authenticationService.isPresent()) {
       mainRoute.blockingHandler(
           HandlerFactory.jsonRpcExecutor(
               new JsonRpcExecutor(
                   new AuthenticatedJsonRpcProcessor(
-                      new TimedJsonRpcProcessor(
-                          new TracedJsonRpcProcessor(new BaseJsonRpcProcessor(), metricsSystem),
-                          requestTimer),
-                      authenticationService.get(),
-                      config.getNoAuthRpcApis()),
+                      admittedProcessor, authenticationService.get(), config.getNoAuthRpcApis()),
                   rpcMethods),
               tracer,
               config),
@@ -357,13 +371,7 @@ public class JsonRpcHttpService {
     } else {
       mainRoute.blockingHandler(
           HandlerFactory.jsonRpcExecutor(
-              new JsonRpcExecutor(
-                  new TimedJsonRpcProcessor(
-                      new TracedJsonRpcProcessor(new BaseJsonRpcProcessor(), metricsSystem),
-                      requestTimer),
-                  rpcMethods),
-              tracer,
-              config),
+              new JsonRpcExecutor(admittedProcessor, rpcMethods), tracer, config),
           false);
     }
 
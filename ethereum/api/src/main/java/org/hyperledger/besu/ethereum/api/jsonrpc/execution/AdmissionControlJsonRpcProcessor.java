@@ -0,0 +1,313 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestId;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.ThreadCpuTime;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.opentelemetry.api.trace.Span;
+import io.opentelemetry.api.trace.StatusCode;
+
+/**
+ * Admits requests according to the concurrency of their method and method group and to the cost
+ * of their method, rejecting them right away when they exceed a limit, instead of executing them or
+ * holding a worker thread while they wait.
+ *
+ * <p>A request is rejected when its method group, like {@code debug} or {@code trace}, or its
+ * method already runs as many times as its concurrency limit allows, or when the estimated cost of
+ * the requests its client is running would exceed the budget of a client. A client, identified by
+ * its user name or else by its address, can always run one request, whatever its cost.
+ *
+ * <p>The cost of a method is the moving average of the CPU time, or of the elapsed time when the
+ * JVM does not measure the CPU time of threads, taken by its executions, including the CPU time of
+ * the tasks a request runs on other threads.
+ */
+public class AdmissionControlJsonRpcProcessor implements JsonRpcProcessor {
+
+  private static final double COST_SMOOTHING_FACTOR = 0.2;
+  private static final String USERNAME = "username";
+
+  private final JsonRpcProcessor rpcProcessor;
+  private final Map<String, MethodGroup> methodGroups = new HashMap<>();
+  private final Map<String, Integer> methodConcurrencyLimits;
+  private final long maxClientCostNanos;
+  private final boolean cpuTimeMeasured = ThreadCpuTime.isMeasured();
+  private final Map<String, MethodCost> methodCosts = new ConcurrentHashMap<>();
+  private final Map<String, ClientBudget> clientBudgets = new ConcurrentHashMap<>();
+  private final LabelledMetric<Counter> rejectedRequestsCounter;
+  private final LabelledGauge averageCostGauge;
+
+  /**
+   * Creates a processor admitting requests according to their concurrency and cost.
+   *
+   * @param rpcProcessor the processor executing the admitted requests
+   * @param methodGroupConcurrencyLimits the maximum number of concurrent executions per method
+   *     group, groups that are not present are not limited
+   * @param methodConcurrencyLimits the maximum number of concurrent executions per method, methods
+   *     that are not present are not limited
+   * @param maxClientCostMillis the maximum estimated cost, in milliseconds, of the requests run
+   *     concurrently by a client, 0 to not limit clients
+   * @param metricsSystem the metrics system exporting the costs and the rejected requests
+   * @param serviceName the name of the service, like {@code http} or {@code ws}, prefixing the
+   *     names of the metrics, so each service registers its own
+   */
+  public AdmissionControlJsonRpcProcessor(
+      final JsonRpcProcessor rpcProcessor,
+      final Map<String, Integer> methodGroupConcurrencyLimits,
+      final Map<String, Integer> methodConcurrencyLimits,
+      final long maxClientCostMillis,
+      final MetricsSystem metricsSystem,
+      final String serviceName) {
+    this.rpcProcessor = rpcProcessor;
+    this.methodConcurrencyLimits = methodConcurrencyLimits;
+    this.maxClientCostNanos = TimeUnit.MILLISECONDS.toNanos(maxClientCostMillis);
+    this.rejectedRequestsCounter =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.RPC,
+            serviceName + "_admission_rejections_count",
+            "Number of requests rejected by the admission control per RPC method and reason",
+            "rpcMethod",
+            "reason");
+    this.averageCostGauge =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.RPC,
+            serviceName + "_method_average_cost_microseconds",
+            "Moving average of the CPU time taken by the executions of an RPC method",
+            "rpcMethod");
+
+    final LabelledGauge runningGauge =
+        metricsSystem.createLabelledGauge(
+            BesuMetricCategory.RPC,
+            serviceName + "_requests_running",
+            "Number of requests running under the concurrency limit of their method group",
+            "group");
+    methodGroupConcurrencyLimits.forEach(
+        (group, limit) -> {
+          checkArgument(limit > 0, "Concurrency limit of %s must be positive: %s", group, limit);
+          final MethodGroup methodGroup = new MethodGroup(limit);
+          methodGroups.put(group, methodGroup);
+          runningGauge.labels(methodGroup.running::get, group);
+        });
+  }
+
+  /**
+   * Returns whether any limit is configured, as there is no need to admit requests otherwise.
+   *
+   * @param methodGroupConcurrencyLimits the concurrency limits per method group
+   * @param methodConcurrencyLimits the concurrency limits per method
+   * @param maxClientCostMillis the cost budget of a client
+   * @return true when at least one limit is configured
+   */
+  public static boolean isEnabled(
+      final Map<String, Integer> methodGroupConcurrencyLimits,
+      final Map<String, Integer> methodConcurrencyLimits,
+      final long maxClientCostMillis) {
+    return !methodGroupConcurrencyLimits.isEmpty()
+        || !methodConcurrencyLimits.isEmpty()
+        || maxClientCostMillis > 0;
+  }
+
+  @Override
+  public JsonRpcResponse process(
+      final JsonRpcRequestId id,
+      final JsonRpcMethod method,
+      final Span metricSpan,
+      final JsonRpcRequestContext request) {
+    final String methodName = method.getName();
+    final MethodGroup methodGroup = methodGroups.get(groupOf(methodName));
+    if (methodGroup != null && methodGroup.running.incrementAndGet() > methodGroup.limit) {
+      methodGroup.running.decrementAndGet();
+      return reject(id, methodName, metricSpan, "method_group_concurrency");
+    }
+    try {
+      return processInGroup(id, method, metricSpan, request);
+    } finally {
+      if (methodGroup != null) {
+        methodGroup.running.decrementAndGet();
+      }
+    }
+  }
+
+  private JsonRpcResponse processInGroup(
+      final JsonRpcRequestId id,
+      final JsonRpcMethod method,
+      final Span metricSpan,
+      final JsonRpcRequestContext request) {
+    final String methodName = method.getName();
+    final MethodCost methodCost = methodCosts.computeIfAbsent(methodName, this::createMethodCost);
+    final int concurrencyLimit =
+        methodConcurrencyLimits.getOrDefault(methodName, Integer.MAX_VALUE);
+    if (methodCost.running.incrementAndGet() > concurrencyLimit) {
+      methodCost.running.decrementAndGet();
+      return reject(id, methodName, metricSpan, "method_concurrency");
+    }
+    try {
+      final Optional<String> client = clientOf(request);
+      final long estimatedCost = methodCost.getAverageNanos();
+      if (client.isPresent() && !reserveClientBudget(client.get(), estimatedCost)) {
+        return reject(id, methodName, metricSpan, "client_budget");
+      }
+      try {
+        final long start = currentCostNanos();
+        try {
+          return rpcProcessor.process(id, method, metricSpan, request);
+        } finally {
+          methodCost.record(currentCostNanos() - start + request.getHelperCpuTimeNanos());
+        }
+      } finally {
+        client.ifPresent(c -> releaseClientBudget(c, estimatedCost));
+      }
+    } finally {
+      methodCost.running.decrementAndGet();
+    }
+  }
+
+  @VisibleForTesting
+  long getAverageCostNanos(final String methodName) {
+    final MethodCost methodCost = methodCosts.get(methodName);
+    return methodCost == null ? 0 : methodCost.getAverageNanos();
+  }
+
+  private MethodCost createMethodCost(final String methodName) {
+    final MethodCost methodCost = new MethodCost();
+    averageCostGauge.labels(
+        () -> TimeUnit.NANOSECONDS.toMicros(methodCost.getAverageNanos()), methodName);
+    return methodCost;
+  }
+
+  private boolean reserveClientBudget(final String client, final long cost) {
+    if (maxClientCostNanos == 0) {
+      return true;
+    }
+    final AtomicBoolean reserved = new AtomicBoolean();
+    clientBudgets.compute(
+        client,
+        (key, budget) -> {
+          final ClientBudget clientBudget = budget == null ? new ClientBudget() : budget;
+          reserved.set(clientBudget.tryReserve(cost, maxClientCostNanos));
+          return clientBudget.isIdle() ? null : clientBudget;
+        });
+    return reserved.get();
+  }
+
+  private void releaseClientBudget(final String client, final long cost) {
+    if (maxClientCostNanos == 0) {
+      return;
+    }
+    clientBudgets.computeIfPresent(
+        client,
+        (key, clientBudget) -> {
+          clientBudget.release(cost);
+          return clientBudget.isIdle() ? null : clientBudget;
+        });
+  }
+
+  private JsonRpcResponse reject(
+      final JsonRpcRequestId id,
+      final String methodName,
+      final Span metricSpan,
+      final String reason) {
+    rejectedRequestsCounter.labels(methodName, reason).inc();
+    metricSpan.setStatus(StatusCode.ERROR, "Request limit exceeded");
+    metricSpan.end();
+    return new JsonRpcErrorResponse(id, RpcErrorType.REQUEST_LIMIT_EXCEEDED);
+  }
+
+  private long currentCostNanos() {
+    return cpuTimeMeasured ? ThreadCpuTime.currentThreadNanos() : System.nanoTime();
+  }
+
+  private static String groupOf(final String methodName) {
+    final int separator = methodName.indexOf('_');
+    return separator < 0 ? methodName : methodName.substring(0, separator);
+  }
+
+  private static Optional<String> clientOf(final JsonRpcRequestContext request) {
+    return request
+        .getUser()
+        .map(user -> user.principal().getString(USERNAME))
+        .or(request::getClientAddress);
+  }
+
+  private static class MethodGroup {
+    private final int limit;
+    private final AtomicInteger running = new AtomicInteger();
+
+    private MethodGroup(final int limit) {
+      this.limit = limit;
+    }
+  }
+
+  private static class MethodCost {
+    private final AtomicInteger running = new AtomicInteger();
+    private double averageNanos = -1;
+
+    private synchronized void record(final long costNanos) {
+      averageNanos =
+          averageNanos < 0
+              ? costNanos
+              : averageNanos + COST_SMOOTHING_FACTOR * (costNanos - averageNanos);
+    }
+
+    private synchronized long getAverageNanos() {
+      return averageNanos < 0 ? 0 : Math.round(averageNanos);
+    }
+  }
+
+  // only accessed while the budget is being computed in the map, one client at a time
+  private static class ClientBudget {
+    private int requests;
+    private long costNanos;
+
+    private boolean tryReserve(final long cost, final long maxCostNanos) {
+      if (requests > 0 && costNanos + cost > maxCostNanos) {
+        return false;
+      }
+      requests++;
+      costNanos += cost;
+      return true;
+    }
+
+    private void release(final long cost) {
+      requests--;
+      costNanos -= cost;
+    }
+
+    private boolean isIdle() {
+      return requests == 0;
+    }
+  }
+}
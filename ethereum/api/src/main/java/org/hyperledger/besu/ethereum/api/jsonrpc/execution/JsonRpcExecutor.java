@@ -62,6 +62,24 @@ public class JsonRpcExecutor {
       final Supplier<Boolean> alive,
       final JsonObject jsonRpcRequest,
       final Function<JsonObject, JsonRpcRequest> requestBodyProvider) {
+    return execute(
+        optionalUser,
+        Optional.empty(),
+        tracer,
+        spanContext,
+        alive,
+        jsonRpcRequest,
+        requestBodyProvider);
+  }
+
+  public JsonRpcResponse execute(
+      final Optional<User> optionalUser,
+      final Optional<String> clientAddress,
+      final Tracer tracer,
+      final Context spanContext,
+      final Supplier<Boolean> alive,
+      final JsonObject jsonRpcRequest,
+      final Function<JsonObject, JsonRpcRequest> requestBodyProvider) {
     try {
       final JsonRpcRequest requestBody = requestBodyProvider.apply(jsonRpcRequest);
       final JsonRpcRequestId id = new JsonRpcRequestId(requestBody.getId());
@@ -90,7 +108,10 @@ public class JsonRpcExecutor {
       final JsonRpcMethod method = rpcMethods.get(requestBody.getMethod());
 
       return rpcProcessor.process(
-          id, method, span, new JsonRpcRequestContext(requestBody, optionalUser, alive));
+          id,
+          method,
+          span,
+          new JsonRpcRequestContext(requestBody, optionalUser, alive, clientAddress));
     } catch (final IllegalArgumentException e) {
       try {
         final Integer id = jsonRpcRequest.getInteger("id", null);
@@ -17,6 +17,8 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal;
 import java.util.List;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
 import java.util.function.Supplier;
 
 import io.vertx.ext.auth.User;
@@ -26,6 +28,8 @@ public class JsonRpcRequestContext {
   private final JsonRpcRequest jsonRpcRequest;
   private final Optional<User> user;
   private final Supplier<Boolean> alive;
+  private final Optional<String> clientAddress;
+  private final AtomicLong helperCpuTimeNanos = new AtomicLong();
 
   public JsonRpcRequestContext(final JsonRpcRequest jsonRpcRequest) {
     this(jsonRpcRequest, () -> true);
@@ -48,9 +52,18 @@ public class JsonRpcRequestContext {
       final JsonRpcRequest jsonRpcRequest,
       final Optional<User> user,
       final Supplier<Boolean> alive) {
+    this(jsonRpcRequest, user, alive, Optional.empty());
+  }
+
+  public JsonRpcRequestContext(
+      final JsonRpcRequest jsonRpcRequest,
+      final Optional<User> user,
+      final Supplier<Boolean> alive,
+      final Optional<String> clientAddress) {
     this.jsonRpcRequest = jsonRpcRequest;
     this.user = user;
     this.alive = alive;
+    this.clientAddress = clientAddress;
   }
 
   public JsonRpcRequest getRequest() {
@@ -61,6 +74,72 @@ public class JsonRpcRequestContext {
     return user;
   }
 
+  /**
+   * Returns the address of the client that sent the request, when the transport provides it.
+   *
+   * @return the host address of the client
+   */
+  public Optional<String> getClientAddress() {
+    return clientAddress;
+  }
+
+  /**
+   * Returns the CPU time spent by the tasks the request ran on other threads than the one
+   * processing it, as recorded by the tasks wrapped with {@link #recordingCpuTime(Supplier)}.
+   *
+   * @return the CPU time of the helper tasks in nanoseconds, 0 when it is not measured
+   */
+  public long getHelperCpuTimeNanos() {
+    return helperCpuTimeNanos.get();
+  }
+
+  /**
+   * Wraps a task the request runs on another thread, so its CPU time is accounted to the request.
+   *
+   * @param task the task run on behalf of the request
+   * @param <T> the type of the result of the task
+   * @return the task recording its CPU time
+   */
+  public <T> Supplier<T> recordingCpuTime(final Supplier<T> task) {
+    return () -> {
+      final long start = startCpuTime();
+      try {
+        return task.get();
+      } finally {
+        recordCpuTime(start);
+      }
+    };
+  }
+
+  /**
+   * Wraps a step the request runs on other threads, so its CPU time is accounted to the request.
+   *
+   * @param step the step run on behalf of the request
+   * @param <I> the type of the input of the step
+   * @param <O> the type of the output of the step
+   * @return the step recording its CPU time
+   */
+  public <I, O> Function<I, O> recordingCpuTime(final Function<I, O> step) {
+    return input -> {
+      final long start = startCpuTime();
+      try {
+        return step.apply(input);
+      } finally {
+        recordCpuTime(start);
+      }
+    };
+  }
+
+  private static long startCpuTime() {
+    return ThreadCpuTime.isMeasured() ? ThreadCpuTime.currentThreadNanos() : -1;
+  }
+
+  private void recordCpuTime(final long start) {
+    if (start >= 0) {
+      helperCpuTimeNanos.addAndGet(ThreadCpuTime.currentThreadNanos() - start);
+    }
+  }
+
   public <T> T getRequiredParameter(final int index, final Class<T> paramClass) {
     return jsonRpcRequest.getRequiredParameter(index, paramClass);
   }
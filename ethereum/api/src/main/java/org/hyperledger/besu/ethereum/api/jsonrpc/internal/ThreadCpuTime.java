@@ -0,0 +1,45 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+/** Reads the CPU time of the current thread, when the JVM measures it. */
+public final class ThreadCpuTime {
+
+  private static final ThreadMXBean THREAD_MX_BEAN = ManagementFactory.getThreadMXBean();
+
+  private ThreadCpuTime() {}
+
+  /**
+   * Returns whether the JVM measures the CPU time of the current thread.
+   *
+   * @return true when the CPU time of the current thread is measured
+   */
+  public static boolean isMeasured() {
+    return THREAD_MX_BEAN.isCurrentThreadCpuTimeSupported()
+        && THREAD_MX_BEAN.isThreadCpuTimeEnabled();
+  }
+
+  /**
+   * Returns the CPU time of the current thread.
+   *
+   * @return the CPU time of the current thread in nanoseconds, only meaningful when measured
+   */
+  public static long currentThreadNanos() {
+    return THREAD_MX_BEAN.getCurrentThreadCpuTime();
+  }
+}
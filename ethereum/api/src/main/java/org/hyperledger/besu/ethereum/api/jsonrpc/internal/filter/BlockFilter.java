@@ -16,13 +16,14 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import org.hyperledger.besu.datatypes.Hash;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /** Tracks new blocks being added to the blockchain. */
 class BlockFilter extends Filter {
 
-  private final List<Hash> blockHashes = new ArrayList<>();
+  private final Queue<Hash> blockHashes = new ConcurrentLinkedQueue<>();
 
   BlockFilter(final String id) {
     super(id);
@@ -32,11 +33,13 @@ class BlockFilter extends Filter {
     blockHashes.add(hash);
   }
 
-  List<Hash> blockHashes() {
-    return blockHashes;
-  }
-
-  void clearBlockHashes() {
-    blockHashes.clear();
+  /**
+   * Removes and returns the block hashes added since the last call, without blocking the thread
+   * adding new ones.
+   *
+   * @return the block hashes, in the order they were added
+   */
+  List<Hash> drainBlockHashes() {
+    return drain(blockHashes);
   }
 }
@@ -16,6 +16,9 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import java.time.Duration;
 import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
 
 import com.google.common.annotations.VisibleForTesting;
 
@@ -24,7 +27,7 @@ abstract class Filter {
   private static final Duration DEFAULT_EXPIRE_DURATION = Duration.ofMinutes(10);
 
   private final String id;
-  private Instant expireTime;
+  private volatile Instant expireTime;
 
   Filter(final String id) {
     this.id = id;
@@ -43,6 +46,15 @@ abstract class Filter {
     return Instant.now().isAfter(expireTime);
   }
 
+  static <T> List<T> drain(final Queue<T> queue) {
+    final List<T> drained = new ArrayList<>();
+    T element;
+    while ((element = queue.poll()) != null) {
+      drained.add(element);
+    }
+    return drained;
+  }
+
   @VisibleForTesting
   void setExpireTime(final Instant expireTime) {
     this.expireTime = expireTime;
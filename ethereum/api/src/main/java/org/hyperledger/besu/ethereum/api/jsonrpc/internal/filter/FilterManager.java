@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 import static java.util.Collections.emptyList;
-import static java.util.stream.Collectors.toUnmodifiableList;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
@@ -160,48 +159,44 @@ public class FilterManager extends AbstractVerticle implements PrivateTransactio
 
   public void recordBlockEvent(final BlockAddedEvent event) {
     final Hash blockHash = event.getBlock().getHash();
-    final Collection<BlockFilter> blockFilters =
-        filterRepository.getFiltersOfType(BlockFilter.class);
-    blockFilters.forEach(
-        filter -> {
-          synchronized (filter) {
-            filter.addBlockHash(blockHash);
-          }
-        });
+    filterRepository
+        .getFiltersOfType(BlockFilter.class)
+        .forEach(filter -> filter.addBlockHash(blockHash));
 
     removalEvents.stream().forEach(removalEvent -> processRemovalEvent(removalEvent));
     removalEvents.clear();
 
-    final List<LogWithMetadata> logsWithMetadata = event.getLogsWithMetadata();
-    filterRepository.getFiltersOfType(LogFilter.class).stream()
-        .filter(
-            // Only keep filters where the "to" block could include the block in the event
-            filter -> {
-              final Optional<Long> maybeToBlockNumber = filter.getToBlock().getNumber();
-              return maybeToBlockNumber.isEmpty()
-                  || maybeToBlockNumber.get() >= event.getBlock().getHeader().getNumber();
-            })
+    final long blockNumber = event.getBlock().getHeader().getNumber();
+    // We need to use privacy queries for private log filters
+    filterRepository.getFiltersOfType(PrivateLogFilter.class).stream()
+        .filter(filter -> couldIncludeBlock(filter, blockNumber))
+        .forEach(
+            filter ->
+                filter.addLogs(
+                    privacyQueries
+                        .map(
+                            pq ->
+                                pq.matchingLogs(
+                                    filter.getPrivacyGroupId(), blockHash, filter.getLogsQuery()))
+                        .orElse(emptyList())));
+
+    // but regular log filters are matched in a single pass over the logs of the event
+    filterRepository
+        .getMatchingLogFilters(event.getLogsWithMetadata())
         .forEach(
-            filter -> {
-              final LogsQuery logsQuery = filter.getLogsQuery();
-              filter.addLogs(
-                  // We need to use privacy queries for private log filters but for regular
-                  // log filters we already have all the info in the event
-                  filter instanceof PrivateLogFilter
-                      ? privacyQueries
-                          .map(
-                              pq ->
-                                  pq.matchingLogs(
-                                      ((PrivateLogFilter) filter).getPrivacyGroupId(),
-                                      blockHash,
-                                      logsQuery))
-                          .orElse(emptyList())
-                      : logsWithMetadata.stream()
-                          .filter(logsQuery::matches)
-                          .collect(toUnmodifiableList()));
+            (filter, logs) -> {
+              if (couldIncludeBlock(filter, blockNumber)) {
+                filter.addLogs(logs);
+              }
             });
   }
 
+  // Only keep filters where the "to" block could include the block in the event
+  private static boolean couldIncludeBlock(final LogFilter filter, final long blockNumber) {
+    final Optional<Long> maybeToBlockNumber = filter.getToBlock().getNumber();
+    return maybeToBlockNumber.isEmpty() || maybeToBlockNumber.get() >= blockNumber;
+  }
+
   @Override
   public void onPrivateTransactionProcessed(final PrivateTransactionEvent event) {
     // the list will be processed at the end of the block
@@ -216,12 +211,7 @@ public class FilterManager extends AbstractVerticle implements PrivateTransactio
       return;
     }
 
-    pendingTransactionFilters.forEach(
-        filter -> {
-          synchronized (filter) {
-            filter.addTransactionHash(transaction.getHash());
-          }
-        });
+    pendingTransactionFilters.forEach(filter -> filter.addTransactionHash(transaction.getHash()));
   }
 
   @VisibleForTesting
@@ -250,12 +240,8 @@ public class FilterManager extends AbstractVerticle implements PrivateTransactio
       return null;
     }
 
-    final List<Hash> hashes;
-    synchronized (filter) {
-      hashes = new ArrayList<>(filter.blockHashes());
-      filter.clearBlockHashes();
-      filter.resetExpireTime();
-    }
+    final List<Hash> hashes = filter.drainBlockHashes();
+    filter.resetExpireTime();
     return hashes;
   }
 
@@ -272,12 +258,8 @@ public class FilterManager extends AbstractVerticle implements PrivateTransactio
       return null;
     }
 
-    final List<Hash> hashes;
-    synchronized (filter) {
-      hashes = new ArrayList<>(filter.transactionHashes());
-      filter.clearTransactionHashes();
-      filter.resetExpireTime();
-    }
+    final List<Hash> hashes = filter.drainTransactionHashes();
+    filter.resetExpireTime();
     return hashes;
   }
 
@@ -287,12 +269,8 @@ public class FilterManager extends AbstractVerticle implements PrivateTransactio
       return null;
     }
 
-    final List<LogWithMetadata> logs;
-    synchronized (filter) {
-      logs = new ArrayList<>(filter.logs());
-      filter.clearLogs();
-      filter.resetExpireTime();
-    }
+    final List<LogWithMetadata> logs = filter.drainLogs();
+    filter.resetExpireTime();
     return logs;
   }
 
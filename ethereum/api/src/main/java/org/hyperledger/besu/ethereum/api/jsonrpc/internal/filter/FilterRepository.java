@@ -14,17 +14,25 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
+import org.hyperledger.besu.ethereum.core.LogWithMetadata;
+
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
-import java.util.stream.Stream;
 
 public class FilterRepository {
 
   private final Map<String, Filter> filters = new ConcurrentHashMap<>();
+  // filters by class, so the filters of a type are found without going through all the filters
+  private final Map<Class<? extends Filter>, Map<String, Filter>> filtersByClass =
+      new ConcurrentHashMap<>();
+  // private log filters are matched by the privacy queries, not against the logs of the block
+  private final LogsQueryIndex<LogFilter> logFilterIndex = new LogsQueryIndex<>();
 
   public FilterRepository() {}
 
@@ -33,8 +41,10 @@ public class FilterRepository {
   }
 
   <T extends Filter> Collection<T> getFiltersOfType(final Class<T> filterClass) {
-    return filters.values().stream()
-        .flatMap(f -> getIfTypeMatches(f, filterClass).map(Stream::of).orElseGet(Stream::empty))
+    return filtersByClass.entrySet().stream()
+        .filter(filtersOfClass -> filterClass.isAssignableFrom(filtersOfClass.getKey()))
+        .flatMap(filtersOfClass -> filtersOfClass.getValue().values().stream())
+        .map(filterClass::cast)
         .collect(Collectors.toList());
   }
 
@@ -57,6 +67,16 @@ public class FilterRepository {
     return Optional.of((T) filter);
   }
 
+  /**
+   * Returns the logs matched by each installed log filter, except the private ones.
+   *
+   * @param logs the logs of a block
+   * @return the matching logs of the log filters matching at least one log
+   */
+  Map<LogFilter, List<LogWithMetadata>> getMatchingLogFilters(final List<LogWithMetadata> logs) {
+    return logFilterIndex.matchingLogs(logs);
+  }
+
   boolean exists(final String id) {
     return filters.containsKey(id);
   }
@@ -66,19 +86,36 @@ public class FilterRepository {
       throw new IllegalArgumentException("Can't save null filter");
     }
 
-    if (exists(filter.getId())) {
+    if (filters.putIfAbsent(filter.getId(), filter) != null) {
       throw new IllegalArgumentException(
           String.format("Filter with id %s already exists", filter.getId()));
     }
 
-    filters.put(filter.getId(), filter);
+    filtersByClass
+        .computeIfAbsent(filter.getClass(), filterClass -> new ConcurrentHashMap<>())
+        .put(filter.getId(), filter);
+    if (filter instanceof LogFilter logFilter && !(filter instanceof PrivateLogFilter)) {
+      logFilterIndex.add(logFilter, logFilter.getLogsQuery());
+    }
   }
 
   void delete(final String id) {
-    filters.remove(id);
+    final Filter filter = filters.remove(id);
+    if (filter == null) {
+      return;
+    }
+    final Map<String, Filter> filtersOfClass = filtersByClass.get(filter.getClass());
+    if (filtersOfClass != null) {
+      filtersOfClass.remove(id);
+    }
+    if (filter instanceof LogFilter logFilter) {
+      logFilterIndex.remove(logFilter);
+    }
   }
 
   void deleteAll() {
     filters.clear();
+    filtersByClass.clear();
+    logFilterIndex.clear();
   }
 }
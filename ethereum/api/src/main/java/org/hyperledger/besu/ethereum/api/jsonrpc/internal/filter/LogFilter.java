@@ -18,8 +18,9 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParame
 import org.hyperledger.besu.ethereum.api.query.LogsQuery;
 import org.hyperledger.besu.ethereum.core.LogWithMetadata;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 class LogFilter extends Filter {
 
@@ -27,7 +28,7 @@ class LogFilter extends Filter {
   private final BlockParameter toBlock;
   private final LogsQuery logsQuery;
 
-  private final List<LogWithMetadata> logs = new ArrayList<>();
+  private final Queue<LogWithMetadata> logs = new ConcurrentLinkedQueue<>();
 
   LogFilter(
       final String id,
@@ -56,11 +57,13 @@ class LogFilter extends Filter {
     this.logs.addAll(logs);
   }
 
-  List<LogWithMetadata> logs() {
-    return logs;
-  }
-
-  void clearLogs() {
-    logs.clear();
+  /**
+   * Removes and returns the logs added since the last call, without blocking the thread adding new
+   * ones.
+   *
+   * @return the logs, in the order they were added
+   */
+  List<LogWithMetadata> drainLogs() {
+    return drain(logs);
   }
 }
@@ -16,13 +16,14 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.filter;
 
 import org.hyperledger.besu.datatypes.Hash;
 
-import java.util.ArrayList;
 import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
 
 /** Tracks new pending transactions that have arrived in the transaction pool */
 class PendingTransactionFilter extends Filter {
 
-  private final List<Hash> transactionHashes = new ArrayList<>();
+  private final Queue<Hash> transactionHashes = new ConcurrentLinkedQueue<>();
 
   PendingTransactionFilter(final String id) {
     super(id);
@@ -32,11 +33,13 @@ class PendingTransactionFilter extends Filter {
     transactionHashes.add(hash);
   }
 
-  List<Hash> transactionHashes() {
-    return transactionHashes;
-  }
-
-  void clearTransactionHashes() {
-    transactionHashes.clear();
+  /**
+   * Removes and returns the transaction hashes added since the last call, without blocking the
+   * thread adding new ones.
+   *
+   * @return the transaction hashes, in the order they were added
+   */
+  List<Hash> drainTransactionHashes() {
+    return drain(transactionHashes);
   }
 }
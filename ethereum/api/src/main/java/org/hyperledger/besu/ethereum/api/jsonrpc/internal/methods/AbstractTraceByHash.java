@@ -16,6 +16,7 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTraceCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
@@ -24,11 +25,13 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.F
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.api.query.TransactionWithMetadata;
 import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.debug.TraceOptions;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
 
 import java.util.Collections;
+import java.util.List;
 import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
@@ -41,14 +44,24 @@ public abstract class AbstractTraceByHash implements JsonRpcMethod {
   protected final Supplier<BlockTracer> blockTracerSupplier;
   protected final BlockchainQueries blockchainQueries;
   protected final ProtocolSchedule protocolSchedule;
+  protected final Optional<BlockTraceCache> blockTraceCache;
 
   protected AbstractTraceByHash(
       final Supplier<BlockTracer> blockTracerSupplier,
       final BlockchainQueries blockchainQueries,
       final ProtocolSchedule protocolSchedule) {
+    this(blockTracerSupplier, blockchainQueries, protocolSchedule, Optional.empty());
+  }
+
+  protected AbstractTraceByHash(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final BlockchainQueries blockchainQueries,
+      final ProtocolSchedule protocolSchedule,
+      final Optional<BlockTraceCache> blockTraceCache) {
     this.blockTracerSupplier = blockTracerSupplier;
     this.blockchainQueries = blockchainQueries;
     this.protocolSchedule = protocolSchedule;
+    this.blockTraceCache = blockTraceCache;
   }
 
   public Stream<FlatTrace> resultByTransactionHash(final Hash transactionHash) {
@@ -56,10 +69,30 @@ public abstract class AbstractTraceByHash implements JsonRpcMethod {
         .transactionByHash(transactionHash)
         .flatMap(TransactionWithMetadata::getBlockNumber)
         .flatMap(blockNumber -> blockchainQueries.getBlockchain().getBlockByNumber(blockNumber))
-        .map(block -> getTraceBlock(block, transactionHash))
+        .map(
+            block ->
+                blockTraceCache
+                    .map(cache -> getCachedTraces(cache, block, transactionHash))
+                    .orElseGet(() -> getTraceBlock(block, transactionHash)))
         .orElse(Stream.empty());
   }
 
+  private Stream<FlatTrace> getCachedTraces(
+      final BlockTraceCache cache, final Block block, final Hash transactionHash) {
+    final List<Transaction> transactions = block.getBody().getTransactions();
+    for (int i = 0; i < transactions.size(); i++) {
+      if (transactions.get(i).getHash().equals(transactionHash)) {
+        final int transactionIndex = i;
+        return cache
+            .getTransactionTraces(block)
+            .filter(traces -> transactionIndex < traces.size())
+            .map(traces -> traces.get(transactionIndex).stream())
+            .orElse(Stream.empty());
+      }
+    }
+    return Stream.empty();
+  }
+
   private Stream<FlatTrace> getTraceBlock(final Block block, final Hash transactionHash) {
     if (block == null || block.getBody().getTransactions().isEmpty()) {
       return Stream.empty();
@@ -29,6 +29,7 @@ import org.hyperledger.besu.ethereum.transaction.CallParameter;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 import org.hyperledger.besu.evm.tracing.EstimateGasOperationTracer;
+import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 import java.util.Optional;
 
@@ -85,43 +86,55 @@ public class EthEstimateGas extends AbstractEstimateGas {
       return errorResponse(requestContext, gasUsed.get());
     }
 
+    // the next simulations only need to tell whether the transaction succeeds with a gas limit,
+    // so they are not traced
     var low = gasUsed.get().result().getEstimateGasUsedByTransaction();
-    var lowResult =
-        executeSimulation(
-            blockHeader,
-            overrideGasLimitAndPrice(callParams, low),
-            operationTracer,
-            isAllowExceedingBalance);
-
-    if (lowResult.isPresent() && lowResult.get().isSuccessful()) {
+    if (isSuccessful(blockHeader, callParams, low, isAllowExceedingBalance)) {
       return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), Quantity.create(low));
     }
 
-    var high = processEstimateGas(gasUsed.get(), operationTracer);
-    var mid = high;
+    // the gas used, plus the gas kept out of reach of the sub calls and the stipends, is usually
+    // enough, otherwise bisect from the highest failing gas limit up to the gas limit the first
+    // simulation succeeded with
+    final var estimate = processEstimateGas(gasUsed.get(), operationTracer);
+    if (estimate > low
+        && isSuccessful(blockHeader, callParams, estimate, isAllowExceedingBalance)) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(), Quantity.create(estimate));
+    }
+    low = Math.max(low, estimate);
+    var high = modifiedCallParams.getGasLimit();
+
     while (low + 1 < high) {
-      mid = (high + low) / 2;
-
-      var binarySearchResult =
-          executeSimulation(
-              blockHeader,
-              overrideGasLimitAndPrice(callParams, mid),
-              operationTracer,
-              isAllowExceedingBalance);
-      if (binarySearchResult.isEmpty() || !binarySearchResult.get().isSuccessful()) {
-        low = mid;
-      } else {
+      final var mid = low + (high - low) / 2;
+      if (isSuccessful(blockHeader, callParams, mid, isAllowExceedingBalance)) {
         high = mid;
+      } else {
+        low = mid;
       }
     }
 
     return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), Quantity.create(high));
   }
 
+  private boolean isSuccessful(
+      final BlockHeader blockHeader,
+      final JsonCallParameter callParams,
+      final long gasLimit,
+      final boolean allowExceedingBalance) {
+    return executeSimulation(
+            blockHeader,
+            overrideGasLimitAndPrice(callParams, gasLimit),
+            OperationTracer.NO_TRACING,
+            allowExceedingBalance)
+        .map(TransactionSimulatorResult::isSuccessful)
+        .orElse(false);
+  }
+
   private Optional<TransactionSimulatorResult> executeSimulation(
       final BlockHeader blockHeader,
       final CallParameter modifiedCallParams,
-      final EstimateGasOperationTracer operationTracer,
+      final OperationTracer operationTracer,
       final boolean allowExceedingBalance) {
     return transactionSimulator.process(
         modifiedCallParams,
@@ -0,0 +1,246 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.FilterParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponseType;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.BlockResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.TransactionReceiptResult;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.util.MinimalPrettyPrinter;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.util.RawValue;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.google.common.annotations.VisibleForTesting;
+
+/**
+ * Caches the serialized results of the methods querying finalized blocks, like {@code
+ * eth_getBlockByNumber}, {@code eth_getTransactionReceipt}, {@code eth_getLogs} or {@code
+ * trace_block}, which do not change once their block is finalized.
+ *
+ * <p>Results are keyed by method and parameters and weighted by their size, and are only cached
+ * once the block they depend on is finalized. Requests using a block tag, like {@code latest} or
+ * {@code pending}, bypass the cache. A cached result is returned only while its block is still in
+ * the canonical chain, so a reorg below finality cannot serve stale results.
+ */
+public class FinalizedResponseCache {
+
+  private static final Set<String> BLOCK_NUMBER_METHODS =
+      Set.of(
+          RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName(), RpcMethod.TRACE_BLOCK.getMethodName());
+  private static final Set<String> CACHED_METHODS =
+      Set.of(
+          RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName(),
+          RpcMethod.ETH_GET_BLOCK_BY_HASH.getMethodName(),
+          RpcMethod.ETH_GET_TRANSACTION_RECEIPT.getMethodName(),
+          RpcMethod.ETH_GET_LOGS.getMethodName(),
+          RpcMethod.TRACE_BLOCK.getMethodName());
+
+  private final Blockchain blockchain;
+  private final ObjectWriter resultWriter;
+  private final ObjectWriter keyWriter;
+  private final Cache<String, CachedResult> cache;
+
+  /**
+   * Creates a cache holding at most the provided number of bytes of serialized results.
+   *
+   * @param blockchain the blockchain the cached results are read from
+   * @param maxBytes the maximum size of the cached results
+   * @param resultWriter the writer of the responses of the service, which the results returned
+   *     from the cache are serialized with
+   */
+  public FinalizedResponseCache(
+      final Blockchain blockchain, final long maxBytes, final ObjectWriter resultWriter) {
+    checkArgument(maxBytes > 0, "Maximum size of the response cache must be positive");
+    this.blockchain = blockchain;
+    this.resultWriter = resultWriter;
+    this.keyWriter = resultWriter.with(new MinimalPrettyPrinter());
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxBytes)
+            .weigher((String key, CachedResult result) -> key.length() + result.json().length())
+            .build();
+  }
+
+  /**
+   * Decorates the methods whose results can be cached so they use this cache.
+   *
+   * @param methods the methods, by name
+   * @return the methods, with the ones whose results can be cached decorated
+   */
+  public Map<String, JsonRpcMethod> decorate(final Map<String, JsonRpcMethod> methods) {
+    final Map<String, JsonRpcMethod> decoratedMethods = new HashMap<>(methods);
+    decoratedMethods.replaceAll(
+        (name, method) -> CACHED_METHODS.contains(name) ? new CachedMethod(method) : method);
+    return decoratedMethods;
+  }
+
+  @VisibleForTesting
+  long size() {
+    return cache.estimatedSize();
+  }
+
+  private JsonRpcResponse response(
+      final JsonRpcMethod method, final JsonRpcRequestContext request) {
+    final Optional<String> key = cacheKey(method.getName(), request);
+    if (key.isEmpty()) {
+      return method.response(request);
+    }
+
+    final CachedResult cachedResult = cache.getIfPresent(key.get());
+    if (cachedResult != null) {
+      if (isCanonical(cachedResult.blockNumber(), cachedResult.blockHash())) {
+        return new JsonRpcSuccessResponse(
+            request.getRequest().getId(), new RawValue(cachedResult.json()));
+      }
+      cache.invalidate(key.get());
+    }
+
+    final JsonRpcResponse response = method.response(request);
+    if (response.getType() == JsonRpcResponseType.SUCCESS) {
+      final Object result = ((JsonRpcSuccessResponse) response).getResult();
+      if (result != null) {
+        referencedBlock(method.getName(), request, result)
+            .filter(block -> isFinalized(block.number()))
+            .filter(block -> isCanonical(block.number(), block.blockHash()))
+            .ifPresent(block -> cacheResult(key.get(), block, result));
+      }
+    }
+    return response;
+  }
+
+  private Optional<String> cacheKey(final String methodName, final JsonRpcRequestContext request) {
+    try {
+      if (BLOCK_NUMBER_METHODS.contains(methodName)
+          && !request.getRequiredParameter(0, BlockParameter.class).isNumeric()) {
+        return Optional.empty();
+      }
+      if (RpcMethod.ETH_GET_LOGS.getMethodName().equals(methodName)) {
+        final FilterParameter filter = request.getRequiredParameter(0, FilterParameter.class);
+        if (filter.getBlockHash().isEmpty()
+            && !(filter.getFromBlock().isNumeric() && filter.getToBlock().isNumeric())) {
+          return Optional.empty();
+        }
+      }
+      final String params = keyWriter.writeValueAsString(request.getRequest().getParams());
+      return Optional.of(methodName + params.toLowerCase(Locale.ROOT));
+    } catch (final JsonProcessingException | RuntimeException e) {
+      // invalid parameters are reported by the method itself
+      return Optional.empty();
+    }
+  }
+
+  private Optional<BlockReference> referencedBlock(
+      final String methodName, final JsonRpcRequestContext request, final Object result) {
+    if (BLOCK_NUMBER_METHODS.contains(methodName)) {
+      return request
+          .getRequiredParameter(0, BlockParameter.class)
+          .getNumber()
+          .flatMap(this::canonicalBlock);
+    } else if (result instanceof BlockResult block) {
+      return Optional.of(
+          new BlockReference(Long.decode(block.getNumber()), Hash.fromHexString(block.getHash())));
+    } else if (result instanceof TransactionReceiptResult receipt) {
+      return Optional.of(
+          new BlockReference(
+              Long.decode(receipt.getBlockNumber()), Hash.fromHexString(receipt.getBlockHash())));
+    } else if (RpcMethod.ETH_GET_LOGS.getMethodName().equals(methodName)) {
+      final FilterParameter filter = request.getRequiredParameter(0, FilterParameter.class);
+      if (filter.getBlockHash().isPresent()) {
+        return blockchain
+            .getBlockHeader(filter.getBlockHash().get())
+            .map(header -> new BlockReference(header.getNumber(), header.getHash()));
+      }
+      return filter.getToBlock().getNumber().flatMap(this::canonicalBlock);
+    }
+    return Optional.empty();
+  }
+
+  private Optional<BlockReference> canonicalBlock(final long blockNumber) {
+    return blockchain
+        .getBlockHashByNumber(blockNumber)
+        .map(blockHash -> new BlockReference(blockNumber, blockHash));
+  }
+
+  private boolean isFinalized(final long blockNumber) {
+    return blockchain
+        .getFinalized()
+        .flatMap(blockchain::getBlockHeader)
+        .map(BlockHeader::getNumber)
+        .filter(finalizedNumber -> finalizedNumber >= blockNumber)
+        .isPresent();
+  }
+
+  private boolean isCanonical(final long blockNumber, final Hash blockHash) {
+    return blockchain.getBlockHashByNumber(blockNumber).filter(blockHash::equals).isPresent();
+  }
+
+  private void cacheResult(final String key, final BlockReference block, final Object result) {
+    try {
+      cache.put(
+          key,
+          new CachedResult(
+              block.number(), block.blockHash(), resultWriter.writeValueAsString(result)));
+    } catch (final JsonProcessingException e) {
+      // the result is still returned, only not cached
+    }
+  }
+
+  private record BlockReference(long number, Hash blockHash) {}
+
+  private record CachedResult(long blockNumber, Hash blockHash, String json) {}
+
+  private class CachedMethod implements JsonRpcMethod {
+    private final JsonRpcMethod method;
+
+    private CachedMethod(final JsonRpcMethod method) {
+      this.method = method;
+    }
+
+    @Override
+    public String getName() {
+      return method.getName();
+    }
+
+    @Override
+    public JsonRpcResponse response(final JsonRpcRequestContext request) {
+      return FinalizedResponseCache.this.response(method, request);
+    }
+
+    @Override
+    public List<String> getPermissions() {
+      return method.getPermissions();
+    }
+  }
+}
@@ -20,8 +20,10 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.FilterParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTraceCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTraceGenerator;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.RewardTraceGenerator;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
@@ -46,6 +48,7 @@ import org.hyperledger.besu.services.pipeline.Pipeline;
 import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.ExecutionException;
+import java.util.function.Predicate;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import org.slf4j.Logger;
@@ -55,10 +58,19 @@ public class TraceBlock extends AbstractBlockParameterMethod {
   private static final Logger LOG = LoggerFactory.getLogger(TraceBlock.class);
   private static final ObjectMapper MAPPER = new ObjectMapper();
   protected final ProtocolSchedule protocolSchedule;
+  protected final Optional<BlockTraceCache> blockTraceCache;
 
   public TraceBlock(final ProtocolSchedule protocolSchedule, final BlockchainQueries queries) {
+    this(protocolSchedule, queries, Optional.empty());
+  }
+
+  public TraceBlock(
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries queries,
+      final Optional<BlockTraceCache> blockTraceCache) {
     super(queries);
     this.protocolSchedule = protocolSchedule;
+    this.blockTraceCache = blockTraceCache;
   }
 
   @Override
@@ -94,6 +106,13 @@ public class TraceBlock extends AbstractBlockParameterMethod {
     if (block == null) {
       return emptyResult();
     }
+    if (blockTraceCache.isPresent()) {
+      return blockTraceCache
+          .get()
+          .getTransactionTraces(block)
+          .map(transactionTraces -> traceBlockFromCache(block, transactionTraces, filterParameter))
+          .orElse(emptyResult());
+    }
     final BlockHeader header = block.getHeader();
 
     return Tracer.processTracing(
@@ -165,6 +184,19 @@ public class TraceBlock extends AbstractBlockParameterMethod {
         .orElse(emptyResult());
   }
 
+  private ArrayNodeWrapper traceBlockFromCache(
+      final Block block,
+      final List<List<FlatTrace>> transactionTraces,
+      final Optional<FilterParameter> filterParameter) {
+    final ArrayNodeWrapper resultArrayNode = emptyResult();
+    final Predicate<FlatTrace> filter =
+        filterParameter.map(TraceFlatTransactionStep::matching).orElse(trace -> true);
+    transactionTraces.forEach(
+        traces -> traces.stream().filter(filter).forEachOrdered(resultArrayNode::addPOJO));
+    generateRewardsFromBlock(filterParameter, block, resultArrayNode);
+    return resultArrayNode;
+  }
+
   protected void generateTracesFromTransactionTraceAndBlock(
       final Optional<FilterParameter> filterParameter,
       final List<TransactionTrace> transactionTraces,
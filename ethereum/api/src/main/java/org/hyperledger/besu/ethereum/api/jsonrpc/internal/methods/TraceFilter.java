@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static org.hyperledger.besu.services.pipeline.PipelineBuilder.createPipelineFrom;
 
 import org.hyperledger.besu.datatypes.Address;
@@ -21,6 +22,7 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.BlockParameter;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.FilterParameter;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTraceCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.Tracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.TransactionTrace;
@@ -55,12 +57,17 @@ import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.function.BooleanSupplier;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Stream;
 import javax.annotation.Nonnull;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.Lists;
 import org.apache.tuweni.bytes.Bytes32;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -68,15 +75,39 @@ import org.slf4j.LoggerFactory;
 public class TraceFilter extends TraceBlock {
 
   private static final Logger LOG = LoggerFactory.getLogger(TraceFilter.class);
+  // below this number of blocks, rolling one more world state costs more than it saves
+  private static final int MIN_BLOCKS_PER_CHUNK = 16;
   private final Long maxRange;
+  private final int parallelism;
+  private final LabelledMetric<Counter> outputCounter;
 
   public TraceFilter(
       final Supplier<BlockTracer> blockTracerSupplier,
       final ProtocolSchedule protocolSchedule,
       final BlockchainQueries blockchainQueries,
       final Long maxRange) {
-    super(protocolSchedule, blockchainQueries);
+    this(blockTracerSupplier, protocolSchedule, blockchainQueries, maxRange, 1, Optional.empty());
+  }
+
+  public TraceFilter(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries blockchainQueries,
+      final Long maxRange,
+      final int parallelism,
+      final Optional<BlockTraceCache> blockTraceCache) {
+    super(protocolSchedule, blockchainQueries, blockTraceCache);
+    checkArgument(parallelism > 0, "trace_filter parallelism must be positive");
     this.maxRange = maxRange;
+    this.parallelism = parallelism;
+    this.outputCounter =
+        new PrometheusMetricsSystem(BesuMetricCategory.DEFAULT_METRIC_CATEGORIES, false)
+            .createLabelledCounter(
+                BesuMetricCategory.BLOCKCHAIN,
+                "transactions_tracefilter_pipeline_processed_total",
+                "Number of transactions processed for trace_filter",
+                "step",
+                "action");
   }
 
   @Override
@@ -135,82 +166,197 @@ public class TraceFilter extends TraceBlock {
       return new JsonRpcSuccessResponse(
           requestContext.getRequest().getId(), resultArrayNode.getArrayNode());
     }
-    final BlockHeader header = block.get().getHeader();
-
     List<Block> blockList = getBlockList(currentBlockNumber, toBlock, block);
+    final Optional<ArrayNodeWrapper> cachedResult =
+        traceFilterFromCache(blockList, filterParameter, resultArrayNode);
+    if (cachedResult.isPresent()) {
+      return new JsonRpcSuccessResponse(
+          requestContext.getRequest().getId(), cachedResult.get().getArrayNode());
+    }
 
-    ArrayNodeWrapper result =
-        Tracer.processTracing(
-                getBlockchainQueries(),
-                Optional.of(header),
-                traceableState -> {
-                  TraceFilterSource traceFilterSource =
-                      new TraceFilterSource(blockList, resultArrayNode);
-                  final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(header);
-                  final MainnetTransactionProcessor transactionProcessor =
-                      protocolSpec.getTransactionProcessor();
-                  final ChainUpdater chainUpdater = new ChainUpdater(traceableState);
-                  final LabelledMetric<Counter> outputCounter =
-                      new PrometheusMetricsSystem(
-                              BesuMetricCategory.DEFAULT_METRIC_CATEGORIES, false)
-                          .createLabelledCounter(
-                              BesuMetricCategory.BLOCKCHAIN,
-                              "transactions_tracefilter_pipeline_processed_total",
-                              "Number of transactions processed for trace_filter",
-                              "step",
-                              "action");
-
-                  DebugOperationTracer debugOperationTracer =
-                      new DebugOperationTracer(new TraceOptions(false, false, true), false);
-                  ExecuteTransactionStep executeTransactionStep =
-                      new ExecuteTransactionStep(
-                          chainUpdater,
-                          transactionProcessor,
-                          getBlockchainQueries().getBlockchain(),
-                          debugOperationTracer,
-                          protocolSpec);
-
-                  Function<TransactionTrace, CompletableFuture<Stream<FlatTrace>>>
-                      traceFlatTransactionStep =
-                          new TraceFlatTransactionStep(
-                              protocolSchedule, null, Optional.of(filterParameter));
-
-                  BuildArrayNodeCompleterStep buildArrayNodeStep =
-                      new BuildArrayNodeCompleterStep(resultArrayNode);
-                  Pipeline<TransactionTrace> traceBlockPipeline =
-                      createPipelineFrom(
-                              "getTransactions",
-                              traceFilterSource,
-                              4,
-                              outputCounter,
-                              false,
-                              "trace_block_transactions")
-                          .thenProcess("executeTransaction", executeTransactionStep)
-                          .thenProcessAsyncOrdered(
-                              "traceFlatTransaction", traceFlatTransactionStep, 4)
-                          .andFinishWith(
-                              "buildArrayNode",
-                              traceStream -> traceStream.forEachOrdered(buildArrayNodeStep));
-
-                  try {
-                    Optional<EthScheduler> ethSchedulerOpt =
-                        getBlockchainQueries().getEthScheduler();
-
-                    ethSchedulerOpt
-                        .orElse(new EthScheduler(1, 1, 1, 1, new NoOpMetricsSystem()))
-                        .startPipeline(traceBlockPipeline)
-                        .get();
-
-                  } catch (InterruptedException | ExecutionException e) {
-                    throw new RuntimeException(e);
-                  }
-                  return Optional.of(resultArrayNode);
-                })
-            .orElse(emptyResult());
+    final EthScheduler ethScheduler =
+        getBlockchainQueries()
+            .getEthScheduler()
+            .orElse(new EthScheduler(1, 1, 1, 1, new NoOpMetricsSystem()));
+    final List<List<Block>> chunks = partition(blockList);
+    final ArrayNodeWrapper result =
+        chunks.size() == 1
+            ? traceChunk(
+                    requestContext,
+                    blockList,
+                    filterParameter,
+                    resultArrayNode,
+                    ethScheduler,
+                    () -> false)
+                .orElse(emptyResult())
+            : traceChunksInParallel(
+                requestContext, chunks, filterParameter, resultArrayNode, ethScheduler);
 
     return new JsonRpcSuccessResponse(requestContext.getRequest().getId(), result.getArrayNode());
   }
 
+  private List<List<Block>> partition(final List<Block> blockList) {
+    final int chunkCount =
+        Math.max(1, Math.min(parallelism, blockList.size() / MIN_BLOCKS_PER_CHUNK));
+    final int chunkSize = (blockList.size() + chunkCount - 1) / chunkCount;
+    return Lists.partition(blockList, chunkSize);
+  }
+
+  private ArrayNodeWrapper traceChunksInParallel(
+      final JsonRpcRequestContext requestContext,
+      final List<List<Block>> chunks,
+      final FilterParameter filterParameter,
+      final ArrayNodeWrapper resultArrayNode,
+      final EthScheduler ethScheduler) {
+    // a chunk never needs more traces than the ones skipped and returned by the whole request
+    final Optional<Integer> chunkLimit =
+        filterParameter.getCount().map(count -> count + filterParameter.getAfter().orElse(0));
+    final AtomicBoolean isComplete = new AtomicBoolean(false);
+
+    final List<CompletableFuture<Optional<ArrayNodeWrapper>>> chunkResults =
+        new ArrayList<>(chunks.size());
+    for (final List<Block> chunk : chunks) {
+      final ArrayNodeWrapper chunkArrayNode =
+          new ArrayNodeWrapper(
+              resultArrayNode.getArrayNode().arrayNode(), Optional.empty(), chunkLimit);
+      chunkResults.add(
+          CompletableFuture.supplyAsync(
+              requestContext.recordingCpuTime(
+                  () ->
+                      traceChunk(
+                          requestContext,
+                          chunk,
+                          filterParameter,
+                          chunkArrayNode,
+                          ethScheduler,
+                          isComplete::get)),
+              ethScheduler::executeServiceTask));
+    }
+
+    try {
+      // chunks are merged in block order, the remaining ones are aborted once the result is full
+      for (final CompletableFuture<Optional<ArrayNodeWrapper>> chunkResult : chunkResults) {
+        final Optional<ArrayNodeWrapper> chunkArrayNode = chunkResult.get();
+        if (chunkArrayNode.isEmpty()) {
+          return emptyResult();
+        }
+        resultArrayNode.addAll(chunkArrayNode.get());
+        if (resultArrayNode.isFull()) {
+          break;
+        }
+      }
+    } catch (InterruptedException | ExecutionException e) {
+      throw new RuntimeException(e);
+    } finally {
+      // chunks not started yet never run, the running ones stop at their next transaction
+      isComplete.set(true);
+      chunkResults.forEach(chunkResult -> chunkResult.cancel(false));
+    }
+    return resultArrayNode;
+  }
+
+  @VisibleForTesting
+  Optional<ArrayNodeWrapper> traceChunk(
+      final JsonRpcRequestContext requestContext,
+      final List<Block> chunk,
+      final FilterParameter filterParameter,
+      final ArrayNodeWrapper resultArrayNode,
+      final EthScheduler ethScheduler,
+      final BooleanSupplier isAborted) {
+    if (isAborted.getAsBoolean()) {
+      return Optional.of(resultArrayNode);
+    }
+    final BlockHeader header = chunk.get(0).getHeader();
+    return Tracer.processTracing(
+        getBlockchainQueries(),
+        Optional.of(header),
+        traceableState -> {
+          TraceFilterSource traceFilterSource =
+              new TraceFilterSource(chunk, resultArrayNode, isAborted);
+          final ProtocolSpec protocolSpec = protocolSchedule.getByBlockHeader(header);
+          final MainnetTransactionProcessor transactionProcessor =
+              protocolSpec.getTransactionProcessor();
+          final ChainUpdater chainUpdater = new ChainUpdater(traceableState);
+
+          DebugOperationTracer debugOperationTracer =
+              new DebugOperationTracer(new TraceOptions(false, false, true), false);
+          ExecuteTransactionStep executeTransactionStep =
+              new ExecuteTransactionStep(
+                  chainUpdater,
+                  transactionProcessor,
+                  getBlockchainQueries().getBlockchain(),
+                  debugOperationTracer,
+                  protocolSpec);
+
+          Function<TransactionTrace, CompletableFuture<Stream<FlatTrace>>>
+              traceFlatTransactionStep =
+                  new TraceFlatTransactionStep(
+                      protocolSchedule, null, Optional.of(filterParameter));
+
+          BuildArrayNodeCompleterStep buildArrayNodeStep =
+              new BuildArrayNodeCompleterStep(resultArrayNode);
+          Pipeline<TransactionTrace> traceBlockPipeline =
+              createPipelineFrom(
+                      "getTransactions",
+                      traceFilterSource,
+                      4,
+                      outputCounter,
+                      false,
+                      "trace_block_transactions")
+                  // the steps run on the pipeline threads, so their CPU time is recorded
+                  .thenProcess(
+                      "executeTransaction", requestContext.recordingCpuTime(executeTransactionStep))
+                  .thenProcessAsyncOrdered(
+                      "traceFlatTransaction",
+                      requestContext.recordingCpuTime(traceFlatTransactionStep),
+                      4)
+                  .andFinishWith(
+                      "buildArrayNode",
+                      traceStream -> traceStream.forEachOrdered(buildArrayNodeStep));
+
+          try {
+            ethScheduler.startPipeline(traceBlockPipeline).get();
+          } catch (InterruptedException | ExecutionException e) {
+            throw new RuntimeException(e);
+          }
+          return Optional.of(resultArrayNode);
+        });
+  }
+
+  private Optional<ArrayNodeWrapper> traceFilterFromCache(
+      final List<Block> blockList,
+      final FilterParameter filterParameter,
+      final ArrayNodeWrapper resultArrayNode) {
+    if (blockTraceCache.isEmpty()) {
+      return Optional.empty();
+    }
+    final List<List<List<FlatTrace>>> blockTraces = new ArrayList<>(blockList.size());
+    for (final Block block : blockList) {
+      // a single block is replayed through the cache, ranges are only served from cached blocks
+      final Optional<List<List<FlatTrace>>> transactionTraces =
+          blockList.size() == 1
+              ? blockTraceCache.get().getTransactionTraces(block)
+              : blockTraceCache.get().getCachedTransactionTraces(block);
+      if (transactionTraces.isEmpty()) {
+        return Optional.empty();
+      }
+      blockTraces.add(transactionTraces.get());
+    }
+
+    final Predicate<FlatTrace> filter = TraceFlatTransactionStep.matching(filterParameter);
+    for (int i = 0; i < blockList.size() && !resultArrayNode.isFull(); i++) {
+      blockTraces
+          .get(i)
+          .forEach(
+              traces -> traces.stream().filter(filter).forEachOrdered(resultArrayNode::addPOJO));
+      RewardTraceGenerator.generateFromBlock(protocolSchedule, blockList.get(i))
+          .map(FlatTrace.class::cast)
+          .filter(filter)
+          .forEachOrdered(resultArrayNode::addPOJO);
+    }
+    return Optional.of(resultArrayNode);
+  }
+
   @Nonnull
   private List<Block> getBlockList(
       final long fromBlock, final long toBlock, final Optional<Block> block) {
@@ -24,16 +24,26 @@ import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.BooleanSupplier;
 
 public class TraceFilterSource implements Iterator<TransactionTrace> {
 
   private final ArrayNodeWrapper resultArrayNode;
+  private final BooleanSupplier isAborted;
   private final Iterator<Block> blockIterator;
   private Iterator<TransactionTrace> transactionTraceIterator;
   private Block currentBlock;
 
   public TraceFilterSource(final List<Block> blockList, final ArrayNodeWrapper resultArrayNode) {
+    this(blockList, resultArrayNode, () -> false);
+  }
+
+  public TraceFilterSource(
+      final List<Block> blockList,
+      final ArrayNodeWrapper resultArrayNode,
+      final BooleanSupplier isAborted) {
     this.resultArrayNode = resultArrayNode;
+    this.isAborted = isAborted;
     this.blockIterator = blockList.iterator();
     this.transactionTraceIterator = getNextTransactionIterator();
   }
@@ -57,7 +67,7 @@ public class TraceFilterSource implements Iterator<TransactionTrace> {
 
   @Override
   public boolean hasNext() {
-    if (resultArrayNode.isFull()) return false;
+    if (resultArrayNode.isFull() || isAborted.getAsBoolean()) return false;
     if (transactionTraceIterator == null) {
       return false;
     }
@@ -28,6 +28,7 @@ import java.util.List;
 import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.stream.Stream;
 
 public class TraceFlatTransactionStep
@@ -59,28 +60,26 @@ public class TraceFlatTransactionStep
               protocolSchedule, transactionTrace, block);
     }
     if (filterParameter.isPresent()) {
-      final List<Address> fromAddress = filterParameter.get().getFromAddress();
-      final List<Address> toAddress = filterParameter.get().getToAddress();
       return CompletableFuture.completedFuture(
-          traceStream
-              .map(FlatTrace.class::cast)
-              .filter(
-                  trace ->
-                      fromAddress.isEmpty()
-                          || Optional.ofNullable(trace.getAction().getFrom())
-                              .map(Address::fromHexString)
-                              .map(fromAddress::contains)
-                              .orElse(false))
-              .filter(
-                  trace ->
-                      toAddress.isEmpty()
-                          || Optional.ofNullable(trace.getAction().getTo())
-                              .map(Address::fromHexString)
-                              .map(toAddress::contains)
-                              .orElse(false)));
-
+          traceStream.map(FlatTrace.class::cast).filter(matching(filterParameter.get())));
     } else {
       return CompletableFuture.completedFuture(traceStream.map(FlatTrace.class::cast));
     }
   }
+
+  static Predicate<FlatTrace> matching(final FilterParameter filterParameter) {
+    final List<Address> fromAddress = filterParameter.getFromAddress();
+    final List<Address> toAddress = filterParameter.getToAddress();
+    return trace ->
+        (fromAddress.isEmpty()
+                || Optional.ofNullable(trace.getAction().getFrom())
+                    .map(Address::fromHexString)
+                    .map(fromAddress::contains)
+                    .orElse(false))
+            && (toAddress.isEmpty()
+                || Optional.ofNullable(trace.getAction().getTo())
+                    .map(Address::fromHexString)
+                    .map(toAddress::contains)
+                    .orElse(false));
+  }
 }
@@ -17,6 +17,7 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTraceCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
@@ -26,6 +27,7 @@ import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 
 import java.util.List;
+import java.util.Optional;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -42,6 +44,14 @@ public class TraceGet extends AbstractTraceByHash implements JsonRpcMethod {
     super(blockTracerSupplier, blockchainQueries, protocolSchedule);
   }
 
+  public TraceGet(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final BlockchainQueries blockchainQueries,
+      final ProtocolSchedule protocolSchedule,
+      final Optional<BlockTraceCache> blockTraceCache) {
+    super(blockTracerSupplier, blockchainQueries, protocolSchedule, blockTraceCache);
+  }
+
   @Override
   public String getName() {
     return RpcMethod.TRACE_GET.getMethodName();
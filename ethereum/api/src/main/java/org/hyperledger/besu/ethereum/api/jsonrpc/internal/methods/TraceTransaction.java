@@ -17,12 +17,14 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTraceCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 
+import java.util.Optional;
 import java.util.function.Supplier;
 
 import org.slf4j.Logger;
@@ -38,6 +40,14 @@ public class TraceTransaction extends AbstractTraceByHash implements JsonRpcMeth
     super(blockTracerSupplier, blockchainQueries, protocolSchedule);
   }
 
+  public TraceTransaction(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries blockchainQueries,
+      final Optional<BlockTraceCache> blockTraceCache) {
+    super(blockTracerSupplier, blockchainQueries, protocolSchedule, blockTraceCache);
+  }
+
   @Override
   public String getName() {
     return RpcMethod.TRACE_TRANSACTION.getMethodName();
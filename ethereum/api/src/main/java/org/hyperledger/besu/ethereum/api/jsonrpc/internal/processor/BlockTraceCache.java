@@ -0,0 +1,140 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTrace;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.tracing.flat.FlatTraceGenerator;
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.debug.TraceOptions;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+import com.github.benmanes.caffeine.cache.AsyncCache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Caches the flat traces of the transactions of the most recently traced blocks, so the traces of
+ * all the transactions of a block are computed with a single replay of the block, however many of
+ * them are requested.
+ *
+ * <p>Blocks are keyed by hash, so the traces of a block never become stale. Concurrent requests for
+ * the traces of the same block wait for a single replay, which runs on the thread of the first
+ * request and outside of the locks of the cache. The cache is bounded by the number of traces of
+ * the cached blocks.
+ */
+public class BlockTraceCache {
+
+  private final Supplier<BlockTracer> blockTracerSupplier;
+  private final ProtocolSchedule protocolSchedule;
+  private final BlockchainQueries blockchainQueries;
+  private final AsyncCache<Hash, List<List<FlatTrace>>> cache;
+
+  /**
+   * Creates a cache holding at most about the provided number of traces.
+   *
+   * @param blockTracerSupplier the supplier of the tracers replaying the blocks
+   * @param protocolSchedule the protocol schedule
+   * @param blockchainQueries the blockchain queries
+   * @param maxTraces the maximum number of cached traces
+   */
+  public BlockTraceCache(
+      final Supplier<BlockTracer> blockTracerSupplier,
+      final ProtocolSchedule protocolSchedule,
+      final BlockchainQueries blockchainQueries,
+      final long maxTraces) {
+    checkArgument(maxTraces > 0, "Maximum number of cached traces must be positive");
+    this.blockTracerSupplier = blockTracerSupplier;
+    this.protocolSchedule = protocolSchedule;
+    this.blockchainQueries = blockchainQueries;
+    // a block without transactions still weighs one, so the number of cached blocks is bounded
+    this.cache =
+        Caffeine.newBuilder()
+            .maximumWeight(maxTraces)
+            .weigher(
+                (Hash hash, List<List<FlatTrace>> traces) ->
+                    1 + traces.stream().mapToInt(List::size).sum())
+            .buildAsync();
+  }
+
+  /**
+   * Returns the flat traces of each transaction of a block, replaying the block if they are not
+   * cached.
+   *
+   * @param block the block to trace
+   * @return the flat traces of each transaction, in the order of the transactions of the block, or
+   *     empty if the state of the block is not available
+   */
+  public Optional<List<List<FlatTrace>>> getTransactionTraces(final Block block) {
+    final CompletableFuture<List<List<FlatTrace>>> traces = new CompletableFuture<>();
+    final CompletableFuture<List<List<FlatTrace>>> pendingTraces =
+        cache.asMap().putIfAbsent(block.getHash(), traces);
+    if (pendingTraces != null) {
+      return Optional.ofNullable(pendingTraces.join());
+    }
+
+    // traces completed with null or exceptionally are discarded by the cache
+    try {
+      traces.complete(traceBlock(block).orElse(null));
+    } catch (final RuntimeException e) {
+      traces.completeExceptionally(e);
+      throw e;
+    }
+    return Optional.ofNullable(traces.join());
+  }
+
+  /**
+   * Returns the flat traces of each transaction of a block, only if they are cached.
+   *
+   * @param block the block
+   * @return the flat traces of each transaction, or empty if they are not cached
+   */
+  public Optional<List<List<FlatTrace>>> getCachedTransactionTraces(final Block block) {
+    return Optional.ofNullable(cache.getIfPresent(block.getHash()))
+        .filter(traces -> traces.isDone() && !traces.isCompletedExceptionally())
+        .map(CompletableFuture::join);
+  }
+
+  private Optional<List<List<FlatTrace>>> traceBlock(final Block block) {
+    return Tracer.processTracing(
+        blockchainQueries,
+        Optional.of(block.getHeader()),
+        mutableWorldState ->
+            blockTracerSupplier
+                .get()
+                .trace(
+                    mutableWorldState,
+                    block,
+                    new DebugOperationTracer(new TraceOptions(false, false, true), false))
+                .map(
+                    blockTrace ->
+                        blockTrace.getTransactionTraces().stream()
+                            .map(
+                                transactionTrace ->
+                                    FlatTraceGenerator.generateFromTransactionTraceAndBlock(
+                                            protocolSchedule, transactionTrace, block)
+                                        .map(FlatTrace.class::cast)
+                                        .toList())
+                            .toList()));
+  }
+}
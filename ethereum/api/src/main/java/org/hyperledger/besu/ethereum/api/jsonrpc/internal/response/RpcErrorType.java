@@ -34,6 +34,7 @@ public enum RpcErrorType implements RpcMethodError {
 
   // Resource unavailable error
   TX_POOL_DISABLED(-32002, "Transaction pool not enabled"),
+  REQUEST_LIMIT_EXCEEDED(-32005, "Request limit exceeded, try again later"),
 
   // eth_getBlockByNumber specific error message
   UNKNOWN_BLOCK(-39001, "Unknown block"),
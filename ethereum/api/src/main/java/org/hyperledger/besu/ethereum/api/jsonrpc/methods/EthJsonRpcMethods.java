@@ -72,8 +72,10 @@ import org.hyperledger.besu.ethereum.eth.transactions.TransactionPool;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
+import org.hyperledger.besu.ethereum.transaction.WorldStateViewPool;
 
 import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 
 public class EthJsonRpcMethods extends ApiGroupJsonRpcMethods {
@@ -115,6 +117,10 @@ public class EthJsonRpcMethods extends ApiGroupJsonRpcMethods {
 
   @Override
   protected Map<String, JsonRpcMethod> create() {
+    // simulations of the recent blocks share the views of the world state at these blocks
+    final WorldStateViewPool worldStateViewPool =
+        new WorldStateViewPool(
+            blockchainQueries.getBlockchain(), blockchainQueries.getWorldStateArchive());
     return mapOf(
         new EthAccounts(),
         new EthBlockNumber(blockchainQueries),
@@ -130,7 +136,8 @@ public class EthJsonRpcMethods extends ApiGroupJsonRpcMethods {
                 blockchainQueries.getBlockchain(),
                 blockchainQueries.getWorldStateArchive(),
                 protocolSchedule,
-                apiConfiguration.getGasCap())),
+                apiConfiguration.getGasCap(),
+                Optional.of(worldStateViewPool))),
         new EthFeeHistory(
             protocolSchedule,
             blockchainQueries.getBlockchain(),
@@ -164,14 +171,16 @@ public class EthJsonRpcMethods extends ApiGroupJsonRpcMethods {
                 blockchainQueries.getBlockchain(),
                 blockchainQueries.getWorldStateArchive(),
                 protocolSchedule,
-                apiConfiguration.getGasCap())),
+                apiConfiguration.getGasCap(),
+                Optional.of(worldStateViewPool))),
         new EthCreateAccessList(
             blockchainQueries,
             new TransactionSimulator(
                 blockchainQueries.getBlockchain(),
                 blockchainQueries.getWorldStateArchive(),
                 protocolSchedule,
-                apiConfiguration.getGasCap())),
+                apiConfiguration.getGasCap(),
+                Optional.of(worldStateViewPool))),
         new EthMining(miningCoordinator),
         new EthCoinbase(miningCoordinator),
         new EthProtocolVersion(supportedCapabilities),
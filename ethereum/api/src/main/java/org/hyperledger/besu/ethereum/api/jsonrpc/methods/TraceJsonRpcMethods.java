@@ -27,12 +27,14 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceRawTransa
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceReplayBlockTransactions;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.TraceTransaction;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockReplay;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTraceCache;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 
 import java.util.Map;
+import java.util.Optional;
 
 public class TraceJsonRpcMethods extends ApiGroupJsonRpcMethods {
 
@@ -62,17 +64,35 @@ public class TraceJsonRpcMethods extends ApiGroupJsonRpcMethods {
   protected Map<String, JsonRpcMethod> create() {
     final BlockReplay blockReplay =
         new BlockReplay(protocolSchedule, protocolContext, blockchainQueries.getBlockchain());
+    final Optional<BlockTraceCache> blockTraceCache =
+        apiConfiguration.getTraceCacheMaxTraces() > 0
+            ? Optional.of(
+                new BlockTraceCache(
+                    () -> new BlockTracer(blockReplay),
+                    protocolSchedule,
+                    blockchainQueries,
+                    apiConfiguration.getTraceCacheMaxTraces()))
+            : Optional.empty();
     return mapOf(
         new TraceReplayBlockTransactions(protocolSchedule, blockchainQueries),
         new TraceFilter(
             () -> new BlockTracer(blockReplay),
             protocolSchedule,
             blockchainQueries,
-            apiConfiguration.getMaxTraceFilterRange()),
-        new TraceGet(() -> new BlockTracer(blockReplay), blockchainQueries, protocolSchedule),
+            apiConfiguration.getMaxTraceFilterRange(),
+            apiConfiguration.getTraceFilterParallelism(),
+            blockTraceCache),
+        new TraceGet(
+            () -> new BlockTracer(blockReplay),
+            blockchainQueries,
+            protocolSchedule,
+            blockTraceCache),
         new TraceTransaction(
-            () -> new BlockTracer(blockReplay), protocolSchedule, blockchainQueries),
-        new TraceBlock(protocolSchedule, blockchainQueries),
+            () -> new BlockTracer(blockReplay),
+            protocolSchedule,
+            blockchainQueries,
+            blockTraceCache),
+        new TraceBlock(protocolSchedule, blockchainQueries, blockTraceCache),
         new TraceCall(
             blockchainQueries,
             protocolSchedule,
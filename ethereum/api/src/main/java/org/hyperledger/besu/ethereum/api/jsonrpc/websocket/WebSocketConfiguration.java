@@ -24,6 +24,7 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 
 import com.google.common.base.MoreObjects;
@@ -48,6 +49,9 @@ public class WebSocketConfiguration {
   private long timeoutSec;
   private int maxActiveConnections;
   private int maxFrameSize;
+  private Map<String, Integer> methodGroupConcurrencyLimits = Collections.emptyMap();
+  private Map<String, Integer> methodConcurrencyLimits = Collections.emptyMap();
+  private long maxClientCostMillis;
 
   public static WebSocketConfiguration createDefault() {
     final WebSocketConfiguration config = new WebSocketConfiguration();
@@ -159,6 +163,49 @@ public class WebSocketConfiguration {
     this.timeoutSec = timeoutSec;
   }
 
+  /**
+   * Returns the maximum number of concurrent executions of the methods of each method group, like
+   * {@code eth} or {@code debug}. Methods of the groups that are not present are not limited.
+   *
+   * @return the concurrency limits per method group, empty when no group is limited
+   */
+  public Map<String, Integer> getMethodGroupConcurrencyLimits() {
+    return methodGroupConcurrencyLimits;
+  }
+
+  public void setMethodGroupConcurrencyLimits(
+      final Map<String, Integer> methodGroupConcurrencyLimits) {
+    this.methodGroupConcurrencyLimits = methodGroupConcurrencyLimits;
+  }
+
+  /**
+   * Returns the maximum number of concurrent executions of each method, requests exceeding it being
+   * rejected instead of executed. Methods that are not present are not limited.
+   *
+   * @return the concurrency limits per method, empty when no method is limited
+   */
+  public Map<String, Integer> getMethodConcurrencyLimits() {
+    return methodConcurrencyLimits;
+  }
+
+  public void setMethodConcurrencyLimits(final Map<String, Integer> methodConcurrencyLimits) {
+    this.methodConcurrencyLimits = methodConcurrencyLimits;
+  }
+
+  /**
+   * Returns the maximum estimated cost, in milliseconds of CPU time, of the requests a client runs
+   * concurrently, requests exceeding it being rejected instead of executed.
+   *
+   * @return the cost budget of a client, 0 when clients are not limited
+   */
+  public long getMaxClientCostMillis() {
+    return maxClientCostMillis;
+  }
+
+  public void setMaxClientCostMillis(final long maxClientCostMillis) {
+    this.maxClientCostMillis = maxClientCostMillis;
+  }
+
   @Override
   public boolean equals(final Object o) {
     if (this == o) {
@@ -176,7 +223,10 @@ public class WebSocketConfiguration {
         && Objects.equals(authenticationCredentialsFile, that.authenticationCredentialsFile)
         && Objects.equals(hostsAllowlist, that.hostsAllowlist)
         && Objects.equals(authenticationPublicKeyFile, that.authenticationPublicKeyFile)
-        && timeoutSec == that.timeoutSec;
+        && timeoutSec == that.timeoutSec
+        && Objects.equals(methodGroupConcurrencyLimits, that.methodGroupConcurrencyLimits)
+        && Objects.equals(methodConcurrencyLimits, that.methodConcurrencyLimits)
+        && maxClientCostMillis == that.maxClientCostMillis;
   }
 
   @Override
@@ -190,7 +240,10 @@ public class WebSocketConfiguration {
         authenticationCredentialsFile,
         hostsAllowlist,
         authenticationPublicKeyFile,
-        timeoutSec);
+        timeoutSec,
+        methodGroupConcurrencyLimits,
+        methodConcurrencyLimits,
+        maxClientCostMillis);
   }
 
   @Override
@@ -205,6 +258,9 @@ public class WebSocketConfiguration {
         .add("hostsAllowlist", hostsAllowlist)
         .add("authenticationPublicKeyFile", authenticationPublicKeyFile)
         .add("timeoutSec", timeoutSec)
+        .add("methodGroupConcurrencyLimits", methodGroupConcurrencyLimits)
+        .add("methodConcurrencyLimits", methodConcurrencyLimits)
+        .add("maxClientCostMillis", maxClientCostMillis)
         .toString();
   }
 
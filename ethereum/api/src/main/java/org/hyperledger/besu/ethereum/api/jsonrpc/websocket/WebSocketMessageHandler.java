@@ -41,6 +41,7 @@ import io.vertx.core.http.ServerWebSocket;
 import io.vertx.core.json.DecodeException;
 import io.vertx.core.json.JsonArray;
 import io.vertx.core.json.JsonObject;
+import io.vertx.core.net.SocketAddress;
 import io.vertx.ext.auth.User;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -89,6 +90,7 @@ public class WebSocketMessageHandler {
                     final JsonRpcResponse jsonRpcResponse =
                         jsonRpcExecutor.execute(
                             user,
+                            clientAddress(websocket),
                             null,
                             null,
                             new IsAliveHandler(ethScheduler, timeoutSec),
@@ -132,6 +134,7 @@ public class WebSocketMessageHandler {
                       responses.add(
                           jsonRpcExecutor.execute(
                               user,
+                              clientAddress(websocket),
                               null,
                               null,
                               new IsAliveHandler(ethScheduler, timeoutSec),
@@ -175,6 +178,10 @@ public class WebSocketMessageHandler {
     }
   }
 
+  private static Optional<String> clientAddress(final ServerWebSocket websocket) {
+    return Optional.ofNullable(websocket.remoteAddress()).map(SocketAddress::hostAddress);
+  }
+
   private JsonRpcResponse errorResponse(final Object id, final RpcErrorType error) {
     return new JsonRpcErrorResponse(id, error);
   }
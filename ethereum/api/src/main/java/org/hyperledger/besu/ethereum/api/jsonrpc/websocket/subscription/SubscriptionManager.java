@@ -15,27 +15,36 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.JsonRpcResult;
+import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs.LogsSubscription;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.logs.PrivateLogsSubscription;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.UnsubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.response.SubscriptionResponse;
+import org.hyperledger.besu.ethereum.api.query.LogsQueryIndex;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionEvent;
 import org.hyperledger.besu.ethereum.privacy.PrivateTransactionObserver;
+import org.hyperledger.besu.evm.log.Log;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
 
 import java.util.ArrayList;
+import java.util.IdentityHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
 import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.databind.util.RawValue;
 import io.vertx.core.AbstractVerticle;
 import io.vertx.core.eventbus.Message;
 import io.vertx.core.json.Json;
@@ -53,12 +62,19 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
   public static final String EVENTBUS_REMOVE_SUBSCRIPTIONS_ADDRESS =
       "SubscriptionManager::removeSubscriptions";
 
+  private static final int MAX_DISPATCH_BATCH_SIZE = 1024;
+
   private final AtomicLong subscriptionCounter = new AtomicLong(0);
   private final Map<Long, Subscription> subscriptions = new ConcurrentHashMap<>();
+  private final Map<SubscriptionType, Map<Long, Subscription>> subscriptionsByType =
+      new ConcurrentHashMap<>();
+  private final LogsQueryIndex<LogsSubscription> logsSubscriptionIndex = new LogsQueryIndex<>();
   private final SubscriptionBuilder subscriptionBuilder = new SubscriptionBuilder();
   private final LabelledMetric<Counter> subscribeCounter;
   private final LabelledMetric<Counter> unsubscribeCounter;
   private final List<PrivateTransactionEvent> privateTransactionEvents = new ArrayList<>();
+  private final Queue<PendingMessage> pendingMessages = new ConcurrentLinkedQueue<>();
+  private final AtomicBoolean isDispatching = new AtomicBoolean(false);
 
   public SubscriptionManager(
       final MetricsSystem metricsSystem, final Blockchain blockchainQueries) {
@@ -94,6 +110,13 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
     final Subscription subscription =
         subscriptionBuilder.build(subscriptionId, request.getConnectionId(), request);
     subscriptions.put(subscription.getSubscriptionId(), subscription);
+    subscriptionsByType
+        .computeIfAbsent(subscription.getSubscriptionType(), type -> new ConcurrentHashMap<>())
+        .put(subscription.getSubscriptionId(), subscription);
+    if (subscription instanceof LogsSubscription logsSubscription) {
+      logsSubscriptionIndex.add(
+          logsSubscription, logsSubscription.getFilterParameter().getLogsQuery());
+    }
 
     return subscription.getSubscriptionId();
   }
@@ -117,7 +140,11 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
   private void destroySubscription(final long subscriptionId) {
     final Subscription removed = subscriptions.remove(subscriptionId);
     if (removed != null) {
+      subscriptionsByType.get(removed.getSubscriptionType()).remove(subscriptionId);
       unsubscribeCounter.labels(removed.getSubscriptionType().getCode()).inc();
+      if (removed instanceof LogsSubscription logsSubscription) {
+        logsSubscriptionIndex.remove(logsSubscription);
+      }
     }
   }
 
@@ -139,19 +166,86 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
   }
 
   public <T> List<T> subscriptionsOfType(final SubscriptionType type, final Class<T> clazz) {
-    return subscriptions.values().stream()
-        .filter(subscription -> subscription.isType(type))
+    return subscriptionsByType.getOrDefault(type, Map.of()).values().stream()
         .map(subscriptionBuilder.mapToSubscriptionClass(clazz))
         .collect(Collectors.toList());
   }
 
+  /**
+   * Returns the logs subscriptions whose query matches a log, without evaluating the query of every
+   * logs subscription.
+   *
+   * @param log the log
+   * @return the matching logs subscriptions
+   */
+  public List<LogsSubscription> logsSubscriptionsMatching(final Log log) {
+    return logsSubscriptionIndex.matching(log);
+  }
+
+  /**
+   * Sends a message to the connection of a subscription, asynchronously. The messages are sent in
+   * the order they are submitted, and a result sent to many subscriptions, like a new block, is
+   * serialized only once for all of them.
+   *
+   * @param subscriptionId the id of the subscription
+   * @param msg the result to send
+   */
   public void sendMessage(final Long subscriptionId, final JsonRpcResult msg) {
     final Subscription subscription = subscriptions.get(subscriptionId);
 
     if (subscription != null) {
-      final SubscriptionResponse response = new SubscriptionResponse(subscription, msg);
-      vertx.eventBus().send(subscription.getConnectionId(), Json.encode(response));
+      pendingMessages.add(new PendingMessage(subscription, msg));
+      scheduleDispatch();
+    }
+  }
+
+  private void scheduleDispatch() {
+    if (isDispatching.compareAndSet(false, true)) {
+      vertx.executeBlocking(
+          future -> {
+            dispatchPendingMessages();
+            future.complete();
+          },
+          result -> {
+            if (result.failed()) {
+              LOG.error("Failed to send subscription messages.", result.cause());
+            }
+          });
+    }
+  }
+
+  private void dispatchPendingMessages() {
+    try {
+      while (!pendingMessages.isEmpty()) {
+        // results are serialized once per batch, whatever the number of subscriptions they go to
+        final Map<JsonRpcResult, SerializedResult> serializedResults = new IdentityHashMap<>();
+        for (int i = 0; i < MAX_DISPATCH_BATCH_SIZE; i++) {
+          final PendingMessage message = pendingMessages.poll();
+          if (message == null) {
+            break;
+          }
+          dispatch(message, serializedResults);
+        }
+      }
+    } finally {
+      isDispatching.set(false);
     }
+    // messages submitted after the queue was found empty but before the flag was reset
+    if (!pendingMessages.isEmpty()) {
+      scheduleDispatch();
+    }
+  }
+
+  private void dispatch(
+      final PendingMessage message, final Map<JsonRpcResult, SerializedResult> serializedResults) {
+    final Subscription subscription = message.subscription();
+    if (!subscriptions.containsKey(subscription.getSubscriptionId())) {
+      return;
+    }
+    final SerializedResult result =
+        serializedResults.computeIfAbsent(message.result(), SerializedResult::new);
+    final SubscriptionResponse response = new SubscriptionResponse(subscription, result);
+    vertx.eventBus().send(subscription.getConnectionId(), Json.encode(response));
   }
 
   public <T> void notifySubscribersOnWorkerThread(
@@ -194,4 +288,19 @@ public class SubscriptionManager extends AbstractVerticle implements PrivateTran
                     new UnsubscribeRequest(
                         subscription.getSubscriptionId(), subscription.getConnectionId())));
   }
+
+  private record PendingMessage(Subscription subscription, JsonRpcResult result) {}
+
+  private static final class SerializedResult implements JsonRpcResult {
+    private final RawValue json;
+
+    private SerializedResult(final JsonRpcResult result) {
+      this.json = new RawValue(Json.encode(result));
+    }
+
+    @JsonValue
+    public RawValue getJson() {
+      return json;
+    }
+  }
 }
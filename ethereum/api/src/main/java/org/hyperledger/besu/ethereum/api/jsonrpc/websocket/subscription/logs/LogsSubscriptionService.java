@@ -41,7 +41,7 @@ public class LogsSubscriptionService implements Consumer<LogWithMetadata> {
 
   @Override
   public void accept(final LogWithMetadata logWithMetadata) {
-    subscriptionManager.subscriptionsOfType(SubscriptionType.LOGS, LogsSubscription.class).stream()
+    subscriptionManager.logsSubscriptionsMatching(logWithMetadata).stream()
         .filter(
             logsSubscription -> {
               final FilterParameter filterParameter = logsSubscription.getFilterParameter();
@@ -51,8 +51,7 @@ public class LogsSubscriptionService implements Consumer<LogWithMetadata> {
                           .getNumber()
                           .orElse(BlockHeader.GENESIS_BLOCK_NUMBER)
                       <= blockNumber
-                  && filterParameter.getToBlock().getNumber().orElse(Long.MAX_VALUE) >= blockNumber
-                  && filterParameter.getLogsQuery().matches(logWithMetadata);
+                  && filterParameter.getToBlock().getNumber().orElse(Long.MAX_VALUE) >= blockNumber;
             })
         .forEach(logsSubscription -> sendLogToSubscription(logWithMetadata, logsSubscription));
   }
@@ -463,22 +463,20 @@ public class BlockchainQueries {
         .flatMap(
             header ->
                 blockchain
-                    .getBlockBody(blockHeaderHash)
+                    .getBlockBodyView(blockHeaderHash)
                     .flatMap(
                         body ->
                             blockchain
                                 .getTotalDifficultyByHash(blockHeaderHash)
                                 .map(
                                     td -> {
-                                      final List<Hash> txs =
-                                          body.getTransactions().stream()
-                                              .map(Transaction::getHash)
-                                              .collect(Collectors.toList());
+                                      // only hashes are needed, transactions are not decoded
+                                      final List<Hash> txs = body.getTransactionHashes();
                                       final List<Hash> ommers =
                                           body.getOmmers().stream()
                                               .map(BlockHeader::getHash)
                                               .collect(Collectors.toList());
-                                      final int size = new Block(header, body).calculateSize();
+                                      final int size = body.calculateBlockSize(header);
                                       return new BlockWithMetadata<>(
                                           header, txs, ommers, td, size, body.getWithdrawals());
                                     })));
@@ -0,0 +1,175 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * An index of logs queries, finding the queries matching a log without evaluating all of them.
+ *
+ * <p>Each query is indexed under its addresses or, if it has none, under the topics of its first
+ * topic position without a wildcard. Only the queries indexed under the address or one of the
+ * topics of a log, and the few queries that could not be indexed, are evaluated against the log.
+ *
+ * @param <T> the type of the owners of the queries, like filters or subscriptions
+ */
+public class LogsQueryIndex<T> {
+
+  private record TopicKey(int position, LogTopic topic) {}
+
+  private final Map<T, LogsQuery> queries = new ConcurrentHashMap<>();
+  private final Map<Address, Set<T>> byAddress = new ConcurrentHashMap<>();
+  private final Map<TopicKey, Set<T>> byTopic = new ConcurrentHashMap<>();
+  private final Set<T> unindexed = ConcurrentHashMap.newKeySet();
+
+  /**
+   * Adds a query to the index.
+   *
+   * @param owner the owner of the query
+   * @param query the query
+   */
+  public void add(final T owner, final LogsQuery query) {
+    queries.put(owner, query);
+    if (!query.getAddresses().isEmpty()) {
+      query.getAddresses().stream()
+          .filter(Objects::nonNull)
+          .distinct()
+          .forEach(address -> addTo(byAddress, address, owner));
+      return;
+    }
+    final List<List<LogTopic>> topics = query.getTopics();
+    for (int position = 0; position < topics.size(); position++) {
+      final List<LogTopic> criteria = topics.get(position);
+      if (!criteria.isEmpty() && !criteria.contains(null)) {
+        final int topicPosition = position;
+        new HashSet<>(criteria)
+            .forEach(topic -> addTo(byTopic, new TopicKey(topicPosition, topic), owner));
+        return;
+      }
+    }
+    unindexed.add(owner);
+  }
+
+  /**
+   * Removes the query of an owner from the index, if any.
+   *
+   * @param owner the owner of the query
+   */
+  public void remove(final T owner) {
+    final LogsQuery query = queries.remove(owner);
+    if (query == null) {
+      return;
+    }
+    query.getAddresses().stream()
+        .filter(Objects::nonNull)
+        .forEach(address -> removeFrom(byAddress, address, owner));
+    final List<List<LogTopic>> topics = query.getTopics();
+    for (int position = 0; position < topics.size(); position++) {
+      for (final LogTopic topic : topics.get(position)) {
+        if (topic != null) {
+          removeFrom(byTopic, new TopicKey(position, topic), owner);
+        }
+      }
+    }
+    unindexed.remove(owner);
+  }
+
+  /** Removes all the queries from the index. */
+  public void clear() {
+    queries.clear();
+    byAddress.clear();
+    byTopic.clear();
+    unindexed.clear();
+  }
+
+  /**
+   * Returns the owners of the queries matching a log.
+   *
+   * @param log the log
+   * @return the owners of the matching queries
+   */
+  public List<T> matching(final Log log) {
+    final List<T> matches = new ArrayList<>();
+    addMatches(byAddress.get(log.getLogger()), log, matches);
+    final List<LogTopic> topics = log.getTopics();
+    for (int position = 0; position < topics.size(); position++) {
+      addMatches(byTopic.get(new TopicKey(position, topics.get(position))), log, matches);
+    }
+    addMatches(unindexed, log, matches);
+    return matches;
+  }
+
+  /**
+   * Returns the logs matched by each query, going through the logs only once.
+   *
+   * @param logs the logs, like the logs of a block
+   * @param <L> the type of the logs
+   * @return the matching logs of the owners of the queries matching at least one log, in the order
+   *     of {@code logs}
+   */
+  public <L extends Log> Map<T, List<L>> matchingLogs(final List<L> logs) {
+    final Map<T, List<L>> matchingLogs = new LinkedHashMap<>();
+    for (final L log : logs) {
+      matching(log)
+          .forEach(owner -> matchingLogs.computeIfAbsent(owner, o -> new ArrayList<>()).add(log));
+    }
+    return matchingLogs;
+  }
+
+  private void addMatches(final Collection<T> candidates, final Log log, final List<T> matches) {
+    if (candidates == null) {
+      return;
+    }
+    for (final T candidate : candidates) {
+      // the query may have been removed concurrently
+      final LogsQuery query = queries.get(candidate);
+      if (query != null && query.matches(log)) {
+        matches.add(candidate);
+      }
+    }
+  }
+
+  private static <K, T> void addTo(final Map<K, Set<T>> index, final K key, final T owner) {
+    // added while holding the entry, so it cannot be removed concurrently once empty
+    index.compute(
+        key,
+        (k, owners) -> {
+          final Set<T> updatedOwners = owners == null ? ConcurrentHashMap.newKeySet() : owners;
+          updatedOwners.add(owner);
+          return updatedOwners;
+        });
+  }
+
+  private static <K, T> void removeFrom(final Map<K, Set<T>> index, final K key, final T owner) {
+    index.computeIfPresent(
+        key,
+        (k, owners) -> {
+          owners.remove(owner);
+          return owners.isEmpty() ? null : owners;
+        });
+  }
+}
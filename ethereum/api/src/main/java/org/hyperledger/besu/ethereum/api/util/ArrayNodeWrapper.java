@@ -42,9 +42,7 @@ public class ArrayNodeWrapper {
   }
 
   public void addPOJO(final Object object) {
-    final boolean isValidOffset = maybeAfter.map(after -> currentOffset >= after).orElse(true);
-    final boolean isValidSize = maybeCount.map(count -> count > arrayNode.size()).orElse(true);
-    if (isValidOffset && isValidSize) {
+    if (isInRange()) {
       arrayNode.addPOJO(object);
     }
     currentOffset++;
@@ -53,10 +51,20 @@ public class ArrayNodeWrapper {
   public void addAll(final ArrayNodeWrapper wrapper) {
     final Iterator<JsonNode> elements = wrapper.arrayNode.elements();
     while (!isFull() && elements.hasNext()) {
-      addPOJO(elements.next());
+      final JsonNode element = elements.next();
+      if (isInRange()) {
+        arrayNode.add(element);
+      }
+      currentOffset++;
     }
   }
 
+  private boolean isInRange() {
+    final boolean isValidOffset = maybeAfter.map(after -> currentOffset >= after).orElse(true);
+    final boolean isValidSize = maybeCount.map(count -> count > arrayNode.size()).orElse(true);
+    return isValidOffset && isValidSize;
+  }
+
   public boolean isFull() {
     return maybeCount.map(count -> count <= arrayNode.size()).orElse(false);
   }
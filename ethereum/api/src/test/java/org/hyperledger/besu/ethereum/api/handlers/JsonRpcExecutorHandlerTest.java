@@ -0,0 +1,146 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.handlers;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.RETURNS_SELF;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.JsonRpcConfiguration;
+import org.hyperledger.besu.ethereum.api.jsonrpc.context.ContextKey;
+import org.hyperledger.besu.ethereum.api.jsonrpc.execution.JsonRpcExecutor;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+
+import io.opentelemetry.api.trace.Tracer;
+import io.vertx.core.Future;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.json.JsonArray;
+import io.vertx.core.json.JsonObject;
+import io.vertx.ext.web.RoutingContext;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class JsonRpcExecutorHandlerTest {
+  private static final int BATCH_SIZE = 8;
+
+  private final JsonRpcExecutor jsonRpcExecutor = mock(JsonRpcExecutor.class);
+  private final RoutingContext ctx = mock(RoutingContext.class);
+  private final HttpServerResponse response = mock(HttpServerResponse.class, RETURNS_SELF);
+  private final Buffer written = Buffer.buffer();
+  private final Set<String> executingThreads = ConcurrentHashMap.newKeySet();
+  private final AtomicInteger running = new AtomicInteger();
+  private final AtomicInteger maxRunning = new AtomicInteger();
+
+  @BeforeEach
+  public void setUp() {
+    final JsonArray batch = new JsonArray();
+    for (int i = 0; i < BATCH_SIZE; i++) {
+      batch.add(
+          new JsonObject().put("jsonrpc", "2.0").put("id", i).put("method", "web3_clientVersion"));
+    }
+    when(ctx.data()).thenReturn(Map.of(ContextKey.REQUEST_BODY_AS_JSON_ARRAY.name(), batch));
+    when(ctx.get(ContextKey.REQUEST_BODY_AS_JSON_ARRAY.name())).thenReturn(batch);
+    when(ctx.request()).thenReturn(mock(HttpServerRequest.class));
+    when(ctx.response()).thenReturn(response);
+    when(response.write(any(Buffer.class)))
+        .thenAnswer(
+            invocation -> {
+              written.appendBuffer(invocation.getArgument(0));
+              return Future.succeededFuture();
+            });
+  }
+
+  @Test
+  public void batchRequestsAreExecutedConcurrentlyAndRespondedInOrder() {
+    executeBatch(3, 16);
+
+    assertThat(responseIds()).containsExactlyElementsOf(requestIds());
+    assertThat(maxRunning.get()).isEqualTo(3);
+    assertThat(executingThreads)
+        .contains(Thread.currentThread().getName())
+        .anyMatch(name -> name.startsWith("JsonRpcBatch-"));
+  }
+
+  @Test
+  public void batchRequestsAreBoundedByTheSharedBatchExecutor() {
+    executeBatch(4, 1);
+
+    assertThat(responseIds()).containsExactlyElementsOf(requestIds());
+    // the thread serving the batch and the single thread of the batch executor
+    assertThat(maxRunning.get()).isEqualTo(2);
+    assertThat(executingThreads).hasSize(2);
+  }
+
+  @Test
+  public void batchRequestsAreExecutedSequentiallyByDefault() {
+    executeBatch(JsonRpcConfiguration.DEFAULT_MAX_BATCH_CONCURRENCY, 16);
+
+    assertThat(responseIds()).containsExactlyElementsOf(requestIds());
+    assertThat(maxRunning.get()).isEqualTo(1);
+    assertThat(executingThreads).containsExactly(Thread.currentThread().getName());
+  }
+
+  private void executeBatch(final int maxBatchConcurrency, final int maxConcurrentBatchRequests) {
+    // each request waits for the most requests that can be executed at the same time
+    final CountDownLatch concurrentRequests =
+        new CountDownLatch(Math.min(maxBatchConcurrency, maxConcurrentBatchRequests + 1));
+    when(jsonRpcExecutor.execute(any(), any(), any(), any(), any(), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final JsonObject request = invocation.getArgument(5);
+              final int id = request.getInteger("id");
+              maxRunning.accumulateAndGet(running.incrementAndGet(), Math::max);
+              executingThreads.add(Thread.currentThread().getName());
+              try {
+                concurrentRequests.countDown();
+                concurrentRequests.await(1, TimeUnit.SECONDS);
+                // the first requests are the slowest, so they complete after the next ones
+                Thread.sleep((BATCH_SIZE - id) * 5L);
+              } finally {
+                running.decrementAndGet();
+              }
+              return new JsonRpcSuccessResponse(id, "result" + id);
+            });
+
+    final JsonRpcConfiguration config = JsonRpcConfiguration.createDefault();
+    config.setMaxBatchConcurrency(maxBatchConcurrency);
+    config.setMaxConcurrentBatchRequests(maxConcurrentBatchRequests);
+    JsonRpcExecutorHandler.handler(jsonRpcExecutor, mock(Tracer.class), config).handle(ctx);
+  }
+
+  private List<Integer> requestIds() {
+    return IntStream.range(0, BATCH_SIZE).boxed().toList();
+  }
+
+  private List<Integer> responseIds() {
+    final JsonArray responses = new JsonArray(written);
+    return IntStream.range(0, responses.size())
+        .mapToObj(i -> responses.getJsonObject(i).getInteger("id"))
+        .toList();
+  }
+}
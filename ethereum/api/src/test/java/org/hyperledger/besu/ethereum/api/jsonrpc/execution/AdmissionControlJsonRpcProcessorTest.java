@@ -0,0 +1,246 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.execution;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestId;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.ThreadCpuTime;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods.JsonRpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import io.opentelemetry.api.trace.Span;
+import org.junit.jupiter.api.Test;
+
+public class AdmissionControlJsonRpcProcessorTest {
+
+  private static final String CLIENT = "10.0.0.1";
+  private static final String OTHER_CLIENT = "10.0.0.2";
+
+  private final JsonRpcProcessor delegate = mock(JsonRpcProcessor.class);
+  private final JsonRpcResponse success = new JsonRpcSuccessResponse(id(), "0x1");
+
+  @Test
+  public void rejectsRequestsAboveMethodConcurrencyLimit() {
+    final AdmissionControlJsonRpcProcessor processor =
+        createProcessor(Map.of(), Map.of("debug_traceBlock", 1), 0);
+    final JsonRpcMethod method = method("debug_traceBlock");
+    final AtomicReference<JsonRpcResponse> nestedResponse = new AtomicReference<>();
+    when(delegate.process(any(), eq(method), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (nestedResponse.get() == null) {
+                nestedResponse.set(process(processor, method, CLIENT));
+              }
+              return success;
+            });
+
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+    assertLimitExceeded(nestedResponse.get());
+  }
+
+  @Test
+  public void rejectsRequestsAboveClientBudget() {
+    final AdmissionControlJsonRpcProcessor processor = createClientLimitedProcessor();
+    final JsonRpcMethod method = method("debug_traceBlock");
+    final AtomicReference<JsonRpcResponse> nestedResponse = new AtomicReference<>();
+    when(delegate.process(any(), eq(method), any(), any())).thenAnswer(invocation -> busy());
+    // the first request gives the method a cost above the budget of a client
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+    assertThat(processor.getAverageCostNanos("debug_traceBlock"))
+        .isGreaterThan(TimeUnit.MILLISECONDS.toNanos(1));
+
+    when(delegate.process(any(), eq(method), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (nestedResponse.get() == null) {
+                nestedResponse.set(process(processor, method, CLIENT));
+              }
+              return success;
+            });
+
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+    assertLimitExceeded(nestedResponse.get());
+  }
+
+  @Test
+  public void admitsRequestsOfOtherClients() {
+    final AdmissionControlJsonRpcProcessor processor = createClientLimitedProcessor();
+    final JsonRpcMethod method = method("debug_traceBlock");
+    final AtomicReference<JsonRpcResponse> nestedResponse = new AtomicReference<>();
+    when(delegate.process(any(), eq(method), any(), any())).thenAnswer(invocation -> busy());
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+
+    when(delegate.process(any(), eq(method), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              if (nestedResponse.get() == null) {
+                nestedResponse.set(process(processor, method, OTHER_CLIENT));
+              }
+              return success;
+            });
+
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+    assertThat(nestedResponse.get()).isSameAs(success);
+  }
+
+  @Test
+  public void executesMethodsOfGroupsWithoutLimit() {
+    final AdmissionControlJsonRpcProcessor processor =
+        createProcessor(Map.of("debug", 1), Map.of(), 0);
+    final JsonRpcMethod method = method("eth_blockNumber");
+    when(delegate.process(any(), eq(method), any(), any())).thenReturn(success);
+
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+  }
+
+  @Test
+  public void rejectsRequestsOfSaturatedGroup() {
+    final AdmissionControlJsonRpcProcessor processor =
+        createProcessor(Map.of("debug", 1), Map.of(), 0);
+    final JsonRpcMethod outerMethod = method("debug_traceTransaction");
+    final JsonRpcMethod innerMethod = method("debug_traceBlock");
+    final AtomicReference<JsonRpcResponse> innerResponse = new AtomicReference<>();
+    // the inner request is processed while the outer one holds the only permit of the group
+    when(delegate.process(any(), eq(outerMethod), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              innerResponse.set(process(processor, innerMethod, OTHER_CLIENT));
+              return success;
+            });
+
+    assertThat(process(processor, outerMethod, CLIENT)).isSameAs(success);
+    assertLimitExceeded(innerResponse.get());
+  }
+
+  @Test
+  public void releasesGroupPermitWhenRequestFails() {
+    final AdmissionControlJsonRpcProcessor processor =
+        createProcessor(Map.of("trace", 1), Map.of(), 0);
+    final JsonRpcMethod method = method("trace_block");
+    when(delegate.process(any(), eq(method), any(), any()))
+        .thenThrow(new RuntimeException("failed"))
+        .thenReturn(success);
+
+    assertThatThrownBy(() -> process(processor, method, CLIENT))
+        .isInstanceOf(RuntimeException.class);
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+  }
+
+  @Test
+  public void rejectsNonPositiveGroupLimits() {
+    assertThatThrownBy(() -> createProcessor(Map.of("debug", 0), Map.of(), 0))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  @Test
+  public void accountsCpuTimeOfHelperTasks() {
+    assumeTrue(ThreadCpuTime.isMeasured());
+    final AdmissionControlJsonRpcProcessor processor = createClientLimitedProcessor();
+    final JsonRpcMethod method = method("trace_filter");
+    // the work is done by another thread while the thread processing the request waits
+    when(delegate.process(any(), eq(method), any(), any()))
+        .thenAnswer(
+            invocation -> {
+              final JsonRpcRequestContext request = invocation.getArgument(3);
+              return CompletableFuture.supplyAsync(request.recordingCpuTime(this::busy)).join();
+            });
+
+    assertThat(process(processor, method, CLIENT)).isSameAs(success);
+    assertThat(processor.getAverageCostNanos("trace_filter"))
+        .isGreaterThanOrEqualTo(TimeUnit.MILLISECONDS.toNanos(5));
+  }
+
+  private AdmissionControlJsonRpcProcessor createClientLimitedProcessor() {
+    return createProcessor(Map.of(), Map.of(), 1);
+  }
+
+  private AdmissionControlJsonRpcProcessor createProcessor(
+      final Map<String, Integer> methodGroupConcurrencyLimits,
+      final Map<String, Integer> methodConcurrencyLimits,
+      final long maxClientCostMillis) {
+    return new AdmissionControlJsonRpcProcessor(
+        delegate,
+        methodGroupConcurrencyLimits,
+        methodConcurrencyLimits,
+        maxClientCostMillis,
+        new NoOpMetricsSystem(),
+        "test");
+  }
+
+  // spins for a few milliseconds of CPU and elapsed time, whichever the processor measures
+  private JsonRpcResponse busy() {
+    final ThreadMXBean threadMXBean = ManagementFactory.getThreadMXBean();
+    final long busyNanos = TimeUnit.MILLISECONDS.toNanos(5);
+    final long startTime = System.nanoTime();
+    final boolean cpuTimeMeasured =
+        threadMXBean.isCurrentThreadCpuTimeSupported() && threadMXBean.isThreadCpuTimeEnabled();
+    final long startCpuTime = cpuTimeMeasured ? threadMXBean.getCurrentThreadCpuTime() : 0;
+    while (System.nanoTime() - startTime < busyNanos
+        || (cpuTimeMeasured && threadMXBean.getCurrentThreadCpuTime() - startCpuTime < busyNanos)) {
+      Thread.onSpinWait();
+    }
+    return success;
+  }
+
+  private static JsonRpcResponse process(
+      final AdmissionControlJsonRpcProcessor processor,
+      final JsonRpcMethod method,
+      final String client) {
+    final JsonRpcRequestContext request =
+        new JsonRpcRequestContext(
+            new JsonRpcRequest("2.0", method.getName(), new Object[0]),
+            Optional.empty(),
+            () -> true,
+            Optional.of(client));
+    return processor.process(id(), method, Span.getInvalid(), request);
+  }
+
+  private static void assertLimitExceeded(final JsonRpcResponse response) {
+    assertThat(response).isInstanceOf(JsonRpcErrorResponse.class);
+    assertThat(((JsonRpcErrorResponse) response).getErrorType())
+        .isEqualTo(RpcErrorType.REQUEST_LIMIT_EXCEEDED);
+  }
+
+  private static JsonRpcRequestId id() {
+    return new JsonRpcRequestId(1);
+  }
+
+  private static JsonRpcMethod method(final String name) {
+    final JsonRpcMethod method = mock(JsonRpcMethod.class);
+    when(method.getName()).thenReturn(name);
+    return method;
+  }
+}
@@ -16,8 +16,10 @@ package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -46,6 +48,8 @@ import org.hyperledger.besu.ethereum.transaction.TransactionInvalidReason;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulator;
 import org.hyperledger.besu.ethereum.transaction.TransactionSimulatorResult;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.evm.frame.MessageFrame;
+import org.hyperledger.besu.evm.tracing.EstimateGasOperationTracer;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
 
 import java.util.Optional;
@@ -146,6 +150,57 @@ public class EthEstimateGasTest {
         .isEqualTo(expectedResponse);
   }
 
+  @Test
+  public void shouldReturnTracedEstimateWhenItIsEnough() {
+    final JsonRpcRequestContext request =
+        ethEstimateGasRequest(defaultLegacyTransactionCallParameter(Wei.ZERO));
+    // 64_000 gas used by a sub call needs 64_000 * 65 / 64 = 65_000
+    mockTransientProcessorResultWithSubCall(64_000L, 64_500L);
+
+    final JsonRpcResponse expectedResponse =
+        new JsonRpcSuccessResponse(null, Quantity.create(65_000L));
+
+    Assertions.assertThat(method.response(request))
+        .usingRecursiveComparison()
+        .isEqualTo(expectedResponse);
+    // the traced simulation, the gas used and the traced estimate
+    verify(transactionSimulator, times(3))
+        .process(
+            any(CallParameter.class),
+            any(TransactionValidationParams.class),
+            any(OperationTracer.class),
+            eq(1L));
+  }
+
+  @Test
+  public void shouldBisectUpToGasLimitWhenTracedEstimateIsNotEnough() {
+    final JsonRpcRequestContext request =
+        ethEstimateGasRequest(defaultLegacyTransactionCallParameter(Wei.ZERO));
+    mockTransientProcessorResultWithSubCall(64_000L, 100_000L);
+
+    final JsonRpcResponse expectedResponse =
+        new JsonRpcSuccessResponse(null, Quantity.create(100_000L));
+
+    Assertions.assertThat(method.response(request))
+        .usingRecursiveComparison()
+        .isEqualTo(expectedResponse);
+  }
+
+  @Test
+  public void shouldBisectUpToGasLimitWhenGasUsedAfterRefundsIsNotEnough() {
+    final JsonRpcRequestContext request =
+        ethEstimateGasRequest(defaultLegacyTransactionCallParameter(Wei.ZERO));
+    // the refunds bring the gas used below the gas the transaction needs to run
+    mockTransientProcessorResultWithRefund(21_000L, 25_000L);
+
+    final JsonRpcResponse expectedResponse =
+        new JsonRpcSuccessResponse(null, Quantity.create(25_000L));
+
+    Assertions.assertThat(method.response(request))
+        .usingRecursiveComparison()
+        .isEqualTo(expectedResponse);
+  }
+
   @Test
   public void shouldUseGasPriceParameterWhenIsPresent() {
     final Wei gasPrice = Wei.of(1000);
@@ -428,7 +483,53 @@ public class EthEstimateGasTest {
       final boolean isSuccessful,
       final Wei gasPrice,
       final Optional<Bytes> revertReason) {
-    getMockTransactionSimulatorResult(isSuccessful, estimateGas, gasPrice, revertReason);
+    final TransactionSimulatorResult mockTxSimResult =
+        getMockTransactionSimulatorResult(isSuccessful, estimateGas, gasPrice, revertReason);
+    if (isSuccessful) {
+      // the transaction also succeeds when its gas limit is the gas it used
+      when(transactionSimulator.process(
+              argThat(callParams -> callParams.getGasLimit() == estimateGas),
+              any(TransactionValidationParams.class),
+              any(OperationTracer.class),
+              eq(1L)))
+          .thenReturn(Optional.of(mockTxSimResult));
+    }
+  }
+
+  private void mockTransientProcessorResultWithSubCall(
+      final long estimateGas, final long gasNeeded) {
+    mockTransientProcessorResult(estimateGas, gasNeeded, 1);
+  }
+
+  private void mockTransientProcessorResultWithRefund(
+      final long estimateGas, final long gasNeeded) {
+    mockTransientProcessorResult(estimateGas, gasNeeded, 0);
+  }
+
+  private void mockTransientProcessorResult(
+      final long estimateGas, final long gasNeeded, final int subCallDepth) {
+    final TransactionSimulatorResult successfulResult =
+        getMockTransactionSimulatorResult(true, estimateGas, Wei.ZERO, Optional.empty());
+    final TransactionSimulatorResult failedResult =
+        getMockTransactionSimulatorResult(false, estimateGas, Wei.ZERO, Optional.empty());
+    final MessageFrame subCallFrame = mock(MessageFrame.class);
+    when(subCallFrame.getDepth()).thenReturn(subCallDepth);
+
+    when(transactionSimulator.process(
+            any(CallParameter.class),
+            any(TransactionValidationParams.class),
+            any(OperationTracer.class),
+            eq(1L)))
+        .thenAnswer(
+            invocation -> {
+              if (subCallDepth > 0
+                  && invocation.getArgument(2) instanceof EstimateGasOperationTracer tracer) {
+                tracer.tracePostExecution(subCallFrame, null);
+              }
+              final CallParameter callParams = invocation.getArgument(0);
+              return Optional.of(
+                  callParams.getGasLimit() >= gasNeeded ? successfulResult : failedResult);
+            });
   }
 
   private TransactionSimulatorResult getMockTransactionSimulatorResult(
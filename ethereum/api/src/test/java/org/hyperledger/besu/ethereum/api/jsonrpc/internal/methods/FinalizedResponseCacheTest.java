@@ -0,0 +1,137 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.api.jsonrpc.RpcMethod;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.util.RawValue;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class FinalizedResponseCacheTest {
+
+  private static final String METHOD_NAME = RpcMethod.ETH_GET_BLOCK_BY_NUMBER.getMethodName();
+
+  private final Blockchain blockchain = mock(Blockchain.class);
+  private final JsonRpcMethod method = mock(JsonRpcMethod.class);
+  private final BlockHeader finalizedHeader = new BlockHeaderTestFixture().number(10).buildHeader();
+  private final Hash blockHash = Hash.hash(Hash.ZERO);
+  private JsonRpcMethod cachedMethod;
+
+  @BeforeEach
+  public void setUp() {
+    when(method.getName()).thenReturn(METHOD_NAME);
+    when(method.response(any()))
+        .thenAnswer(
+            invocation ->
+                new JsonRpcSuccessResponse(
+                    invocation.<JsonRpcRequestContext>getArgument(0).getRequest().getId(),
+                    List.of("0x1")));
+    when(blockchain.getFinalized()).thenReturn(Optional.of(finalizedHeader.getHash()));
+    when(blockchain.getBlockHeader(finalizedHeader.getHash()))
+        .thenReturn(Optional.of(finalizedHeader));
+    when(blockchain.getBlockHashByNumber(5)).thenReturn(Optional.of(blockHash));
+    when(blockchain.getBlockHashByNumber(11)).thenReturn(Optional.of(Hash.ZERO));
+
+    cachedMethod =
+        new FinalizedResponseCache(blockchain, 1024 * 1024, new ObjectMapper().writer())
+            .decorate(Map.of(METHOD_NAME, method))
+            .get(METHOD_NAME);
+  }
+
+  @Test
+  public void cachesResultsOfFinalizedBlocks() {
+    cachedMethod.response(request("0x5"));
+    final JsonRpcResponse response = cachedMethod.response(request("0x5"));
+
+    verify(method, times(1)).response(any());
+    assertThat(response).isInstanceOf(JsonRpcSuccessResponse.class);
+    final JsonRpcSuccessResponse successResponse = (JsonRpcSuccessResponse) response;
+    assertThat(successResponse.getResult()).isEqualTo(new RawValue("[\"0x1\"]"));
+  }
+
+  @Test
+  public void serializesResultsWithWriterOfService() {
+    final JsonRpcMethod prettyMethod =
+        new FinalizedResponseCache(
+                blockchain, 1024 * 1024, new ObjectMapper().writerWithDefaultPrettyPrinter())
+            .decorate(Map.of(METHOD_NAME, method))
+            .get(METHOD_NAME);
+
+    prettyMethod.response(request("0x5"));
+    final JsonRpcResponse response = prettyMethod.response(request("0x5"));
+
+    verify(method, times(1)).response(any());
+    assertThat(((JsonRpcSuccessResponse) response).getResult())
+        .isEqualTo(new RawValue("[ \"0x1\" ]"));
+  }
+
+  @Test
+  public void doesNotCacheResultsOfBlocksThatAreNotFinalized() {
+    cachedMethod.response(request("0xb"));
+    cachedMethod.response(request("0xb"));
+
+    verify(method, times(2)).response(any());
+  }
+
+  @Test
+  public void bypassesCacheForBlockTags() {
+    cachedMethod.response(request("latest"));
+    cachedMethod.response(request("latest"));
+
+    verify(method, times(2)).response(any());
+  }
+
+  @Test
+  public void doesNotReturnResultsOfBlocksNoLongerCanonical() {
+    cachedMethod.response(request("0x5"));
+    when(blockchain.getBlockHashByNumber(5)).thenReturn(Optional.of(Hash.ZERO));
+    cachedMethod.response(request("0x5"));
+
+    verify(method, times(2)).response(any());
+  }
+
+  @Test
+  public void keepsPermissionsOfDecoratedMethod() {
+    when(method.getPermissions()).thenReturn(List.of("eth:blockNumber"));
+
+    assertThat(cachedMethod.getPermissions()).containsExactly("eth:blockNumber");
+  }
+
+  private static JsonRpcRequestContext request(final String blockParameter) {
+    return new JsonRpcRequestContext(
+        new JsonRpcRequest("2.0", METHOD_NAME, new Object[] {blockParameter, false}));
+  }
+}
@@ -15,6 +15,12 @@
 package org.hyperledger.besu.ethereum.api.jsonrpc.internal.methods;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.JsonRpcRequestContext;
@@ -23,12 +29,29 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.parameters.FilterParam
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor.BlockTracer;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcErrorResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.JsonRpcSuccessResponse;
 import org.hyperledger.besu.ethereum.api.jsonrpc.internal.response.RpcErrorType;
 import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.api.util.ArrayNodeWrapper;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator.BlockOptions;
+import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.BooleanSupplier;
 import java.util.function.Supplier;
+import java.util.stream.LongStream;
 
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.POJONode;
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvSource;
@@ -38,11 +61,17 @@ import org.mockito.junit.jupiter.MockitoExtension;
 @ExtendWith(MockitoExtension.class)
 public class TraceFilterTest {
 
+  private static final long BLOCK_COUNT = 48;
+
   private TraceFilter method;
 
   @Mock Supplier<BlockTracer> blockTracerSupplier;
   @Mock ProtocolSchedule protocolSchedule;
   @Mock BlockchainQueries blockchainQueries;
+  @Mock Blockchain blockchain;
+  @Mock EthScheduler ethScheduler;
+
+  private final BlockDataGenerator blockDataGenerator = new BlockDataGenerator();
 
   @ParameterizedTest
   @CsvSource({
@@ -76,4 +105,142 @@ public class TraceFilterTest {
     final JsonRpcErrorResponse errorResponse = (JsonRpcErrorResponse) response;
     assertThat(errorResponse.getErrorType()).isEqualTo(RpcErrorType.EXCEEDS_RPC_MAX_BLOCK_RANGE);
   }
+
+  @Test
+  public void shouldMergeChunksInBlockOrder() {
+    method = createChunkedTraceFilter();
+    // each chunk runs on its own thread, and the later chunks complete first
+    doAnswer(
+            invocation -> {
+              new Thread(invocation.<Runnable>getArgument(0)).start();
+              return null;
+            })
+        .when(ethScheduler)
+        .executeServiceTask(any());
+    doAnswer(
+            invocation -> {
+              final List<Block> chunk = invocation.getArgument(1);
+              Thread.sleep((BLOCK_COUNT - chunk.get(0).getHeader().getNumber()) * 3);
+              return traceBlockNumbers(chunk, invocation.getArgument(3), () -> false);
+            })
+        .when(method)
+        .traceChunk(any(), any(), any(), any(), any(), any());
+
+    final JsonRpcResponse response = method.response(request(null, null));
+
+    assertThat(tracedBlockNumbers(response))
+        .containsExactlyElementsOf(LongStream.rangeClosed(1, BLOCK_COUNT).boxed().toList());
+    verify(method, times(3)).traceChunk(any(), any(), any(), any(), any(), any());
+  }
+
+  @Test
+  public void shouldApplyAfterAndCountAcrossChunks() {
+    method = createChunkedTraceFilter();
+    doAnswer(
+            invocation -> {
+              invocation.<Runnable>getArgument(0).run();
+              return null;
+            })
+        .when(ethScheduler)
+        .executeServiceTask(any());
+    doAnswer(
+            invocation -> {
+              final List<Block> chunk = invocation.getArgument(1);
+              return traceBlockNumbers(chunk, invocation.getArgument(3), () -> false);
+            })
+        .when(method)
+        .traceChunk(any(), any(), any(), any(), any(), any());
+
+    // the chunks hold the blocks 1 to 16, 17 to 32 and 33 to 48
+    final JsonRpcResponse response = method.response(request(14, 20));
+
+    assertThat(tracedBlockNumbers(response))
+        .containsExactlyElementsOf(LongStream.rangeClosed(15, 34).boxed().toList());
+  }
+
+  @Test
+  public void shouldAbortRemainingChunksOnceResultIsFull() {
+    method = createChunkedTraceFilter();
+    // the first chunk is traced at once, the other ones are queued
+    final AtomicBoolean isFirstChunkStarted = new AtomicBoolean(false);
+    final List<Runnable> queuedChunks = new ArrayList<>();
+    doAnswer(
+            invocation -> {
+              if (isFirstChunkStarted.compareAndSet(false, true)) {
+                invocation.<Runnable>getArgument(0).run();
+              } else {
+                queuedChunks.add(invocation.getArgument(0));
+              }
+              return null;
+            })
+        .when(ethScheduler)
+        .executeServiceTask(any());
+    final AtomicReference<BooleanSupplier> isFirstChunkAborted = new AtomicReference<>();
+    doAnswer(
+            invocation -> {
+              isFirstChunkAborted.compareAndSet(null, invocation.getArgument(5));
+              return traceBlockNumbers(
+                  invocation.getArgument(1), invocation.getArgument(3), invocation.getArgument(5));
+            })
+        .when(method)
+        .traceChunk(any(), any(), any(), any(), any(), any());
+
+    final JsonRpcResponse response = method.response(request(null, 5));
+    assertThat(queuedChunks).hasSize(2);
+    queuedChunks.forEach(Runnable::run);
+
+    assertThat(tracedBlockNumbers(response)).containsExactly(1L, 2L, 3L, 4L, 5L);
+    assertThat(isFirstChunkAborted.get().getAsBoolean()).isTrue();
+    verify(method, times(1)).traceChunk(any(), any(), any(), any(), any(), any());
+  }
+
+  private TraceFilter createChunkedTraceFilter() {
+    when(blockchainQueries.getBlockchain()).thenReturn(blockchain);
+    when(blockchainQueries.getEthScheduler()).thenReturn(Optional.of(ethScheduler));
+    for (long number = 1; number <= BLOCK_COUNT; number++) {
+      final Block block = blockDataGenerator.block(BlockOptions.create().setBlockNumber(number));
+      when(blockchain.getBlockByNumber(number)).thenReturn(Optional.of(block));
+    }
+    return spy(
+        new TraceFilter(
+            blockTracerSupplier, protocolSchedule, blockchainQueries, 0L, 3, Optional.empty()));
+  }
+
+  private static JsonRpcRequestContext request(final Integer after, final Integer count) {
+    final FilterParameter filterParameter =
+        new FilterParameter(
+            new BlockParameter(1),
+            new BlockParameter(BLOCK_COUNT),
+            null,
+            null,
+            null,
+            null,
+            null,
+            after,
+            count);
+    return new JsonRpcRequestContext(
+        new JsonRpcRequest("2.0", "trace_filter", new Object[] {filterParameter}));
+  }
+
+  // each block is traced as its number
+  private static Optional<ArrayNodeWrapper> traceBlockNumbers(
+      final List<Block> chunk,
+      final ArrayNodeWrapper chunkArrayNode,
+      final BooleanSupplier isAborted) {
+    for (final Block block : chunk) {
+      if (isAborted.getAsBoolean()) {
+        break;
+      }
+      chunkArrayNode.addPOJO(block.getHeader().getNumber());
+    }
+    return Optional.of(chunkArrayNode);
+  }
+
+  private static List<Object> tracedBlockNumbers(final JsonRpcResponse response) {
+    assertThat(response).isInstanceOf(JsonRpcSuccessResponse.class);
+    final ArrayNode result = (ArrayNode) ((JsonRpcSuccessResponse) response).getResult();
+    final List<Object> blockNumbers = new ArrayList<>();
+    result.forEach(node -> blockNumbers.add(((POJONode) node).getPojo()));
+    return blockNumbers;
+  }
 }
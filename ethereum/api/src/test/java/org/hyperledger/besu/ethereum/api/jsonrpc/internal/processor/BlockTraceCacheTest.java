@@ -0,0 +1,94 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.jsonrpc.internal.processor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.api.query.BlockchainQueries;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.mainnet.ProtocolSchedule;
+import org.hyperledger.besu.ethereum.vm.DebugOperationTracer;
+
+import java.util.Collections;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class BlockTraceCacheTest {
+
+  @Mock private BlockTracer blockTracer;
+  @Mock private ProtocolSchedule protocolSchedule;
+  @Mock private BlockchainQueries blockchainQueries;
+
+  private final BlockDataGenerator blockDataGenerator = new BlockDataGenerator();
+  private final Block block = blockDataGenerator.block();
+  private BlockTraceCache blockTraceCache;
+
+  @BeforeEach
+  public void setUp() {
+    when(blockchainQueries.getAndMapWorldState(eq(block.getHeader().getParentHash()), any()))
+        .thenAnswer(
+            invocation ->
+                invocation
+                    .<Function<MutableWorldState, Optional<?>>>getArgument(1)
+                    .apply(mock(MutableWorldState.class)));
+    when(blockTracer.trace(
+            any(Tracer.TraceableState.class), eq(block), any(DebugOperationTracer.class)))
+        .thenReturn(Optional.of(new BlockTrace(Collections.emptyList())));
+    blockTraceCache =
+        new BlockTraceCache(() -> blockTracer, protocolSchedule, blockchainQueries, 1);
+  }
+
+  @Test
+  public void shouldReplayBlockOnlyOnce() {
+    assertThat(blockTraceCache.getCachedTransactionTraces(block)).isEmpty();
+
+    assertThat(blockTraceCache.getTransactionTraces(block)).contains(Collections.emptyList());
+    assertThat(blockTraceCache.getTransactionTraces(block)).contains(Collections.emptyList());
+    assertThat(blockTraceCache.getCachedTransactionTraces(block)).contains(Collections.emptyList());
+
+    verify(blockTracer, times(1)).trace(any(Tracer.TraceableState.class), eq(block), any());
+  }
+
+  @Test
+  public void shouldNotCacheTracesOfBlocksWhoseStateIsUnavailable() {
+    final Block unavailableBlock = blockDataGenerator.block();
+    when(blockchainQueries.getAndMapWorldState(
+            eq(unavailableBlock.getHeader().getParentHash()), any()))
+        .thenReturn(Optional.empty());
+
+    assertThat(blockTraceCache.getTransactionTraces(unavailableBlock)).isEmpty();
+    assertThat(blockTraceCache.getTransactionTraces(unavailableBlock)).isEmpty();
+    assertThat(blockTraceCache.getCachedTransactionTraces(unavailableBlock)).isEmpty();
+    assertThat(blockTraceCache.getTransactionTraces(block)).contains(Collections.emptyList());
+
+    verify(blockchainQueries, times(2))
+        .getAndMapWorldState(eq(unavailableBlock.getHeader().getParentHash()), any());
+  }
+}
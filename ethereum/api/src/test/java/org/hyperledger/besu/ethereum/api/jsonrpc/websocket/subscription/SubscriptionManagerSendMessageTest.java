@@ -14,6 +14,7 @@
  */
 package org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription;
 
+import static org.assertj.core.api.Assertions.assertThat;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.Mockito.mock;
 
@@ -21,13 +22,20 @@ import org.hyperledger.besu.ethereum.api.jsonrpc.internal.results.JsonRpcResult;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscribeRequest;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.request.SubscriptionType;
 import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.response.SubscriptionResponse;
+import org.hyperledger.besu.ethereum.api.jsonrpc.websocket.subscription.syncing.NotSynchronisingResult;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 
+import com.fasterxml.jackson.annotation.JsonValue;
 import io.vertx.core.Vertx;
 import io.vertx.core.json.Json;
+import io.vertx.junit5.Checkpoint;
 import io.vertx.junit5.VertxExtension;
 import io.vertx.junit5.VertxTestContext;
 import org.junit.jupiter.api.Assertions;
@@ -40,6 +48,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 public class SubscriptionManagerSendMessageTest {
 
   private static final int VERTX_AWAIT_TIMEOUT_MILLIS = 10000;
+  private static final int SUBSCRIPTION_COUNT = 3;
 
   private Vertx vertx;
   private VertxTestContext testContext;
@@ -82,6 +91,45 @@ public class SubscriptionManagerSendMessageTest {
     testContext.awaitCompletion(VERTX_AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
   }
 
+  @Test
+  public void shouldSendTheSameResultToAllTheSubscriptions() throws InterruptedException {
+    // wait for the subscription manager to be deployed
+    testContext.awaitCompletion(VERTX_AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+    final VertxTestContext sendContext = new VertxTestContext();
+    final CountingResult result = new CountingResult(new NotSynchronisingResult());
+    final Checkpoint received = sendContext.checkpoint(SUBSCRIPTION_COUNT);
+    final List<Long> subscriptionIds = new ArrayList<>();
+    for (int i = 0; i < SUBSCRIPTION_COUNT; i++) {
+      final String connectionId = UUID.randomUUID().toString();
+      final Long subscriptionId =
+          subscriptionManager.subscribe(
+              new SubscribeRequest(SubscriptionType.SYNCING, null, null, connectionId));
+      subscriptionIds.add(subscriptionId);
+      final String expectedResponse =
+          Json.encode(
+              new SubscriptionResponse(
+                  subscriptionManager.getSubscriptionById(subscriptionId),
+                  new NotSynchronisingResult()));
+      vertx
+          .eventBus()
+          .consumer(connectionId)
+          .handler(
+              msg -> {
+                sendContext.verify(() -> assertEquals(expectedResponse, msg.body()));
+                received.flag();
+              });
+    }
+
+    subscriptionIds.forEach(
+        subscriptionId -> subscriptionManager.sendMessage(subscriptionId, result));
+    result.isSubmitted.countDown();
+
+    assertThat(sendContext.awaitCompletion(VERTX_AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS))
+        .isTrue();
+    assertThat(sendContext.failed()).isFalse();
+    assertThat(result.encodingCount.get()).isEqualTo(1);
+  }
+
   @Test
   public void shouldNotSendMessageOnTheConnectionIdEventBusAddressForAbsentSubscription()
       throws InterruptedException {
@@ -102,4 +150,23 @@ public class SubscriptionManagerSendMessageTest {
 
     testContext.awaitCompletion(VERTX_AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
   }
+
+  /** Serializes as the wrapped result, counting how many times it is encoded. */
+  private static final class CountingResult implements JsonRpcResult {
+    private final JsonRpcResult result;
+    private final AtomicInteger encodingCount = new AtomicInteger();
+    private final CountDownLatch isSubmitted = new CountDownLatch(1);
+
+    private CountingResult(final JsonRpcResult result) {
+      this.result = result;
+    }
+
+    @JsonValue
+    public JsonRpcResult getResult() throws InterruptedException {
+      encodingCount.incrementAndGet();
+      // the first message waits for the other ones, so they are all dispatched in the same batch
+      isSubmitted.await(VERTX_AWAIT_TIMEOUT_MILLIS, TimeUnit.MILLISECONDS);
+      return result;
+    }
+  }
 }
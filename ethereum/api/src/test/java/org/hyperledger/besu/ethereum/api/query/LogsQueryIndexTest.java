@@ -0,0 +1,78 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.query;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.evm.log.Log;
+import org.hyperledger.besu.evm.log.LogTopic;
+
+import java.util.Arrays;
+import java.util.List;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+public class LogsQueryIndexTest {
+
+  private static final Address FIRST_ADDRESS = Address.fromHexString("0x1");
+  private static final Address SECOND_ADDRESS = Address.fromHexString("0x2");
+  private static final LogTopic FIRST_TOPIC =
+      LogTopic.fromHexString("ddf252ad1be2c89b69c2b068fc378daa952ba7f163c4a11628f55a4df523b3ef");
+  private static final LogTopic SECOND_TOPIC =
+      LogTopic.fromHexString("0000000000000000000000008320fe7702b96808f7bbc0d4a888ed1468216cfd");
+
+  private final LogsQueryIndex<String> index = new LogsQueryIndex<>();
+
+  @Test
+  public void matchesQueriesIndexedByAddressTopicOrNeither() {
+    index.add("address", new LogsQuery(List.of(FIRST_ADDRESS), List.of(List.of(FIRST_TOPIC))));
+    index.add(
+        "secondTopic",
+        new LogsQuery(List.of(), List.of(Arrays.asList(FIRST_TOPIC, null), List.of(SECOND_TOPIC))));
+    index.add("all", new LogsQuery(List.of(), List.of()));
+
+    final Log log = new Log(FIRST_ADDRESS, Bytes.EMPTY, List.of(FIRST_TOPIC, SECOND_TOPIC));
+    assertThat(index.matching(log)).containsExactlyInAnyOrder("address", "secondTopic", "all");
+
+    final Log otherLog = new Log(SECOND_ADDRESS, Bytes.EMPTY, List.of(SECOND_TOPIC, FIRST_TOPIC));
+    assertThat(index.matching(otherLog)).containsExactly("all");
+  }
+
+  @Test
+  public void doesNotMatchRemovedQueries() {
+    index.add("address", new LogsQuery(List.of(FIRST_ADDRESS, FIRST_ADDRESS), List.of()));
+    index.add("topic", new LogsQuery(List.of(), List.of(List.of(FIRST_TOPIC))));
+    index.remove("address");
+    index.remove("topic");
+
+    assertThat(index.matching(new Log(FIRST_ADDRESS, Bytes.EMPTY, List.of(FIRST_TOPIC)))).isEmpty();
+  }
+
+  @Test
+  public void groupsMatchingLogsByQueryInLogOrder() {
+    index.add("first", new LogsQuery(List.of(FIRST_ADDRESS), List.of()));
+    index.add("second", new LogsQuery(List.of(SECOND_ADDRESS), List.of()));
+    final Log firstLog = new Log(FIRST_ADDRESS, Bytes.EMPTY, List.of());
+    final Log secondLog = new Log(SECOND_ADDRESS, Bytes.EMPTY, List.of());
+    final Log thirdLog = new Log(FIRST_ADDRESS, Bytes.of(1), List.of());
+
+    assertThat(index.matchingLogs(List.of(firstLog, secondLog, thirdLog)))
+        .containsOnlyKeys("first", "second")
+        .containsEntry("first", List.of(firstLog, thirdLog))
+        .containsEntry("second", List.of(secondLog));
+  }
+}
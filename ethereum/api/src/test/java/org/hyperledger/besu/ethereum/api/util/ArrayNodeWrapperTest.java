@@ -0,0 +1,48 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.api.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+public class ArrayNodeWrapperTest {
+
+  private final ObjectMapper mapper = new ObjectMapper();
+
+  @Test
+  public void addAllAppliesAfterAndCountAcrossWrappers() {
+    final ArrayNodeWrapper result =
+        new ArrayNodeWrapper(mapper.createArrayNode(), Optional.of(3), Optional.of(4));
+    final ArrayNodeWrapper first = new ArrayNodeWrapper(mapper.createArrayNode());
+    IntStream.range(0, 5).forEach(first::addPOJO);
+    final ArrayNodeWrapper second = new ArrayNodeWrapper(mapper.createArrayNode());
+    IntStream.range(5, 10).forEach(second::addPOJO);
+
+    result.addAll(first);
+    assertThat(result.isFull()).isFalse();
+    result.addAll(second);
+
+    assertThat(result.isFull()).isTrue();
+    assertThat(result.getArrayNode())
+        .extracting(JsonNode::toString)
+        .containsExactly("3", "4", "5", "6");
+  }
+}
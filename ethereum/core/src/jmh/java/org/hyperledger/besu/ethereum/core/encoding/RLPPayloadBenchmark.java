@@ -0,0 +1,214 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core.encoding;
+
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
+import org.hyperledger.besu.ethereum.core.Transaction;
+import org.hyperledger.besu.ethereum.core.TransactionReceipt;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.BufferedRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPOutput;
+import org.hyperledger.besu.ethereum.trie.Node;
+import org.hyperledger.besu.ethereum.trie.patricia.SimpleMerklePatriciaTrie;
+import org.hyperledger.besu.ethereum.trie.patricia.TrieNodeDecoder;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.function.Function;
+
+import com.google.common.io.Resources;
+import org.apache.tuweni.bytes.Bytes;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+/**
+ * Encodes and decodes realistic payloads, built from a recorded mainnet block, through the RLP
+ * inputs and outputs. Allocation rates can be reported by running with the GC profiler, for
+ * instance: {@code gradle :ethereum:core:jmh -Pinclude=RLPPayloadBenchmark -Pprof=gc}.
+ */
+@State(Scope.Thread)
+public class RLPPayloadBenchmark {
+  // mainnet block 4,400,001, one of the first Byzantium blocks, only has legacy transactions
+  private static final Block MAINNET_BLOCK = loadMainnetBlock();
+
+  private static final Bytes EIP1559_TRANSACTION_RLP =
+      Bytes.fromHexString(
+          "0xb8a902f8a686796f6c6f7632800285012a05f20082753094000000000000000000000000000000000000aaaa8080f838f794000000000000000000000000000000000000aaaae1a0000000000000000000000000000000000000000000000000000000000000000001a00c1d69648e348fe26155b45de45004f0e4195f6352d8f0935bc93e98a3e2a862a060064e5b9765c0ac74223b0cf49635c59ae0faf82044fd17bcc68a549ade6f95");
+
+  /** The payloads that can be benchmarked. */
+  public enum Payload {
+    /** A full block with its header, transactions and ommers. */
+    BLOCK(
+        () -> RLP.encode(MAINNET_BLOCK::writeTo),
+        bytes -> Block.readFrom(RLP.input(bytes), new MainnetBlockHeaderFunctions()),
+        (block, out) -> ((Block) block).writeTo(out)),
+    /** The network encoding of the receipts of a block. */
+    RECEIPTS(
+        () ->
+            RLP.encode(
+                out ->
+                    out.writeList(
+                        new BlockDataGenerator().receipts(MAINNET_BLOCK),
+                        TransactionReceipt::writeToForNetwork)),
+        bytes -> RLP.input(bytes).readList(in -> TransactionReceipt.readFrom(in, false)),
+        (receipts, out) ->
+            out.writeList(receipts(receipts), TransactionReceipt::writeToForNetwork)),
+    /** The root node of the transactions trie of a block. */
+    TRIE_NODE(
+        RLPPayloadBenchmark::transactionsTrieRootNode,
+        bytes -> TrieNodeDecoder.decode(Bytes.EMPTY, bytes),
+        (node, out) -> writeBranchNode(node(node), out)),
+    /** A legacy transaction, as found in a block body. */
+    LEGACY_TRANSACTION(
+        () -> RLP.encode(MAINNET_BLOCK.getBody().getTransactions().get(0)::writeTo),
+        Transaction::readFrom,
+        (transaction, out) -> ((Transaction) transaction).writeTo(out)),
+    /** An EIP-1559 transaction, as found in a block body. */
+    EIP1559_TRANSACTION(
+        () -> EIP1559_TRANSACTION_RLP,
+        Transaction::readFrom,
+        (transaction, out) -> ((Transaction) transaction).writeTo(out)),
+    /** A blob transaction, as found in a block body, so without the blobs. */
+    BLOB_TRANSACTION(
+        () -> RLP.encode(new BlockDataGenerator().transaction(TransactionType.BLOB)::writeTo),
+        Transaction::readFrom,
+        (transaction, out) -> ((Transaction) transaction).writeTo(out));
+
+    private final PayloadSupplier encoded;
+    private final Function<Bytes, Object> decoder;
+    private final PayloadWriter writer;
+
+    Payload(
+        final PayloadSupplier encoded,
+        final Function<Bytes, Object> decoder,
+        final PayloadWriter writer) {
+      this.encoded = encoded;
+      this.decoder = decoder;
+      this.writer = writer;
+    }
+  }
+
+  /** The RLP outputs that can be used for encoding. */
+  public enum Output {
+    /** {@link BytesValueRLPOutput} */
+    BYTES_VALUE,
+    /** {@link BufferedRLPOutput} */
+    BUFFERED
+  }
+
+  @FunctionalInterface
+  private interface PayloadSupplier {
+    Bytes get();
+  }
+
+  @FunctionalInterface
+  private interface PayloadWriter {
+    void write(Object decoded, RLPOutput out);
+  }
+
+  /** The output used by the encoding benchmark, so only that benchmark runs once per output. */
+  @State(Scope.Thread)
+  public static class EncodeState {
+    @Param public Output output;
+  }
+
+  @Param public Payload payload;
+
+  private Bytes encoded;
+  private Object decoded;
+
+  @Setup
+  public void setUp() {
+    encoded = payload.encoded.get();
+    decoded = payload.decoder.apply(encoded);
+  }
+
+  @Benchmark
+  public Object decode() {
+    return payload.decoder.apply(encoded);
+  }
+
+  @Benchmark
+  public Bytes encode(final EncodeState encodeState) {
+    return switch (encodeState.output) {
+      case BYTES_VALUE -> {
+        final BytesValueRLPOutput out = new BytesValueRLPOutput();
+        payload.writer.write(decoded, out);
+        yield out.encoded();
+      }
+      case BUFFERED -> BufferedRLPOutput.encode(out -> payload.writer.write(decoded, out));
+    };
+  }
+
+  @Benchmark
+  public Bytes validate() {
+    // walks the whole structure through BytesValueRLPInput without building any object
+    RLP.validate(encoded);
+    return encoded;
+  }
+
+  private static Block loadMainnetBlock() {
+    try {
+      final Bytes rlp =
+          Bytes.wrap(
+              Resources.toByteArray(
+                  RLPPayloadBenchmark.class.getResource(
+                      "/org/hyperledger/besu/ethereum/mainnet/block_4400001.blocks")));
+      return Block.readFrom(RLP.input(rlp), new MainnetBlockHeaderFunctions());
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  private static Bytes transactionsTrieRootNode() {
+    final SimpleMerklePatriciaTrie<Bytes, Bytes> trie =
+        new SimpleMerklePatriciaTrie<>(Function.identity());
+    final List<Transaction> transactions = MAINNET_BLOCK.getBody().getTransactions();
+    for (int i = 0; i < transactions.size(); i++) {
+      trie.put(indexKey(i), RLP.encode(transactions.get(i)::writeTo));
+    }
+    // the first node of any proof is the root node
+    return trie.getValueWithProof(indexKey(0)).getProofRelatedNodes().get(0);
+  }
+
+  private static Bytes indexKey(final int index) {
+    return RLP.encode(out -> out.writeIntScalar(index));
+  }
+
+  private static void writeBranchNode(final Node<Bytes> node, final RLPOutput out) {
+    out.startList();
+    node.getChildren().forEach(child -> out.writeRaw(child.getEncodedBytesRef()));
+    node.getValue().ifPresentOrElse(out::writeBytes, out::writeNull);
+    out.endList();
+  }
+
+  @SuppressWarnings("unchecked")
+  private static List<TransactionReceipt> receipts(final Object decoded) {
+    return (List<TransactionReceipt>) decoded;
+  }
+
+  @SuppressWarnings("unchecked")
+  private static Node<Bytes> node(final Object decoded) {
+    return (Node<Bytes>) decoded;
+  }
+}
@@ -24,6 +24,7 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.chain.BlockchainStorage.Updater;
 import org.hyperledger.besu.ethereum.core.Block;
 import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockBodyView;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockWithReceipts;
 import org.hyperledger.besu.ethereum.core.Difficulty;
@@ -322,6 +323,14 @@ public class DefaultBlockchain implements MutableBlockchain {
         .orElseGet(() -> blockchainStorage.getBlockBody(blockHeaderHash));
   }
 
+  @Override
+  public Optional<BlockBodyView> getBlockBodyView(final Hash blockHeaderHash) {
+    return blockBodiesCache
+        .flatMap(cache -> Optional.ofNullable(cache.getIfPresent(blockHeaderHash)))
+        .map(BlockBodyView::of)
+        .or(() -> blockchainStorage.getBlockBodyView(blockHeaderHash));
+  }
+
   @Override
   public Optional<List<TransactionReceipt>> getTxReceipts(final Hash blockHeaderHash) {
     return transactionReceiptsCache
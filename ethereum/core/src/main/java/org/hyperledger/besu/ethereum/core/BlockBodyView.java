@@ -0,0 +1,273 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Function;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A read only view over the RLP encoding of a block body, as it is stored and sent on the wire
+ * ([[txs],[ommers],[withdrawals],[deposits],[exits]]).
+ *
+ * <p>Nothing is decoded when the view is created. The section boundaries, and then the transaction
+ * boundaries, are only located the first time they are needed, and the actual fields are decoded
+ * on access. This allows to serve the stored bytes as is, and to compute the transaction hashes
+ * directly from their encoding, without materializing a full {@link BlockBody}.
+ *
+ * <p>A view created from an already decoded body works the other way around: its fields are served
+ * from the body, and the body is only encoded if its RLP is requested.
+ */
+public class BlockBodyView {
+  private static final int TRANSACTIONS_SECTION = 0;
+  private static final int OMMERS_SECTION = 1;
+  private static final int WITHDRAWALS_SECTION = 2;
+  private static final int DEPOSITS_SECTION = 3;
+  private static final int EXITS_SECTION = 4;
+
+  private final BlockHeaderFunctions blockHeaderFunctions;
+  // the lazily computed fields below are idempotent, racing threads compute the same value
+  private volatile Bytes rlp;
+  private volatile List<Bytes> sections;
+  private volatile List<Bytes> transactions;
+  private volatile BlockBody body;
+
+  private BlockBodyView(
+      final Bytes rlp, final BlockHeaderFunctions blockHeaderFunctions, final BlockBody body) {
+    this.rlp = rlp;
+    this.blockHeaderFunctions = blockHeaderFunctions;
+    this.body = body;
+  }
+
+  /**
+   * Creates a view over an RLP encoded block body, wrapped in a list. The encoding is not parsed
+   * until some field is accessed.
+   *
+   * @param rlp the RLP encoded block body
+   * @param blockHeaderFunctions the block header functions used to decode the ommers
+   * @return the view over the block body
+   */
+  public static BlockBodyView wrap(
+      final Bytes rlp, final BlockHeaderFunctions blockHeaderFunctions) {
+    return new BlockBodyView(rlp, blockHeaderFunctions, null);
+  }
+
+  /**
+   * Creates a view over an already decoded block body. Accessing the fields of the view returns the
+   * ones of the provided body, nothing is decoded again, and the body is only encoded if {@link
+   * #getRlp()} is called.
+   *
+   * @param body the block body
+   * @return the view over the block body
+   */
+  public static BlockBodyView of(final BlockBody body) {
+    return new BlockBodyView(null, null, body);
+  }
+
+  /**
+   * Returns the RLP encoding of the block body, wrapped in a list.
+   *
+   * @return the RLP encoded block body
+   */
+  public Bytes getRlp() {
+    Bytes encoded = rlp;
+    if (encoded == null) {
+      encoded = RLP.encode(body::writeWrappedBodyTo);
+      rlp = encoded;
+    }
+    return encoded;
+  }
+
+  /**
+   * Returns the number of transactions of the block.
+   *
+   * @return the number of transactions
+   */
+  public int getTransactionCount() {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getTransactions().size();
+    }
+    return transactions().size();
+  }
+
+  /**
+   * Returns the hashes of the transactions of the block, computed from their encoding.
+   *
+   * @return the transaction hashes
+   */
+  public List<Hash> getTransactionHashes() {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getTransactions().stream().map(Transaction::getHash).toList();
+    }
+    return transactions().stream().map(BlockBodyView::transactionHash).toList();
+  }
+
+  /**
+   * Decodes a single transaction of the block.
+   *
+   * @param index the index of the transaction in the block
+   * @return the decoded transaction
+   */
+  public Transaction getTransaction(final int index) {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getTransactions().get(index);
+    }
+    return Transaction.readFrom(transactions().get(index));
+  }
+
+  /**
+   * Decodes the ommers of the block.
+   *
+   * @return the ommers
+   */
+  public List<BlockHeader> getOmmers() {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getOmmers();
+    }
+    return RLP.input(sections().get(OMMERS_SECTION))
+        .readList(input -> BlockHeader.readFrom(input, blockHeaderFunctions));
+  }
+
+  /**
+   * Decodes the withdrawals of the block.
+   *
+   * @return the withdrawals, if the block has any
+   */
+  public Optional<List<Withdrawal>> getWithdrawals() {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getWithdrawals();
+    }
+    return readOptionalSection(WITHDRAWALS_SECTION, Withdrawal::readFrom);
+  }
+
+  /**
+   * Decodes the deposits of the block.
+   *
+   * @return the deposits, if the block has any
+   */
+  public Optional<List<Deposit>> getDeposits() {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getDeposits();
+    }
+    return readOptionalSection(DEPOSITS_SECTION, Deposit::readFrom);
+  }
+
+  /**
+   * Decodes the validator exits of the block.
+   *
+   * @return the exits, if the block has any
+   */
+  public Optional<List<ValidatorExit>> getExits() {
+    final BlockBody decoded = body;
+    if (decoded != null) {
+      return decoded.getExits();
+    }
+    return readOptionalSection(EXITS_SECTION, ValidatorExit::readFrom);
+  }
+
+  /**
+   * Computes the size of the RLP encoding of the block made of the provided header and this body,
+   * without encoding the body again.
+   *
+   * @param header the header of the block
+   * @return the size of the encoded block
+   */
+  public int calculateBlockSize(final BlockHeader header) {
+    final BytesValueRLPOutput out = new BytesValueRLPOutput();
+    out.startList();
+    header.writeTo(out);
+    final BlockBody decoded = body;
+    if (rlp == null && decoded != null) {
+      decoded.writeTo(out);
+    } else {
+      sections().forEach(out::writeRaw);
+    }
+    out.endList();
+    return out.encodedSize();
+  }
+
+  /**
+   * Fully decodes the block body. The result is kept, so it is only decoded once.
+   *
+   * @return the decoded block body
+   */
+  public BlockBody decode() {
+    BlockBody decoded = body;
+    if (decoded == null) {
+      decoded = BlockBody.readWrappedBodyFrom(RLP.input(rlp), blockHeaderFunctions);
+      body = decoded;
+    }
+    return decoded;
+  }
+
+  private <T> Optional<List<T>> readOptionalSection(
+      final int section, final Function<RLPInput, T> reader) {
+    final List<Bytes> bodySections = sections();
+    return bodySections.size() > section
+        ? Optional.of(RLP.input(bodySections.get(section)).readList(reader))
+        : Optional.empty();
+  }
+
+  private List<Bytes> sections() {
+    List<Bytes> located = sections;
+    if (located == null) {
+      final RLPInput input = RLP.input(getRlp());
+      input.enterList();
+      located = new ArrayList<>(EXITS_SECTION + 1);
+      while (!input.isEndOfCurrentList()) {
+        located.add(input.readAsRlp().raw());
+      }
+      input.leaveList();
+      sections = located;
+    }
+    return located;
+  }
+
+  private List<Bytes> transactions() {
+    List<Bytes> located = transactions;
+    if (located == null) {
+      final RLPInput input = RLP.input(sections().get(TRANSACTIONS_SECTION));
+      located = new ArrayList<>(input.enterList());
+      while (!input.isEndOfCurrentList()) {
+        located.add(input.readAsRlp().raw());
+      }
+      input.leaveList();
+      transactions = located;
+    }
+    return located;
+  }
+
+  private static Hash transactionHash(final Bytes encodedTransaction) {
+    // typed transactions are wrapped in an RLP string, the hash covers the unwrapped bytes
+    if (RLP.input(encodedTransaction).nextIsList()) {
+      return Hash.hash(encodedTransaction);
+    }
+    return Hash.hash(RLP.input(encodedTransaction).readBytes());
+  }
+}
@@ -44,6 +44,7 @@ import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import org.hyperledger.besu.ethereum.rlp.RLPOutput;
+import org.hyperledger.besu.evm.gascalculator.GasCalculator;
 
 import java.math.BigInteger;
 import java.util.Collection;
@@ -116,6 +117,8 @@ public class Transaction
   protected volatile Hash hash;
   // Caches the size in bytes of the encoded transaction.
   protected volatile int size = -1;
+  // Caches the intrinsic gas cost, together with the gas calculator used to compute it.
+  private volatile IntrinsicGasCost intrinsicGasCost;
   private final TransactionType transactionType;
 
   private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithmFactory.getInstance();
@@ -547,6 +550,24 @@ public class Transaction
     return size;
   }
 
+  /**
+   * Returns the intrinsic gas cost of the transaction payload, as computed by the provided gas
+   * calculator. The result is cached, so validating the transaction when it enters the pool and
+   * executing it during block creation do not need to scan the payload again.
+   *
+   * @param gasCalculator the gas calculator of the fork the transaction is evaluated against
+   * @return the intrinsic gas cost, excluding the access list cost
+   */
+  public long getIntrinsicGasCost(final GasCalculator gasCalculator) {
+    final IntrinsicGasCost cached = intrinsicGasCost;
+    if (cached != null && cached.gasCalculator() == gasCalculator) {
+      return cached.cost();
+    }
+    final long cost = gasCalculator.transactionIntrinsicGasCost(payload, isContractCreation());
+    intrinsicGasCost = new IntrinsicGasCost(gasCalculator, cost);
+    return cost;
+  }
+
   private void memoizeHashAndSize() {
     final Bytes bytes = TransactionEncoder.encodeOpaqueBytes(this, EncodingContext.BLOCK_BODY);
     hash = Hash.hash(bytes);
@@ -1051,6 +1072,7 @@ public class Transaction
     copiedTx.hash = this.hash;
     copiedTx.hashNoSignature = this.hashNoSignature;
     copiedTx.size = this.size;
+    copiedTx.intrinsicGasCost = this.intrinsicGasCost;
 
     return copiedTx;
   }
@@ -1303,4 +1325,6 @@ public class Transaction
       return this;
     }
   }
+
+  private record IntrinsicGasCost(GasCalculator gasCalculator, long cost) {}
 }
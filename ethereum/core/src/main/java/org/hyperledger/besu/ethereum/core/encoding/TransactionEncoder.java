@@ -18,7 +18,6 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import org.hyperledger.besu.datatypes.TransactionType;
 import org.hyperledger.besu.ethereum.core.Transaction;
-import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPOutput;
 
@@ -91,10 +90,11 @@ public class TransactionEncoder {
       return RLP.encode(rlpOutput -> FrontierTransactionEncoder.encode(transaction, rlpOutput));
     } else {
       final Encoder encoder = getEncoder(transactionType, encodingContext);
-      final BytesValueRLPOutput out = new BytesValueRLPOutput();
-      out.writeByte(transaction.getType().getSerializedType());
-      encoder.encode(transaction, out);
-      return out.encoded();
+      return RLP.encode(
+          out -> {
+            out.writeByte(transaction.getType().getSerializedType());
+            encoder.encode(transaction, out);
+          });
     }
   }
 
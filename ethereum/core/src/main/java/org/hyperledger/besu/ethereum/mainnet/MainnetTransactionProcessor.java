@@ -337,9 +337,7 @@ public class MainnetTransactionProcessor {
         addressList.add(miningBeneficiary);
       }
 
-      final long intrinsicGas =
-          gasCalculator.transactionIntrinsicGasCost(
-              transaction.getPayload(), transaction.isContractCreation());
+      final long intrinsicGas = transaction.getIntrinsicGasCost(gasCalculator);
       final long accessListGas =
           gasCalculator.accessListGasCost(accessListEntries.size(), accessListStorageCount);
       final long gasAvailable = transaction.getGasLimit() - intrinsicGas - accessListGas;
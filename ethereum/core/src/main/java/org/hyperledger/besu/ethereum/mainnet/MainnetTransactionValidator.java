@@ -187,8 +187,7 @@ public class MainnetTransactionValidator implements TransactionValidator {
     }
 
     final long intrinsicGasCost =
-        gasCalculator.transactionIntrinsicGasCost(
-                transaction.getPayload(), transaction.isContractCreation())
+        transaction.getIntrinsicGasCost(gasCalculator)
             + (transaction.getAccessList().map(gasCalculator::accessListGasCost).orElse(0L));
     if (Long.compareUnsigned(intrinsicGasCost, transaction.getGasLimit()) > 0) {
       return ValidationResult.invalid(
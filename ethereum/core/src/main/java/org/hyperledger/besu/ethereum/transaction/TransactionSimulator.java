@@ -80,16 +80,37 @@ public class TransactionSimulator {
   private final WorldStateArchive worldStateArchive;
   private final ProtocolSchedule protocolSchedule;
   private final long rpcGasCap;
+  private final Optional<WorldStateViewPool> worldStateViewPool;
 
   public TransactionSimulator(
       final Blockchain blockchain,
       final WorldStateArchive worldStateArchive,
       final ProtocolSchedule protocolSchedule,
       final long rpcGasCap) {
+    this(blockchain, worldStateArchive, protocolSchedule, rpcGasCap, Optional.empty());
+  }
+
+  /**
+   * Creates a simulator running the simulations of the recent blocks on the shared views of a
+   * pool, instead of opening a view of the world state for each simulation.
+   *
+   * @param blockchain the blockchain
+   * @param worldStateArchive the world state archive
+   * @param protocolSchedule the protocol schedule
+   * @param rpcGasCap the gas limit cap of the simulations, 0 for no cap
+   * @param worldStateViewPool the pool of views shared with other simulators, if any
+   */
+  public TransactionSimulator(
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final ProtocolSchedule protocolSchedule,
+      final long rpcGasCap,
+      final Optional<WorldStateViewPool> worldStateViewPool) {
     this.blockchain = blockchain;
     this.worldStateArchive = worldStateArchive;
     this.protocolSchedule = protocolSchedule;
     this.rpcGasCap = rpcGasCap;
+    this.worldStateViewPool = worldStateViewPool;
   }
 
   public Optional<TransactionSimulatorResult> process(
@@ -156,26 +177,60 @@ public class TransactionSimulator {
       return Optional.empty();
     }
 
-    try (final MutableWorldState ws = getWorldState(header)) {
-
-      WorldUpdater updater = getEffectiveWorldStateUpdater(header, ws);
-
-      // in order to trace the state diff we need to make sure that
-      // the world updater always has a parent
-      if (operationTracer instanceof DebugOperationTracer) {
-        updater = updater.parentUpdater().isPresent() ? updater : updater.updater();
+    final Optional<WorldStateViewPool.Lease> maybeLease =
+        worldStateViewPool.flatMap(pool -> pool.acquire(header));
+    if (maybeLease.isPresent()) {
+      try (final WorldStateViewPool.Lease lease = maybeLease.get()) {
+        // the view is shared with concurrent simulations, so changes go to an updater of our own
+        return process(
+            callParams,
+            transactionValidationParams,
+            operationTracer,
+            preWorldStateCloseGuard,
+            header,
+            lease.getWorldState(),
+            lease.createUpdater());
+      } catch (final Exception e) {
+        return Optional.empty();
       }
+    }
 
-      return preWorldStateCloseGuard.apply(
+    try (final MutableWorldState ws = getWorldState(header)) {
+      return process(
+          callParams,
+          transactionValidationParams,
+          operationTracer,
+          preWorldStateCloseGuard,
+          header,
           ws,
-          processWithWorldUpdater(
-              callParams, transactionValidationParams, operationTracer, header, updater));
-
+          getEffectiveWorldStateUpdater(header, ws));
     } catch (final Exception e) {
       return Optional.empty();
     }
   }
 
+  private <U> Optional<U> process(
+      final CallParameter callParams,
+      final TransactionValidationParams transactionValidationParams,
+      final OperationTracer operationTracer,
+      final PreCloseStateHandler<U> preWorldStateCloseGuard,
+      final BlockHeader header,
+      final MutableWorldState ws,
+      final WorldUpdater worldUpdater) {
+    WorldUpdater updater = worldUpdater;
+
+    // in order to trace the state diff we need to make sure that
+    // the world updater always has a parent
+    if (operationTracer instanceof DebugOperationTracer) {
+      updater = updater.parentUpdater().isPresent() ? updater : updater.updater();
+    }
+
+    return preWorldStateCloseGuard.apply(
+        ws,
+        processWithWorldUpdater(
+            callParams, transactionValidationParams, operationTracer, header, updater));
+  }
+
   public Optional<TransactionSimulatorResult> process(
       final CallParameter callParams, final Hash blockHeaderHash) {
     final BlockHeader header = blockchain.getBlockHeader(blockHeaderHash).orElse(null);
@@ -0,0 +1,245 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.transaction;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.BlockAddedObserver;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.trie.diffbased.common.worldview.DiffBasedWorldState;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.base.Suppliers;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+/**
+ * A pool of read-only views of the world state at the chain head and at its most recent ancestors,
+ * shared by concurrent transaction simulations.
+ *
+ * <p>Opening a view of the world state at a block creates a snapshot of the world state storage,
+ * so instead of opening and closing a view for each simulation, the views of the recent blocks are
+ * kept open and shared. A shared view must never be written to: each simulation gets an updater of
+ * its own from its {@link Lease}, which is thrown away once the simulation is done.
+ *
+ * <p>Views are reference counted. Once it has been used, the pool observes the blockchain: when a
+ * new head is added, the views of the blocks that are now too far from the head are removed from
+ * the pool, and are closed once the last simulation using them is done.
+ */
+public class WorldStateViewPool implements BlockAddedObserver {
+  private static final Logger LOG = LoggerFactory.getLogger(WorldStateViewPool.class);
+
+  /** The default number of ancestors of the chain head whose views are pooled. */
+  public static final int DEFAULT_MAX_DISTANCE_FROM_HEAD = 2;
+
+  private final Blockchain blockchain;
+  private final WorldStateArchive worldStateArchive;
+  private final long maxDistanceFromHead;
+  // guarded by this
+  private final Map<Hash, SharedView> views = new HashMap<>();
+  private long lastChainHeadNumber = -1;
+  private boolean observingBlockchain;
+
+  public WorldStateViewPool(
+      final Blockchain blockchain, final WorldStateArchive worldStateArchive) {
+    this(blockchain, worldStateArchive, DEFAULT_MAX_DISTANCE_FROM_HEAD);
+  }
+
+  public WorldStateViewPool(
+      final Blockchain blockchain,
+      final WorldStateArchive worldStateArchive,
+      final int maxDistanceFromHead) {
+    checkArgument(
+        maxDistanceFromHead >= 0,
+        "Max distance from head must not be negative: %s",
+        maxDistanceFromHead);
+    this.blockchain = blockchain;
+    this.worldStateArchive = worldStateArchive;
+    this.maxDistanceFromHead = maxDistanceFromHead;
+  }
+
+  /**
+   * Acquires the shared view of the world state at a block, opening it if it is not pooled yet.
+   * The lease must be closed once the view is not used anymore.
+   *
+   * @param header the header of the block
+   * @return the lease of the view, or empty if the block is too far from the chain head to be
+   *     pooled or if its world state is not available
+   */
+  public Optional<Lease> acquire(final BlockHeader header) {
+    final SharedView view;
+    synchronized (this) {
+      if (!observingBlockchain) {
+        blockchain.observeBlockAdded(this);
+        observingBlockchain = true;
+      }
+      final long chainHeadNumber = blockchain.getChainHeadBlockNumber();
+      if (chainHeadNumber != lastChainHeadNumber) {
+        evictStaleViews(chainHeadNumber);
+        lastChainHeadNumber = chainHeadNumber;
+      }
+      if (isTooFarFromHead(header.getNumber(), chainHeadNumber)) {
+        return Optional.empty();
+      }
+      view = views.computeIfAbsent(header.getHash(), __ -> new SharedView(header));
+      view.references++;
+    }
+
+    // opened outside the lock, so only the simulations of the same block wait for it
+    final Optional<MutableWorldState> worldState = view.worldState.get();
+    if (worldState.isEmpty()) {
+      synchronized (this) {
+        views.remove(header.getHash(), view);
+        view.evicted = true;
+      }
+      release(view);
+      return Optional.empty();
+    }
+    return Optional.of(new Lease(view, worldState.get()));
+  }
+
+  @Override
+  public synchronized void onBlockAdded(final BlockAddedEvent event) {
+    if (event.isNewCanonicalHead()) {
+      final long chainHeadNumber = event.getBlock().getHeader().getNumber();
+      evictStaleViews(chainHeadNumber);
+      lastChainHeadNumber = chainHeadNumber;
+    }
+  }
+
+  @VisibleForTesting
+  synchronized int size() {
+    return views.size();
+  }
+
+  private void evictStaleViews(final long chainHeadNumber) {
+    final Iterator<SharedView> iterator = views.values().iterator();
+    while (iterator.hasNext()) {
+      final SharedView view = iterator.next();
+      if (isTooFarFromHead(view.blockNumber, chainHeadNumber)) {
+        iterator.remove();
+        view.evicted = true;
+        if (view.references == 0) {
+          view.close();
+        }
+      }
+    }
+  }
+
+  private boolean isTooFarFromHead(final long blockNumber, final long chainHeadNumber) {
+    return Math.abs(chainHeadNumber - blockNumber) > maxDistanceFromHead;
+  }
+
+  private synchronized void release(final SharedView view) {
+    if (--view.references == 0 && view.evicted) {
+      view.close();
+    }
+  }
+
+  private class SharedView {
+    private final long blockNumber;
+    private final Supplier<Optional<MutableWorldState>> worldState;
+    // guarded by the pool
+    private int references;
+    private boolean evicted;
+
+    private SharedView(final BlockHeader header) {
+      this.blockNumber = header.getNumber();
+      this.worldState = Suppliers.memoize(() -> open(header));
+    }
+
+    private Optional<MutableWorldState> open(final BlockHeader header) {
+      try {
+        return worldStateArchive.getMutable(header, false);
+      } catch (final RuntimeException e) {
+        LOG.debug("Unable to open world state for block {}", header.toLogString(), e);
+        return Optional.empty();
+      }
+    }
+
+    private void close() {
+      worldState
+          .get()
+          .ifPresent(
+              ws -> {
+                try {
+                  ws.close();
+                } catch (final Exception e) {
+                  LOG.debug("Unable to close world state at block {}", blockNumber, e);
+                }
+              });
+    }
+  }
+
+  /** A simulation's use of a shared view, that must be closed once the view is not used anymore. */
+  public class Lease implements AutoCloseable {
+    private final SharedView view;
+    private final MutableWorldState worldState;
+    private boolean closed;
+
+    private Lease(final SharedView view, final MutableWorldState worldState) {
+      this.view = view;
+      this.worldState = worldState;
+    }
+
+    /**
+     * Returns the shared view, which must only be read. Changes go to an updater created by {@link
+     * #createUpdater()}.
+     *
+     * @return the shared world state view
+     */
+    public MutableWorldState getWorldState() {
+      return worldState;
+    }
+
+    /**
+     * Creates an updater on top of the shared view that is private to the caller.
+     *
+     * <p>A diff based view returns its own accumulator from {@link MutableWorldState#updater()},
+     * and the accumulator caches every account read through it, so even a child updater would
+     * write to the view. Diff based views are therefore given a copy of their accumulator, which
+     * reads from the view's storage without changing the view. Other views create a new updater
+     * for each call, and the caller gets a child of it, so that committing never reaches the view.
+     *
+     * @return an updater that is not shared with the other leases of the view
+     */
+    public WorldUpdater createUpdater() {
+      if (worldState instanceof DiffBasedWorldState diffBasedWorldState) {
+        return diffBasedWorldState.getAccumulator().copy();
+      }
+      return worldState.updater().updater();
+    }
+
+    @Override
+    public void close() {
+      if (!closed) {
+        closed = true;
+        release(view);
+      }
+    }
+  }
+}
@@ -61,7 +61,7 @@ public class BonsaiAccount extends DiffBasedAccount {
     super(
         context,
         address,
-        address.addressHash(),
+        hashAddress(context, address),
         stateTrieAccount.getNonce(),
         stateTrieAccount.getBalance(),
         stateTrieAccount.getCodeHash(),
@@ -120,7 +120,18 @@ public class BonsaiAccount extends DiffBasedAccount {
     in.leaveList();
 
     return new BonsaiAccount(
-        context, address, address.addressHash(), nonce, balance, storageRoot, codeHash, mutable);
+        context,
+        address,
+        hashAddress(context, address),
+        nonce,
+        balance,
+        storageRoot,
+        codeHash,
+        mutable);
+  }
+
+  private static Hash hashAddress(final DiffBasedWorldView context, final Address address) {
+    return context.getWorldStateStorage().getHashedKeyCache().hash(address);
   }
 
   @Override
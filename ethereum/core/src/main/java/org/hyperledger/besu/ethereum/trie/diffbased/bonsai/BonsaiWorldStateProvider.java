@@ -92,7 +92,7 @@ public class BonsaiWorldStateProvider extends DiffBasedWorldStateProvider {
     final Set<Bytes> keysToDelete = new HashSet<>();
     final BonsaiWorldStateKeyValueStorage.Updater updater =
         getWorldStateKeyValueStorage().updater();
-    final Hash accountHash = address.addressHash();
+    final Hash accountHash = getWorldStateKeyValueStorage().getHashedKeyCache().hash(address);
     final StoredMerklePatriciaTrie<Bytes, Bytes> accountTrie =
         new StoredMerklePatriciaTrie<>(
             (l, h) -> {
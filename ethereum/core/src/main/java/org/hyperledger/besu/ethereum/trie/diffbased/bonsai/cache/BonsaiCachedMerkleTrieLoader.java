@@ -82,7 +82,7 @@ public class BonsaiCachedMerkleTrieLoader implements StorageSubscriber {
               worldStateRootHash,
               Function.identity(),
               Function.identity());
-      accountTrie.get(account.addressHash());
+      accountTrie.get(worldStateKeyValueStorage.getHashedKeyCache().hash(account));
     } catch (MerkleTrieException e) {
       // ignore exception for the cache
     } finally {
@@ -103,7 +103,7 @@ public class BonsaiCachedMerkleTrieLoader implements StorageSubscriber {
       final BonsaiWorldStateKeyValueStorage worldStateKeyValueStorage,
       final Address account,
       final StorageSlotKey slotKey) {
-    final Hash accountHash = account.addressHash();
+    final Hash accountHash = worldStateKeyValueStorage.getHashedKeyCache().hash(account);
     final long storageSubscriberId = worldStateKeyValueStorage.subscribe(this);
     try {
       worldStateKeyValueStorage
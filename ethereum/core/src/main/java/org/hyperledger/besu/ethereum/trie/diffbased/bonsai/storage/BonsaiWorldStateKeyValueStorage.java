@@ -24,6 +24,7 @@ import org.hyperledger.besu.datatypes.StorageSlotKey;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
 import org.hyperledger.besu.ethereum.trie.MerkleTrie;
+import org.hyperledger.besu.ethereum.trie.diffbased.common.cache.HashedKeyCache;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.storage.DiffBasedWorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.storage.flat.FlatDbStrategy;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.storage.flat.FlatDbStrategyProvider;
@@ -50,6 +51,7 @@ import org.apache.tuweni.bytes.Bytes32;
 public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValueStorage
     implements WorldStateKeyValueStorage {
   protected final FlatDbStrategyProvider flatDbStrategyProvider;
+  protected final HashedKeyCache hashedKeyCache;
 
   public BonsaiWorldStateKeyValueStorage(
       final StorageProvider provider,
@@ -63,14 +65,30 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
     this.flatDbStrategyProvider =
         new FlatDbStrategyProvider(metricsSystem, dataStorageConfiguration);
     flatDbStrategyProvider.loadFlatDbStrategy(composedWorldStateStorage);
+    this.hashedKeyCache =
+        new HashedKeyCache(
+            dataStorageConfiguration.getUnstable().getBonsaiHashedKeyCacheSize(), metricsSystem);
   }
 
   public BonsaiWorldStateKeyValueStorage(
       final FlatDbStrategyProvider flatDbStrategyProvider,
       final SegmentedKeyValueStorage composedWorldStateStorage,
       final KeyValueStorage trieLogStorage) {
+    this(
+        flatDbStrategyProvider,
+        composedWorldStateStorage,
+        trieLogStorage,
+        HashedKeyCache.DISABLED);
+  }
+
+  public BonsaiWorldStateKeyValueStorage(
+      final FlatDbStrategyProvider flatDbStrategyProvider,
+      final SegmentedKeyValueStorage composedWorldStateStorage,
+      final KeyValueStorage trieLogStorage,
+      final HashedKeyCache hashedKeyCache) {
     super(composedWorldStateStorage, trieLogStorage);
     this.flatDbStrategyProvider = flatDbStrategyProvider;
+    this.hashedKeyCache = hashedKeyCache;
   }
 
   @Override
@@ -83,6 +101,11 @@ public class BonsaiWorldStateKeyValueStorage extends DiffBasedWorldStateKeyValue
     return flatDbStrategyProvider.getFlatDbMode();
   }
 
+  @Override
+  public HashedKeyCache getHashedKeyCache() {
+    return hashedKeyCache;
+  }
+
   public Optional<Bytes> getCode(final Hash codeHash, final Hash accountHash) {
     if (codeHash.equals(Hash.EMPTY)) {
       return Optional.of(Bytes.EMPTY);
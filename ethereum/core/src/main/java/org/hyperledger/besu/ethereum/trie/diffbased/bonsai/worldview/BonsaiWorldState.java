@@ -26,6 +26,8 @@ import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.trie.MerkleTrie;
 import org.hyperledger.besu.ethereum.trie.MerkleTrieException;
 import org.hyperledger.besu.ethereum.trie.NodeLoader;
+import org.hyperledger.besu.ethereum.trie.NodeUpdater;
+import org.hyperledger.besu.ethereum.trie.ParallelCommitVisitor;
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.BonsaiAccount;
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.BonsaiWorldStateProvider;
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.cache.BonsaiCachedMerkleTrieLoader;
@@ -144,14 +146,16 @@ public class BonsaiWorldState extends DiffBasedWorldState {
     // TODO write to a cache and then generate a layer update from that and the
     // DB tx updates.  Right now it is just DB updates.
     maybeStateUpdater.ifPresent(
-        bonsaiUpdater ->
-            accountTrie.commit(
-                (location, hash, value) ->
-                    writeTrieNode(
-                        TRIE_BRANCH_STORAGE,
-                        bonsaiUpdater.getWorldStateTransaction(),
-                        location,
-                        value)));
+        bonsaiUpdater -> {
+          final NodeUpdater nodeUpdater =
+              (location, hash, value) ->
+                  writeTrieNode(
+                      TRIE_BRANCH_STORAGE,
+                      bonsaiUpdater.getWorldStateTransaction(),
+                      location,
+                      value);
+          accountTrie.commit(nodeUpdater, new ParallelCommitVisitor<>(nodeUpdater));
+        });
     final Bytes32 rootHash = accountTrie.getRootHash();
     return Hash.wrap(rootHash);
   }
@@ -196,7 +200,7 @@ public class BonsaiWorldState extends DiffBasedWorldState {
           for (final Map.Entry<Address, DiffBasedValue<Bytes>> codeUpdate :
               worldStateUpdater.getCodeToUpdate().entrySet()) {
             final Bytes updatedCode = codeUpdate.getValue().getUpdated();
-            final Hash accountHash = codeUpdate.getKey().addressHash();
+            final Hash accountHash = hashKey(codeUpdate.getKey());
             final Bytes priorCode = codeUpdate.getValue().getPrior();
 
             // code hasn't changed then do nothing
@@ -226,7 +230,7 @@ public class BonsaiWorldState extends DiffBasedWorldState {
       final Map.Entry<Address, StorageConsumingMap<StorageSlotKey, DiffBasedValue<UInt256>>>
           storageAccountUpdate) {
     final Address updatedAddress = storageAccountUpdate.getKey();
-    final Hash updatedAddressHash = updatedAddress.addressHash();
+    final Hash updatedAddressHash = hashKey(updatedAddress);
     if (worldStateUpdater.getAccountsToUpdate().containsKey(updatedAddress)) {
       final DiffBasedValue<BonsaiAccount> accountValue =
           worldStateUpdater.getAccountsToUpdate().get(updatedAddress);
@@ -274,11 +278,13 @@ public class BonsaiWorldState extends DiffBasedWorldState {
       final BonsaiAccount accountUpdated = accountValue.getUpdated();
       if (accountUpdated != null) {
         maybeStateUpdater.ifPresent(
-            bonsaiUpdater ->
-                storageTrie.commit(
-                    (location, key, value) ->
-                        writeStorageTrieNode(
-                            bonsaiUpdater, updatedAddressHash, location, key, value)));
+            bonsaiUpdater -> {
+              final NodeUpdater nodeUpdater =
+                  (location, key, value) ->
+                      writeStorageTrieNode(
+                          bonsaiUpdater, updatedAddressHash, location, key, value);
+              storageTrie.commit(nodeUpdater, new ParallelCommitVisitor<>(nodeUpdater));
+            });
         final Hash newStorageRoot = Hash.wrap(storageTrie.getRootHash());
         accountUpdated.setStorageRoot(newStorageRoot);
       }
@@ -290,10 +296,11 @@ public class BonsaiWorldState extends DiffBasedWorldState {
       final Optional<BonsaiWorldStateKeyValueStorage.Updater> maybeStateUpdater,
       final BonsaiWorldStateUpdateAccumulator worldStateUpdater) {
     for (final Address address : worldStateUpdater.getStorageToClear()) {
+      final Hash addressHash = hashKey(address);
       // because we are clearing persisted values we need the account root as persisted
       final BonsaiAccount oldAccount =
           getWorldStateStorage()
-              .getAccount(address.addressHash())
+              .getAccount(addressHash)
               .map(bytes -> BonsaiAccount.fromRLP(BonsaiWorldState.this, address, bytes, true))
               .orElse(null);
       if (oldAccount == null) {
@@ -301,7 +308,6 @@ public class BonsaiWorldState extends DiffBasedWorldState {
         // block.  A not-uncommon DeFi bot pattern.
         continue;
       }
-      final Hash addressHash = address.addressHash();
       final MerkleTrie<Bytes, Bytes> storageTrie =
           createTrie(
               (location, key) -> getStorageTrieNode(addressHash, location, key),
@@ -319,7 +325,7 @@ public class BonsaiWorldState extends DiffBasedWorldState {
                 maybeStateUpdater.ifPresent(
                     bonsaiUpdater ->
                         bonsaiUpdater.removeStorageValueBySlotHash(
-                            address.addressHash(), storageSlotKey.getSlotHash()));
+                            addressHash, storageSlotKey.getSlotHash()));
                 storageToDelete
                     .computeIfAbsent(
                         storageSlotKey, key -> new DiffBasedValue<>(slotValue, null, true))
@@ -359,14 +365,14 @@ public class BonsaiWorldState extends DiffBasedWorldState {
   @Override
   public Account get(final Address address) {
     return getWorldStateStorage()
-        .getAccount(address.addressHash())
+        .getAccount(hashKey(address))
         .map(bytes -> BonsaiAccount.fromRLP(accumulator, address, bytes, true))
         .orElse(null);
   }
 
   @Override
   public Optional<Bytes> getCode(@Nonnull final Address address, final Hash codeHash) {
-    return getWorldStateStorage().getCode(codeHash, address.addressHash());
+    return getWorldStateStorage().getCode(codeHash, hashKey(address));
   }
 
   protected Optional<Bytes> getAccountStateTrieNode(final Bytes location, final Bytes32 nodeHash) {
@@ -397,7 +403,8 @@ public class BonsaiWorldState extends DiffBasedWorldState {
 
   @Override
   public UInt256 getStorageValue(final Address address, final UInt256 storageKey) {
-    return getStorageValueByStorageSlotKey(address, new StorageSlotKey(storageKey))
+    return getStorageValueByStorageSlotKey(
+            address, new StorageSlotKey(hashKey(storageKey), Optional.of(storageKey)))
         .orElse(UInt256.ZERO);
   }
 
@@ -405,7 +412,7 @@ public class BonsaiWorldState extends DiffBasedWorldState {
   public Optional<UInt256> getStorageValueByStorageSlotKey(
       final Address address, final StorageSlotKey storageSlotKey) {
     return getWorldStateStorage()
-        .getStorageValueByStorageSlotKey(address.addressHash(), storageSlotKey)
+        .getStorageValueByStorageSlotKey(hashKey(address), storageSlotKey)
         .map(UInt256::fromBytes);
   }
 
@@ -414,7 +421,7 @@ public class BonsaiWorldState extends DiffBasedWorldState {
       final Address address,
       final StorageSlotKey storageSlotKey) {
     return getWorldStateStorage()
-        .getStorageValueByStorageSlotKey(storageRootSupplier, address.addressHash(), storageSlotKey)
+        .getStorageValueByStorageSlotKey(storageRootSupplier, hashKey(address), storageSlotKey)
         .map(UInt256::fromBytes);
   }
 
@@ -425,9 +432,9 @@ public class BonsaiWorldState extends DiffBasedWorldState {
 
   @Override
   public Map<Bytes32, Bytes> getAllAccountStorage(final Address address, final Hash rootHash) {
+    final Hash addressHash = hashKey(address);
     final StoredMerklePatriciaTrie<Bytes, Bytes> storageTrie =
-        createTrie(
-            (location, key) -> getStorageTrieNode(address.addressHash(), location, key), rootHash);
+        createTrie((location, key) -> getStorageTrieNode(addressHash, location, key), rootHash);
     return storageTrie.entriesFrom(Bytes32.ZERO, Integer.MAX_VALUE);
   }
 
@@ -439,7 +446,11 @@ public class BonsaiWorldState extends DiffBasedWorldState {
 
   protected Hash hashAndSavePreImage(final Bytes value) {
     // by default do not save has preImages
-    return Hash.hash(value);
+    return hashKey(value);
+  }
+
+  private Hash hashKey(final Bytes key) {
+    return getWorldStateStorage().getHashedKeyCache().hash(key);
   }
 
   @Override
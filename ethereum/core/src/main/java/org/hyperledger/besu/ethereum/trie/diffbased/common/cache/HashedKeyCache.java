@@ -0,0 +1,95 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie.diffbased.common.cache;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A cache of the hashes of the keys of the world state, accounts addresses and storage slot keys,
+ * owned by the world state storage and shared by all the blocks processed on top of it. The keys of
+ * popular contracts are accessed in most blocks, so their hashes are kept instead of being computed
+ * again for each block.
+ *
+ * <p>The cache is bounded and uses the W-TinyLFU admission policy, so the keys that are accessed
+ * only once, like the ones of a large self destruct, do not evict the frequently accessed ones. A
+ * maximum size of zero disables the cache, keys are then hashed on every lookup.
+ *
+ * <p>The cache keeps a copy of each key it stores, so a key that is a slice of a larger buffer does
+ * not retain that buffer while it is cached.
+ */
+public class HashedKeyCache {
+
+  /** The default maximum number of hashes kept in the cache. */
+  public static final long DEFAULT_MAXIMUM_SIZE = 200_000;
+
+  /** A cache that does not keep any hash. */
+  public static final HashedKeyCache DISABLED = new HashedKeyCache(0, new NoOpMetricsSystem());
+
+  private final Cache<Bytes, Hash> cache;
+  private final Counter hitCounter;
+  private final Counter missCounter;
+
+  /**
+   * Creates a cache keeping up to the provided number of hashes.
+   *
+   * @param maximumSize the maximum number of hashes, zero disables the cache
+   * @param metricsSystem the metrics system counting the cache hits and misses
+   */
+  public HashedKeyCache(final long maximumSize, final MetricsSystem metricsSystem) {
+    checkArgument(maximumSize >= 0, "Maximum size must not be negative: %s", maximumSize);
+    this.cache = maximumSize > 0 ? Caffeine.newBuilder().maximumSize(maximumSize).build() : null;
+    this.hitCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            "hashed_key_cache_hits",
+            "Number of account and storage slot key hashes found in the cache");
+    this.missCounter =
+        metricsSystem.createCounter(
+            BesuMetricCategory.BLOCKCHAIN,
+            "hashed_key_cache_misses",
+            "Number of account and storage slot key hashes computed");
+  }
+
+  /**
+   * Returns the hash of a key, computing it only if it is not cached yet.
+   *
+   * @param key the immutable key to hash
+   * @return the hash of the key
+   */
+  public Hash hash(final Bytes key) {
+    if (cache == null) {
+      return Hash.hash(key);
+    }
+    final Hash cached = cache.getIfPresent(key);
+    if (cached != null) {
+      hitCounter.inc();
+      return cached;
+    }
+    missCounter.inc();
+    final Hash hash = Hash.hash(key);
+    cache.put(key.copy(), hash);
+    return hash;
+  }
+}
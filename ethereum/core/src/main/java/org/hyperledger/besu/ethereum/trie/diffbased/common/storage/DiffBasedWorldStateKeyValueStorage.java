@@ -23,6 +23,7 @@ import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.storage.StorageProvider;
 import org.hyperledger.besu.ethereum.storage.keyvalue.KeyValueSegmentIdentifier;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.StorageSubscriber;
+import org.hyperledger.besu.ethereum.trie.diffbased.common.cache.HashedKeyCache;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.storage.flat.FlatDbStrategy;
 import org.hyperledger.besu.ethereum.worldstate.FlatDbMode;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateKeyValueStorage;
@@ -86,6 +87,8 @@ public abstract class DiffBasedWorldStateKeyValueStorage
 
   public abstract FlatDbStrategy getFlatDbStrategy();
 
+  public abstract HashedKeyCache getHashedKeyCache();
+
   @Override
   public abstract DataStorageFormat getDataStorageFormat();
 
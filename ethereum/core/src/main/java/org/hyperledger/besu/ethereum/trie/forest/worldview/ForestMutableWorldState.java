@@ -23,6 +23,8 @@ import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
 import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import org.hyperledger.besu.ethereum.trie.MerkleTrie;
+import org.hyperledger.besu.ethereum.trie.NodeUpdater;
+import org.hyperledger.besu.ethereum.trie.ParallelCommitVisitor;
 import org.hyperledger.besu.ethereum.trie.forest.storage.ForestWorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.trie.patricia.StoredMerklePatriciaTrie;
 import org.hyperledger.besu.ethereum.worldstate.StateTrieAccountValue;
@@ -182,13 +184,15 @@ public class ForestMutableWorldState implements MutableWorldState {
       stateUpdater.putCode(code);
     }
     // Commit account storage tries
+    final NodeUpdater storageNodeUpdater =
+        (location, hash, value) -> stateUpdater.putAccountStorageTrieNode(hash, value);
     for (final MerkleTrie<Bytes32, Bytes> updatedStorage : updatedStorageTries.values()) {
-      updatedStorage.commit(
-          (location, hash, value) -> stateUpdater.putAccountStorageTrieNode(hash, value));
+      updatedStorage.commit(storageNodeUpdater, new ParallelCommitVisitor<>(storageNodeUpdater));
     }
     // Commit account updates
-    accountStateTrie.commit(
-        (location, hash, value) -> stateUpdater.putAccountStateTrieNode(hash, value));
+    final NodeUpdater accountNodeUpdater =
+        (location, hash, value) -> stateUpdater.putAccountStateTrieNode(hash, value);
+    accountStateTrie.commit(accountNodeUpdater, new ParallelCommitVisitor<>(accountNodeUpdater));
 
     // Persist preimages
     final WorldStatePreimageStorage.Updater preimageUpdater = preimageStorage.updater();
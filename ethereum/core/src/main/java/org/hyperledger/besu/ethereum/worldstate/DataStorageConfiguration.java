@@ -16,6 +16,7 @@
 
 package org.hyperledger.besu.ethereum.worldstate;
 
+import org.hyperledger.besu.ethereum.trie.diffbased.common.cache.HashedKeyCache;
 import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
 
 import org.immutables.value.Value;
@@ -68,6 +69,7 @@ public interface DataStorageConfiguration {
     long MINIMUM_BONSAI_TRIE_LOG_RETENTION_LIMIT = DEFAULT_BONSAI_MAX_LAYERS_TO_LOAD;
     int DEFAULT_BONSAI_TRIE_LOG_PRUNING_WINDOW_SIZE = 30_000;
     boolean DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED = false;
+    long DEFAULT_BONSAI_HASHED_KEY_CACHE_SIZE = HashedKeyCache.DEFAULT_MAXIMUM_SIZE;
 
     DataStorageConfiguration.Unstable DEFAULT =
         ImmutableDataStorageConfiguration.Unstable.builder().build();
@@ -86,5 +88,10 @@ public interface DataStorageConfiguration {
     default boolean getBonsaiCodeStoredByCodeHashEnabled() {
       return DEFAULT_BONSAI_CODE_USING_CODE_HASH_ENABLED;
     }
+
+    @Value.Default
+    default long getBonsaiHashedKeyCacheSize() {
+      return DEFAULT_BONSAI_HASHED_KEY_CACHE_SIZE;
+    }
   }
 }
@@ -0,0 +1,159 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.core;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.BLSPublicKey;
+import org.hyperledger.besu.datatypes.BLSSignature;
+import org.hyperledger.besu.datatypes.GWei;
+import org.hyperledger.besu.datatypes.TransactionType;
+import org.hyperledger.besu.ethereum.mainnet.MainnetBlockHeaderFunctions;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+
+import java.util.List;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.apache.tuweni.units.bigints.UInt64;
+import org.junit.jupiter.api.Test;
+
+public class BlockBodyViewTest {
+  private final BlockDataGenerator gen = new BlockDataGenerator();
+  private final BlockHeaderFunctions blockHeaderFunctions = new MainnetBlockHeaderFunctions();
+
+  @Test
+  public void wrappedBodyMatchesDecodedBody() {
+    final Block block =
+        gen.block(
+            BlockDataGenerator.BlockOptions.create()
+                .addTransaction(
+                    gen.transaction(TransactionType.FRONTIER),
+                    gen.transaction(TransactionType.ACCESS_LIST),
+                    gen.transaction(TransactionType.EIP1559))
+                .addOmmers(gen.header())
+                .setWithdrawals(
+                    Optional.of(
+                        List.of(
+                            new Withdrawal(
+                                UInt64.ONE, UInt64.ONE, Address.fromHexString("0x1"), GWei.ONE))))
+                .setDeposits(Optional.of(List.of(deposit())))
+                .setExits(Optional.of(List.of(exit()))));
+    final BlockBody body = block.getBody();
+    final Bytes rlp = RLP.encode(body::writeWrappedBodyTo);
+
+    final BlockBodyView view = BlockBodyView.wrap(rlp, blockHeaderFunctions);
+
+    assertThat(view.getRlp()).isEqualTo(rlp);
+    assertThat(view.getTransactionCount()).isEqualTo(body.getTransactions().size());
+    assertThat(view.getTransactionHashes())
+        .containsExactlyElementsOf(
+            body.getTransactions().stream().map(Transaction::getHash).toList());
+    for (int i = 0; i < body.getTransactions().size(); i++) {
+      assertThat(view.getTransaction(i)).isEqualTo(body.getTransactions().get(i));
+    }
+    assertThat(view.getOmmers()).isEqualTo(body.getOmmers());
+    assertThat(view.getWithdrawals()).isEqualTo(body.getWithdrawals());
+    assertThat(view.getDeposits()).isEqualTo(body.getDeposits());
+    assertThat(view.getExits()).isEqualTo(body.getExits());
+    assertThat(view.calculateBlockSize(block.getHeader())).isEqualTo(block.calculateSize());
+    assertThat(view.decode()).isEqualTo(body);
+  }
+
+  @Test
+  public void roundTripsAllBodySections() {
+    final Block block =
+        gen.block(
+            BlockDataGenerator.BlockOptions.create()
+                .addTransaction(
+                    gen.transaction(TransactionType.FRONTIER),
+                    gen.transaction(TransactionType.EIP1559))
+                .addOmmers(gen.header())
+                .setWithdrawals(
+                    Optional.of(
+                        List.of(
+                            new Withdrawal(
+                                UInt64.ONE, UInt64.ONE, Address.fromHexString("0x1"), GWei.ONE))))
+                .setDeposits(Optional.of(List.of(deposit())))
+                .setExits(Optional.of(List.of(exit()))));
+    final BlockBody body = block.getBody();
+
+    final BlockBodyView encodedView = BlockBodyView.of(body);
+    assertThat(encodedView.calculateBlockSize(block.getHeader())).isEqualTo(block.calculateSize());
+    final Bytes rlp = encodedView.getRlp();
+    assertThat(rlp).isEqualTo(RLP.encode(body::writeWrappedBodyTo));
+
+    final BlockBodyView decodedView = BlockBodyView.wrap(rlp, blockHeaderFunctions);
+    assertThat(decodedView.getOmmers()).isEqualTo(body.getOmmers());
+    assertThat(decodedView.getWithdrawals()).isEqualTo(body.getWithdrawals());
+    assertThat(decodedView.getDeposits()).isEqualTo(body.getDeposits());
+    assertThat(decodedView.getExits()).isEqualTo(body.getExits());
+    assertThat(decodedView.decode()).isEqualTo(body);
+    assertThat(BlockBodyView.of(decodedView.decode()).getRlp()).isEqualTo(rlp);
+  }
+
+  @Test
+  public void wrapDoesNotParseTheBody() {
+    final Bytes notABody = Bytes.fromHexString("0xdeadbeef");
+
+    final BlockBodyView view = BlockBodyView.wrap(notABody, blockHeaderFunctions);
+
+    assertThat(view.getRlp()).isSameAs(notABody);
+  }
+
+  @Test
+  public void emptyBody() {
+    final BlockBodyView view =
+        BlockBodyView.wrap(RLP.encode(BlockBody.empty()::writeWrappedBodyTo), blockHeaderFunctions);
+
+    assertThat(view.getTransactionCount()).isZero();
+    assertThat(view.getTransactionHashes()).isEmpty();
+    assertThat(view.getOmmers()).isEmpty();
+    assertThat(view.getWithdrawals()).isEmpty();
+    assertThat(view.decode()).isEqualTo(BlockBody.empty());
+  }
+
+  @Test
+  public void viewOfDecodedBodyReturnsItsFields() {
+    final BlockBody body = gen.body();
+
+    final BlockBodyView view = BlockBodyView.of(body);
+
+    assertThat(view.getRlp()).isEqualTo(RLP.encode(body::writeWrappedBodyTo));
+    assertThat(view.decode()).isSameAs(body);
+    assertThat(view.getOmmers()).isSameAs(body.getOmmers());
+    assertThat(view.getTransaction(0)).isSameAs(body.getTransactions().get(0));
+  }
+
+  private static Deposit deposit() {
+    return new Deposit(
+        BLSPublicKey.fromHexString(
+            "0xb10a4a15bf67b328c9b101d09e5c6ee6672978fdad9ef0d9e2ceffaee99223555d8601f0cb3bcc4ce1af9864779a416e"),
+        Bytes32.fromHexString("0x0017a7fcf06faf493d30bbe2632ea7c2383cd86825e12797165de7aa35589483"),
+        GWei.of(32000000000L),
+        BLSSignature.fromHexString(
+            "0xa889db8300194050a2636c92a95bc7160515867614b7971a9500cdb62f9c0890217d2901c3241f86fac029428fc106930606154bd9e406d7588934a5f15b837180b17194d6e44bd6de23e43b163dfe12e369dcc75a3852cd997963f158217eb5"),
+        UInt64.valueOf(539967));
+  }
+
+  private static ValidatorExit exit() {
+    return new ValidatorExit(
+        Address.fromHexString("0x814FaE9f487206471B6B0D713cD51a2D35980000"),
+        BLSPublicKey.fromHexString(
+            "0xb10a4a15bf67b328c9b101d09e5c6ee6672978fdad9ef0d9e2ceffaee99223555d8601f0cb3bcc4ce1af9864779a416e"));
+  }
+}
@@ -90,4 +90,19 @@ public class IntrinsicGasTest {
             gasCalculator.transactionIntrinsicGasCost(t.getPayload(), t.isContractCreation()))
         .isEqualTo(expectedGas);
   }
+
+  @ParameterizedTest
+  @MethodSource("data")
+  public void cachedGasCostMatchesGasCalculator(
+      final GasCalculator gasCalculator, final long expectedGas, final String txRlp) {
+    Transaction t = Transaction.readFrom(RLP.input(Bytes.fromHexString(txRlp)));
+    final GasCalculator otherGasCalculator = new IstanbulGasCalculator();
+    Assertions.assertThat(t.getIntrinsicGasCost(otherGasCalculator))
+        .isEqualTo(
+            otherGasCalculator.transactionIntrinsicGasCost(
+                t.getPayload(), t.isContractCreation()));
+    // switching calculator must not return the value cached for the previous one
+    Assertions.assertThat(t.getIntrinsicGasCost(gasCalculator)).isEqualTo(expectedGas);
+    Assertions.assertThat(t.getIntrinsicGasCost(gasCalculator)).isEqualTo(expectedGas);
+  }
 }
@@ -35,6 +35,7 @@ import org.hyperledger.besu.ethereum.core.BlobTestFixture;
 import org.hyperledger.besu.ethereum.core.BlockHeader;
 import org.hyperledger.besu.ethereum.core.BlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.BlockchainSetupUtil;
 import org.hyperledger.besu.ethereum.core.Difficulty;
 import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.core.Transaction;
@@ -46,13 +47,22 @@ import org.hyperledger.besu.ethereum.mainnet.TransactionValidationParams;
 import org.hyperledger.besu.ethereum.mainnet.feemarket.FeeMarket;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult;
 import org.hyperledger.besu.ethereum.processing.TransactionProcessingResult.Status;
+import org.hyperledger.besu.ethereum.trie.diffbased.common.worldview.DiffBasedWorldState;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
 import org.hyperledger.besu.evm.account.Account;
 import org.hyperledger.besu.evm.tracing.OperationTracer;
 import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+import org.hyperledger.besu.plugin.services.storage.DataStorageFormat;
 
 import java.math.BigInteger;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
 
 import com.google.common.base.Supplier;
 import com.google.common.base.Suppliers;
@@ -682,6 +692,64 @@ public class TransactionSimulatorTest {
     verifyTransactionWasProcessed(expectedTransaction);
   }
 
+  @Test
+  public void concurrentSimulationsOnSharedBonsaiViewAreIsolated() throws Exception {
+    final BlockchainSetupUtil setupUtil = BlockchainSetupUtil.forTesting(DataStorageFormat.BONSAI);
+    final WorldStateViewPool pool =
+        new WorldStateViewPool(setupUtil.getBlockchain(), setupUtil.getWorldArchive());
+    final TransactionSimulator pooledTransactionSimulator =
+        new TransactionSimulator(
+            setupUtil.getBlockchain(),
+            setupUtil.getWorldArchive(),
+            setupUtil.getProtocolSchedule(),
+            0,
+            Optional.of(pool));
+    final BlockHeader head = setupUtil.getBlockchain().getChainHeadHeader();
+    // funded in the genesis of the test chain
+    final Address sender = Address.fromHexString("0xa94f5374fce5edbc8e2a8697c15331677e6ebf0b");
+
+    // holding a lease keeps the view of the head pooled, so every simulation shares it
+    try (final WorldStateViewPool.Lease lease = pool.acquire(head).orElseThrow()) {
+      final DiffBasedWorldState sharedView = (DiffBasedWorldState) lease.getWorldState();
+      final ExecutorService executor = Executors.newFixedThreadPool(2);
+      try {
+        final CountDownLatch start = new CountDownLatch(1);
+        final List<Future<TransactionSimulatorResult>> simulations = new ArrayList<>();
+        for (int i = 1; i <= 2; i++) {
+          final CallParameter transfer =
+              new CallParameter(
+                  sender,
+                  Address.fromHexString("0x100" + i),
+                  21_000,
+                  Wei.ZERO,
+                  Wei.of(i),
+                  Bytes.EMPTY);
+          simulations.add(
+              executor.submit(
+                  () -> {
+                    start.await();
+                    return pooledTransactionSimulator
+                        .process(transfer, head.getHash())
+                        .orElseThrow();
+                  }));
+        }
+        start.countDown();
+
+        for (final Future<TransactionSimulatorResult> simulation : simulations) {
+          final TransactionSimulatorResult result = simulation.get(30, TimeUnit.SECONDS);
+          assertThat(result.isSuccessful()).isTrue();
+          // the transfer of the other simulation must not have bumped the nonce of the sender
+          assertThat(result.transaction().getNonce()).isZero();
+        }
+      } finally {
+        executor.shutdownNow();
+      }
+
+      // nothing was written to, nor cached in, the accumulator of the shared view
+      assertThat(sharedView.getAccumulator().getAccountsToUpdate()).isEmpty();
+    }
+  }
+
   private void mockWorldStateForAccount(
       final BlockHeader blockHeader, final Address address, final long nonce) {
     final Account account = mock(Account.class);
@@ -0,0 +1,146 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.transaction;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.chain.BlockAddedEvent;
+import org.hyperledger.besu.ethereum.chain.Blockchain;
+import org.hyperledger.besu.ethereum.core.Block;
+import org.hyperledger.besu.ethereum.core.BlockBody;
+import org.hyperledger.besu.ethereum.core.BlockHeader;
+import org.hyperledger.besu.ethereum.core.BlockHeaderTestFixture;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
+import org.hyperledger.besu.ethereum.worldstate.WorldStateArchive;
+
+import java.util.Collections;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+@ExtendWith(MockitoExtension.class)
+public class WorldStateViewPoolTest {
+
+  @Mock private Blockchain blockchain;
+  @Mock private WorldStateArchive worldStateArchive;
+  @Mock private MutableWorldState worldState;
+
+  private WorldStateViewPool pool;
+
+  @BeforeEach
+  public void setUp() {
+    pool = new WorldStateViewPool(blockchain, worldStateArchive, 2);
+  }
+
+  @Test
+  public void shouldShareViewBetweenConcurrentLeases() throws Exception {
+    final BlockHeader header = header(10);
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(10L);
+    when(worldStateArchive.getMutable(header, false)).thenReturn(Optional.of(worldState));
+
+    final WorldStateViewPool.Lease first = pool.acquire(header).orElseThrow();
+    final WorldStateViewPool.Lease second = pool.acquire(header).orElseThrow();
+
+    assertThat(first.getWorldState()).isSameAs(second.getWorldState());
+    verify(worldStateArchive, times(1)).getMutable(header, false);
+
+    first.close();
+    second.close();
+    pool.acquire(header).orElseThrow().close();
+
+    verify(worldStateArchive, times(1)).getMutable(header, false);
+    verify(worldState, never()).close();
+    assertThat(pool.size()).isEqualTo(1);
+  }
+
+  @Test
+  public void shouldCloseStaleViewOnceReleased() throws Exception {
+    final BlockHeader oldHeader = header(10);
+    final BlockHeader newHeader = header(13);
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(10L, 13L);
+    when(worldStateArchive.getMutable(any(BlockHeader.class), anyBoolean()))
+        .thenReturn(Optional.of(worldState));
+
+    final WorldStateViewPool.Lease oldLease = pool.acquire(oldHeader).orElseThrow();
+    final WorldStateViewPool.Lease newLease = pool.acquire(newHeader).orElseThrow();
+
+    assertThat(pool.size()).isEqualTo(1);
+    verify(worldState, never()).close();
+
+    oldLease.close();
+    verify(worldState, times(1)).close();
+
+    newLease.close();
+    verify(worldState, times(1)).close();
+  }
+
+  @Test
+  public void shouldEvictStaleViewsWhenNewHeadIsAdded() throws Exception {
+    final BlockHeader header = header(10);
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(10L);
+    when(worldStateArchive.getMutable(header, false)).thenReturn(Optional.of(worldState));
+
+    pool.acquire(header).orElseThrow().close();
+    verify(blockchain).observeBlockAdded(pool);
+
+    pool.onBlockAdded(BlockAddedEvent.createForFork(block(20)));
+    assertThat(pool.size()).isEqualTo(1);
+    verify(worldState, never()).close();
+
+    pool.onBlockAdded(
+        BlockAddedEvent.createForHeadAdvancement(
+            block(13), Collections.emptyList(), Collections.emptyList()));
+    assertThat(pool.size()).isZero();
+    verify(worldState, times(1)).close();
+  }
+
+  @Test
+  public void shouldNotPoolViewsTooFarFromHead() {
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(10L);
+
+    assertThat(pool.acquire(header(7))).isEmpty();
+
+    verify(worldStateArchive, never()).getMutable(any(BlockHeader.class), anyBoolean());
+  }
+
+  @Test
+  public void shouldNotPoolUnavailableViews() {
+    final BlockHeader header = header(10);
+    when(blockchain.getChainHeadBlockNumber()).thenReturn(10L);
+    when(worldStateArchive.getMutable(header, false)).thenReturn(Optional.empty());
+
+    assertThat(pool.acquire(header)).isEmpty();
+
+    assertThat(pool.size()).isZero();
+  }
+
+  private BlockHeader header(final long number) {
+    return new BlockHeaderTestFixture().number(number).buildHeader();
+  }
+
+  private Block block(final long number) {
+    return new Block(header(number), BlockBody.empty());
+  }
+}
@@ -15,24 +15,35 @@
 
 package org.hyperledger.besu.ethereum.trie.diffbased.bonsai.worldview;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.lenient;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoInteractions;
 import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.datatypes.Address;
 import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.datatypes.Wei;
 import org.hyperledger.besu.ethereum.chain.Blockchain;
 import org.hyperledger.besu.ethereum.core.InMemoryKeyValueStorageProvider;
+import org.hyperledger.besu.ethereum.core.MutableWorldState;
 import org.hyperledger.besu.ethereum.trie.diffbased.bonsai.storage.BonsaiWorldStateKeyValueStorage;
 import org.hyperledger.besu.ethereum.trie.diffbased.common.DiffBasedValue;
+import org.hyperledger.besu.ethereum.trie.diffbased.common.cache.HashedKeyCache;
+import org.hyperledger.besu.ethereum.worldstate.DataStorageConfiguration;
+import org.hyperledger.besu.evm.account.MutableAccount;
 import org.hyperledger.besu.evm.internal.EvmConfiguration;
+import org.hyperledger.besu.evm.worldstate.WorldUpdater;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 
 import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.stream.Stream;
 
 import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -58,6 +69,9 @@ class BonsaiWorldStateTest {
 
   @BeforeEach
   void setup() {
+    lenient()
+        .when(bonsaiWorldStateKeyValueStorage.getHashedKeyCache())
+        .thenReturn(HashedKeyCache.DISABLED);
     worldState =
         new BonsaiWorldState(
             InMemoryKeyValueStorageProvider.createBonsaiInMemoryWorldStateArchive(blockchain),
@@ -125,6 +139,36 @@ class BonsaiWorldStateTest {
     verify(bonsaiUpdater).putCode(Address.fromHexString("0x3").addressHash(), CODE_HASH, CODE);
   }
 
+  @Test
+  void persistComputesTheSameRootHashAsForest() {
+    final BonsaiWorldState bonsaiWorldState =
+        new BonsaiWorldState(
+            InMemoryKeyValueStorageProvider.createBonsaiInMemoryWorldStateArchive(blockchain),
+            new BonsaiWorldStateKeyValueStorage(
+                new InMemoryKeyValueStorageProvider(),
+                new NoOpMetricsSystem(),
+                DataStorageConfiguration.DEFAULT_BONSAI_CONFIG),
+            EvmConfiguration.DEFAULT);
+    final MutableWorldState forestWorldState =
+        InMemoryKeyValueStorageProvider.createInMemoryWorldState();
+
+    // enough accounts and slots for the account and storage commits to split their upper branches
+    for (final MutableWorldState state : List.of(bonsaiWorldState, forestWorldState)) {
+      final WorldUpdater updater = state.updater();
+      for (int i = 1; i <= 1_000; i++) {
+        updater.createAccount(Address.fromHexString(Integer.toHexString(i)), 0, Wei.of(i));
+      }
+      final MutableAccount contract = updater.getOrCreate(Address.fromHexString("0xc0ffee"));
+      for (int i = 1; i <= 1_000; i++) {
+        contract.setStorageValue(UInt256.valueOf(i), UInt256.valueOf(i));
+      }
+      updater.commit();
+      state.persist(null);
+    }
+
+    assertThat(bonsaiWorldState.rootHash()).isEqualTo(forestWorldState.rootHash());
+  }
+
   private static Stream<Bytes> emptyAndNullBytes() {
     return Stream.of(Bytes.EMPTY, null);
   }
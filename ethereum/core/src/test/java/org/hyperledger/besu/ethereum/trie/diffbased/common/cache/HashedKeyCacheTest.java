@@ -0,0 +1,117 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie.diffbased.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.datatypes.Address;
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+public class HashedKeyCacheTest {
+  private final MetricsSystem metricsSystem = mock(MetricsSystem.class);
+  private final Counter hitCounter = mock(Counter.class);
+  private final Counter missCounter = mock(Counter.class);
+
+  @BeforeEach
+  public void setUp() {
+    when(metricsSystem.createCounter(
+            eq(BesuMetricCategory.BLOCKCHAIN), eq("hashed_key_cache_hits"), any()))
+        .thenReturn(hitCounter);
+    when(metricsSystem.createCounter(
+            eq(BesuMetricCategory.BLOCKCHAIN), eq("hashed_key_cache_misses"), any()))
+        .thenReturn(missCounter);
+  }
+
+  @Test
+  public void hashesAddressesAndSlotKeys() {
+    final HashedKeyCache cache = new HashedKeyCache(10, metricsSystem);
+    final Address address = Address.fromHexString("0x7a250d5630b4cf539739df2c5dacb4c659f2488d");
+    final UInt256 slotKey = UInt256.valueOf(3);
+
+    assertThat(cache.hash(address)).isEqualTo(Hash.hash(address));
+    assertThat(cache.hash(slotKey)).isEqualTo(Hash.hash(slotKey));
+  }
+
+  @Test
+  public void cachedHashIsReturnedOnSecondLookup() {
+    final HashedKeyCache cache = new HashedKeyCache(10, metricsSystem);
+
+    final Hash first = cache.hash(UInt256.valueOf(0xcafe));
+
+    assertThat(cache.hash(UInt256.valueOf(0xcafe))).isSameAs(first);
+    verify(missCounter).inc();
+    verify(hitCounter).inc();
+  }
+
+  @Test
+  public void cachedKeyIsNotTiedToTheBufferItWasSlicedFrom() {
+    final HashedKeyCache cache = new HashedKeyCache(10, metricsSystem);
+    final MutableBytes buffer = MutableBytes.create(4);
+    buffer.set(1, (byte) 1);
+
+    final Hash hash = cache.hash(buffer.slice(0, 2));
+    buffer.set(1, (byte) 2);
+
+    assertThat(hash).isEqualTo(Hash.hash(Bytes.of(0, 1)));
+    assertThat(cache.hash(Bytes.of(0, 2))).isEqualTo(Hash.hash(Bytes.of(0, 2)));
+    assertThat(cache.hash(Bytes.of(0, 1))).isSameAs(hash);
+  }
+
+  @Test
+  public void zeroSizeSkipsTheCache() {
+    final HashedKeyCache cache = new HashedKeyCache(0, metricsSystem);
+
+    final Hash first = cache.hash(UInt256.valueOf(0xcafe));
+
+    assertThat(cache.hash(UInt256.valueOf(0xcafe))).isEqualTo(first).isNotSameAs(first);
+    verifyNoInteractions(hitCounter, missCounter);
+  }
+
+  @Test
+  public void countersAreOnlyRegisteredOncePerCache() {
+    final HashedKeyCache cache = new HashedKeyCache(10, metricsSystem);
+
+    cache.hash(UInt256.ONE);
+    cache.hash(UInt256.ONE);
+
+    verify(metricsSystem, times(1))
+        .createCounter(eq(BesuMetricCategory.BLOCKCHAIN), eq("hashed_key_cache_hits"), any());
+    verify(metricsSystem, times(1))
+        .createCounter(eq(BesuMetricCategory.BLOCKCHAIN), eq("hashed_key_cache_misses"), any());
+  }
+
+  @Test
+  public void negativeMaximumSizeIsRejected() {
+    assertThatThrownBy(() -> new HashedKeyCache(-1, metricsSystem))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+}
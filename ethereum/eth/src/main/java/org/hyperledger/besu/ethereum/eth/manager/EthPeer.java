@@ -40,6 +40,9 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNot
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage.DisconnectReason;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.plugin.services.permissioning.NodeMessagePermissioningProvider;
 
 import java.time.Clock;
@@ -98,6 +101,7 @@ public class EthPeer implements Comparable<EthPeer> {
   private volatile long lastRequestTimestamp = 0;
 
   private final Map<String, Map<Integer, RequestManager>> requestManagers;
+  private final LabelledMetric<OperationTimer> requestLatencyTimer;
 
   private final AtomicReference<Consumer<EthPeer>> onStatusesExchanged = new AtomicReference<>();
   private final PeerReputation reputation = new PeerReputation();
@@ -130,6 +134,28 @@ public class EthPeer implements Comparable<EthPeer> {
       final Clock clock,
       final List<NodeMessagePermissioningProvider> permissioningProviders,
       final Bytes localNodeId) {
+    this(
+        connection,
+        protocolName,
+        onStatusesExchanged,
+        peerValidators,
+        maxMessageSize,
+        clock,
+        permissioningProviders,
+        localNodeId,
+        NoOpMetricsSystem.getOperationTimerLabelledMetric(2));
+  }
+
+  public EthPeer(
+      final PeerConnection connection,
+      final String protocolName,
+      final Consumer<EthPeer> onStatusesExchanged,
+      final List<PeerValidator> peerValidators,
+      final int maxMessageSize,
+      final Clock clock,
+      final List<NodeMessagePermissioningProvider> permissioningProviders,
+      final Bytes localNodeId,
+      final LabelledMetric<OperationTimer> requestLatencyTimer) {
     this.connection = connection;
     this.protocolName = protocolName;
     this.maxMessageSize = maxMessageSize;
@@ -142,11 +168,16 @@ public class EthPeer implements Comparable<EthPeer> {
     this.requestManagers = new ConcurrentHashMap<>();
     this.localNodeId = localNodeId;
     this.id = connection.getPeer().getId();
+    this.requestLatencyTimer = requestLatencyTimer;
 
     initEthRequestManagers();
     initSnapRequestManagers();
   }
 
+  private RequestManager newRequestManager(final boolean supportsRequestId, final String protocol) {
+    return new RequestManager(this, supportsRequestId, protocol, requestLatencyTimer);
+  }
+
   private void initEthRequestManagers() {
     final boolean supportsRequestId =
         getAgreedCapabilities().stream().anyMatch(EthProtocol::isEth66Compatible);
@@ -155,18 +186,13 @@ public class EthPeer implements Comparable<EthPeer> {
         protocolName,
         Map.ofEntries(
             Map.entry(
-                EthPV62.GET_BLOCK_HEADERS,
-                new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV62.GET_BLOCK_BODIES,
-                new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV63.GET_RECEIPTS, new RequestManager(this, supportsRequestId, protocolName)),
-            Map.entry(
-                EthPV63.GET_NODE_DATA, new RequestManager(this, supportsRequestId, protocolName)),
+                EthPV62.GET_BLOCK_HEADERS, newRequestManager(supportsRequestId, protocolName)),
+            Map.entry(EthPV62.GET_BLOCK_BODIES, newRequestManager(supportsRequestId, protocolName)),
+            Map.entry(EthPV63.GET_RECEIPTS, newRequestManager(supportsRequestId, protocolName)),
+            Map.entry(EthPV63.GET_NODE_DATA, newRequestManager(supportsRequestId, protocolName)),
             Map.entry(
                 EthPV65.GET_POOLED_TRANSACTIONS,
-                new RequestManager(this, supportsRequestId, protocolName))));
+                newRequestManager(supportsRequestId, protocolName))));
   }
 
   private void initSnapRequestManagers() {
@@ -174,10 +200,10 @@ public class EthPeer implements Comparable<EthPeer> {
     requestManagers.put(
         SnapProtocol.NAME,
         Map.ofEntries(
-            Map.entry(SnapV1.GET_ACCOUNT_RANGE, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_STORAGE_RANGE, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_BYTECODES, new RequestManager(this, true, SnapProtocol.NAME)),
-            Map.entry(SnapV1.GET_TRIE_NODES, new RequestManager(this, true, SnapProtocol.NAME))));
+            Map.entry(SnapV1.GET_ACCOUNT_RANGE, newRequestManager(true, SnapProtocol.NAME)),
+            Map.entry(SnapV1.GET_STORAGE_RANGE, newRequestManager(true, SnapProtocol.NAME)),
+            Map.entry(SnapV1.GET_BYTECODES, newRequestManager(true, SnapProtocol.NAME)),
+            Map.entry(SnapV1.GET_TRIE_NODES, newRequestManager(true, SnapProtocol.NAME))));
   }
 
   public void markValidated(final PeerValidator validator) {
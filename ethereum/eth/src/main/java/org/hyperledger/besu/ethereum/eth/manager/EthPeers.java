@@ -24,6 +24,8 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.plugin.services.permissioning.NodeMessagePermissioningProvider;
 import org.hyperledger.besu.util.Subscribers;
 
@@ -98,6 +100,7 @@ public class EthPeers {
   private RlpxAgent rlpxAgent;
 
   private final Counter connectedPeersCounter;
+  private final LabelledMetric<OperationTimer> requestLatencyTimer;
 
   public EthPeers(
       final String protocolName,
@@ -140,6 +143,13 @@ public class EthPeers {
     connectedPeersCounter =
         metricsSystem.createCounter(
             BesuMetricCategory.PEERS, "connected_total", "Total number of peers connected");
+    requestLatencyTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.PEERS,
+            "request_latency",
+            "Time between a request sent to a peer and the reception of its response",
+            "protocol",
+            "code");
   }
 
   public void registerNewConnection(
@@ -162,7 +172,8 @@ public class EthPeers {
                     maxMessageSize,
                     clock,
                     permissioningProviders,
-                    localNodeId));
+                    localNodeId,
+                    requestLatencyTimer));
       }
       incompleteConnections.put(newConnection, ethPeer);
     }
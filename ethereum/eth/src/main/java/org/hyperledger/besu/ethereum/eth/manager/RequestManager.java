@@ -18,6 +18,9 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNot
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.DisconnectMessage;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
+import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.math.BigInteger;
 import java.util.Collection;
@@ -27,6 +30,8 @@ import java.util.Optional;
 import java.util.Queue;
 import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
 import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicLong;
 
@@ -42,14 +47,39 @@ public class RequestManager {
   private final EthPeer peer;
   private final boolean supportsRequestId;
   private final String protocolName;
+  private final LabelledMetric<OperationTimer> requestLatencyTimer;
+  // round trip timers of the requests waiting for their response, by request id
+  private final ConcurrentNavigableMap<BigInteger, OperationTimer.TimingContext> pendingLatencies =
+      new ConcurrentSkipListMap<>();
 
   private final AtomicInteger outstandingRequests = new AtomicInteger(0);
 
   public RequestManager(
       final EthPeer peer, final boolean supportsRequestId, final String protocolName) {
+    this(
+        peer,
+        supportsRequestId,
+        protocolName,
+        NoOpMetricsSystem.getOperationTimerLabelledMetric(2));
+  }
+
+  /**
+   * Creates a request manager recording the round trip time of the requests.
+   *
+   * @param peer the peer the requests are sent to
+   * @param supportsRequestId whether the responses carry the id of their request
+   * @param protocolName the protocol of the requests
+   * @param requestLatencyTimer the timer of the round trips, labelled by protocol and request code
+   */
+  public RequestManager(
+      final EthPeer peer,
+      final boolean supportsRequestId,
+      final String protocolName,
+      final LabelledMetric<OperationTimer> requestLatencyTimer) {
     this.peer = peer;
     this.supportsRequestId = supportsRequestId;
     this.protocolName = protocolName;
+    this.requestLatencyTimer = requestLatencyTimer;
   }
 
   public int outstandingRequests() {
@@ -65,6 +95,8 @@ public class RequestManager {
     outstandingRequests.incrementAndGet();
     final BigInteger requestId = BigInteger.valueOf(requestIdCounter.getAndIncrement());
     final ResponseStream stream = createStream(requestId);
+    final String code = Integer.toString(messageData.getCode());
+    pendingLatencies.put(requestId, requestLatencyTimer.labels(protocolName, code).startTimer());
     sender.send(supportsRequestId ? messageData.wrapMessageData(requestId) : messageData);
     return stream;
   }
@@ -77,6 +109,8 @@ public class RequestManager {
         // If there's a requestId, find the specific stream it belongs to
         final Map.Entry<BigInteger, MessageData> requestIdAndEthMessage =
             ethMessage.getData().unwrapMessageData();
+        Optional.ofNullable(pendingLatencies.remove(requestIdAndEthMessage.getKey()))
+            .ifPresent(OperationTimer.TimingContext::stopTimer);
         Optional.ofNullable(responseStreams.get(requestIdAndEthMessage.getKey()))
             .ifPresentOrElse(
                 responseStream -> responseStream.processMessage(requestIdAndEthMessage.getValue()),
@@ -85,7 +119,9 @@ public class RequestManager {
                 () -> peer.recordUselessResponse("Request ID incorrect"));
 
       } else {
-        // otherwise iterate through all of them
+        // otherwise iterate through all of them, responses come in the order of the requests
+        Optional.ofNullable(pendingLatencies.pollFirstEntry())
+            .ifPresent(entry -> entry.getValue().stopTimer());
         streams.forEach(stream -> stream.processMessage(ethMessage.getData()));
       }
     } catch (final RLPException e) {
@@ -122,6 +158,8 @@ public class RequestManager {
 
   private void deregisterStream(final BigInteger id) {
     responseStreams.remove(id);
+    // requests that timed out or were cancelled are not timed
+    pendingLatencies.remove(id);
   }
 
   @FunctionalInterface
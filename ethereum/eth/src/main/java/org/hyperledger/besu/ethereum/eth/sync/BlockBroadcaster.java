@@ -45,7 +45,9 @@ public class BlockBroadcaster {
 
   public void propagate(final Block block, final Difficulty totalDifficulty) {
     blockPropagatedSubscribers.forEach(listener -> listener.accept(block, totalDifficulty));
+    // encoded and compressed once for all the peers
     final NewBlockMessage newBlockMessage = NewBlockMessage.create(block, totalDifficulty);
+    newBlockMessage.markAsBroadcast();
     ethContext
         .getEthPeers()
         .streamAvailablePeers()
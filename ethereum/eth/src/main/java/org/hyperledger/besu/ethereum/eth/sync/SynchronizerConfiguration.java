@@ -47,6 +47,7 @@ public class SynchronizerConfiguration {
   public static final int DEFAULT_COMPUTATION_PARALLELISM = 2;
   public static final int DEFAULT_WORLD_STATE_TASK_CACHE_SIZE =
       CachingTaskCollection.DEFAULT_CACHE_SIZE;
+  public static final boolean DEFAULT_WORLD_STATE_TASK_SPILL_ENABLED = false;
   public static final long DEFAULT_PROPAGATION_MANAGER_GET_BLOCK_TIMEOUT_MILLIS =
       TimeUnit.SECONDS.toMillis(60);
 
@@ -60,6 +61,7 @@ public class SynchronizerConfiguration {
   private final int worldStateRequestParallelism;
   private final int worldStateMaxRequestsWithoutProgress;
   private final int worldStateTaskCacheSize;
+  private final boolean worldStateTaskSpillEnabled;
 
   // Snapsync
   private final SnapSyncConfiguration snapSyncConfiguration;
@@ -95,6 +97,7 @@ public class SynchronizerConfiguration {
       final int worldStateMaxRequestsWithoutProgress,
       final long worldStateMinMillisBeforeStalling,
       final int worldStateTaskCacheSize,
+      final boolean worldStateTaskSpillEnabled,
       final SnapSyncConfiguration snapSyncConfiguration,
       final Range<Long> blockPropagationRange,
       final SyncMode syncMode,
@@ -117,6 +120,7 @@ public class SynchronizerConfiguration {
     this.worldStateMaxRequestsWithoutProgress = worldStateMaxRequestsWithoutProgress;
     this.worldStateMinMillisBeforeStalling = worldStateMinMillisBeforeStalling;
     this.worldStateTaskCacheSize = worldStateTaskCacheSize;
+    this.worldStateTaskSpillEnabled = worldStateTaskSpillEnabled;
     this.snapSyncConfiguration = snapSyncConfiguration;
     this.blockPropagationRange = blockPropagationRange;
     this.syncMode = syncMode;
@@ -246,6 +250,10 @@ public class SynchronizerConfiguration {
     return worldStateTaskCacheSize;
   }
 
+  public boolean isWorldStateTaskSpillEnabled() {
+    return worldStateTaskSpillEnabled;
+  }
+
   public int getMaxTrailingPeers() {
     return maxTrailingPeers;
   }
@@ -279,6 +287,7 @@ public class SynchronizerConfiguration {
         DEFAULT_WORLD_STATE_MAX_REQUESTS_WITHOUT_PROGRESS;
     private long worldStateMinMillisBeforeStalling = DEFAULT_WORLD_STATE_MIN_MILLIS_BEFORE_STALLING;
     private int worldStateTaskCacheSize = DEFAULT_WORLD_STATE_TASK_CACHE_SIZE;
+    private boolean worldStateTaskSpillEnabled = DEFAULT_WORLD_STATE_TASK_SPILL_ENABLED;
 
     private long propagationManagerGetBlockTimeoutMillis =
         DEFAULT_PROPAGATION_MANAGER_GET_BLOCK_TIMEOUT_MILLIS;
@@ -390,6 +399,11 @@ public class SynchronizerConfiguration {
       return this;
     }
 
+    public Builder worldStateTaskSpillEnabled(final boolean worldStateTaskSpillEnabled) {
+      this.worldStateTaskSpillEnabled = worldStateTaskSpillEnabled;
+      return this;
+    }
+
     public Builder maxTrailingPeers(final int maxTailingPeers) {
       this.maxTrailingPeers = maxTailingPeers;
       return this;
@@ -416,6 +430,7 @@ public class SynchronizerConfiguration {
           worldStateMaxRequestsWithoutProgress,
           worldStateMinMillisBeforeStalling,
           worldStateTaskCacheSize,
+          worldStateTaskSpillEnabled,
           snapSyncConfiguration,
           blockPropagationRange,
           syncMode,
@@ -68,6 +68,7 @@ class CodeNodeDataRequest extends NodeDataRequest {
         });
   }
 
+  @Override
   public Optional<Hash> getAccountHash() {
     return accountHash;
   }
@@ -31,6 +31,7 @@ import org.hyperledger.besu.ethereum.mainnet.ScheduleBasedBlockHeaderFunctions;
 import org.hyperledger.besu.ethereum.worldstate.WorldStateStorageCoordinator;
 import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.services.tasks.FlatFileTasksPriorityQueues;
 import org.hyperledger.besu.services.tasks.InMemoryTasksPriorityQueues;
 
 import java.io.File;
@@ -47,6 +48,7 @@ import org.slf4j.LoggerFactory;
 public class FastDownloaderFactory {
 
   protected static final String FAST_SYNC_FOLDER = "fastsync";
+  private static final String WORLD_STATE_TASK_SPILL_FOLDER = "worldstate-task-spill";
 
   private static final Logger LOG = LoggerFactory.getLogger(FastDownloaderFactory.class);
 
@@ -102,8 +104,7 @@ public class FastDownloaderFactory {
           }
         });
     final InMemoryTasksPriorityQueues<NodeDataRequest> taskCollection =
-        createWorldStateDownloaderTaskCollection(
-            metricsSystem, syncConfig.getWorldStateTaskCacheSize());
+        createWorldStateDownloaderTaskCollection(metricsSystem, syncConfig, fastSyncDataDirectory);
     final WorldStateDownloader worldStateDownloader =
         new FastWorldStateDownloader(
             ethContext,
@@ -163,9 +164,26 @@ public class FastDownloaderFactory {
 
   private static InMemoryTasksPriorityQueues<NodeDataRequest>
       createWorldStateDownloaderTaskCollection(
-          final MetricsSystem metricsSystem, final int worldStateTaskCacheSize) {
-    final InMemoryTasksPriorityQueues<NodeDataRequest> taskCollection =
-        new InMemoryTasksPriorityQueues<>();
+          final MetricsSystem metricsSystem,
+          final SynchronizerConfiguration syncConfig,
+          final Path fastSyncDataDirectory) {
+    final int worldStateTaskCacheSize = syncConfig.getWorldStateTaskCacheSize();
+    final InMemoryTasksPriorityQueues<NodeDataRequest> taskCollection;
+    if (syncConfig.isWorldStateTaskSpillEnabled()) {
+      final FlatFileTasksPriorityQueues<NodeDataRequest> spillingTaskCollection =
+          new FlatFileTasksPriorityQueues<>(
+              fastSyncDataDirectory.resolve(WORLD_STATE_TASK_SPILL_FOLDER),
+              worldStateTaskCacheSize,
+              new NodeDataRequestSerializer());
+      metricsSystem.createLongGauge(
+          BesuMetricCategory.SYNCHRONIZER,
+          "world_state_pending_requests_spilled",
+          "Number of pending requests for fast sync world state download stored on disk",
+          spillingTaskCollection::spilledSize);
+      taskCollection = spillingTaskCollection;
+    } else {
+      taskCollection = new InMemoryTasksPriorityQueues<>();
+    }
 
     metricsSystem.createLongGauge(
         BesuMetricCategory.SYNCHRONIZER,
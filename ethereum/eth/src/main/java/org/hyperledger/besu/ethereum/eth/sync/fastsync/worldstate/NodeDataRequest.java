@@ -99,11 +99,23 @@ public abstract class NodeDataRequest implements TasksPriorityProvider {
     return location;
   }
 
+  public Optional<Hash> getAccountHash() {
+    return Optional.empty();
+  }
+
   public NodeDataRequest setRequiresPersisting(final boolean requiresPersisting) {
     this.requiresPersisting = requiresPersisting;
     return this;
   }
 
+  boolean isRequiresPersisting() {
+    return requiresPersisting;
+  }
+
+  Optional<NodeDataRequest> getPossibleParent() {
+    return possibleParent;
+  }
+
   public final void persist(final WorldStateKeyValueStorage.Updater updater) {
     if (pendingChildren.get() > 0) {
       return; // we do nothing. Our last child will eventually persist us.
@@ -145,6 +157,19 @@ public abstract class NodeDataRequest implements TasksPriorityProvider {
     this.priority = parent.priority * MAX_CHILDREN + parent.incrementChildren();
   }
 
+  /**
+   * Restores the position of a request read back from disk. Unlike {@link #registerParent}, the
+   * parent already counts this request among its pending children.
+   */
+  void relinkParent(final Optional<NodeDataRequest> parent, final int depth, final long priority) {
+    if (this.possibleParent.isPresent()) {
+      throw new WorldStateDownloaderException("Cannot set parent twice");
+    }
+    this.possibleParent = parent;
+    this.depth = depth;
+    this.priority = priority;
+  }
+
   @Override
   public long getPriority() {
     return priority;
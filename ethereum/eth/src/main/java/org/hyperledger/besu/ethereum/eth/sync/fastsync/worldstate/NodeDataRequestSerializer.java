@@ -0,0 +1,210 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.fastsync.worldstate;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.ethereum.rlp.RLPInput;
+import org.hyperledger.besu.ethereum.rlp.RLPOutput;
+import org.hyperledger.besu.services.tasks.TaskSerializer;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * Serializes the world state download requests spilled to disk.
+ *
+ * <p>A request keeps a reference to its parent, which is only persisted once all of its children
+ * are. The parent of a spilled request is therefore kept in memory, in a registry keyed by an id
+ * written next to the parent hash, until the last of its spilled children is read back and
+ * relinked to it.
+ */
+class NodeDataRequestSerializer implements TaskSerializer<NodeDataRequest> {
+
+  private final Map<NodeDataRequest, ParentLink> linksByParent = new IdentityHashMap<>();
+  private final Map<Long, ParentLink> linksById = new HashMap<>();
+  private long nextParentId = 0;
+
+  @Override
+  public Bytes serialize(final NodeDataRequest request) {
+    final Optional<ParentLink> parentLink = request.getPossibleParent().map(this::retainParent);
+    return RLP.encode(
+        out -> {
+          out.startList();
+          out.writeByte(request.getRequestType().getValue());
+          out.writeBytes(request.getHash());
+          writeOptional(out, request.getAccountHash());
+          writeOptional(out, request.getLocation());
+          writeOptional(out, Optional.ofNullable(request.getData()));
+          out.writeIntScalar(request.isRequiresPersisting() ? 1 : 0);
+          out.writeIntScalar(request.getDepth());
+          out.writeLongScalar(request.getPriority());
+          out.startList();
+          parentLink.ifPresent(
+              link -> {
+                out.writeLongScalar(link.id);
+                out.writeBytes(link.parent.getHash());
+              });
+          out.endList();
+          out.endList();
+        });
+  }
+
+  @Override
+  public NodeDataRequest deserialize(final Bytes serialized) {
+    final SpilledRequest spilled = SpilledRequest.readFrom(serialized);
+    final Optional<NodeDataRequest> parent =
+        spilled.parentId().map(parentId -> releaseParent(parentId, spilled.parentHash().get()));
+    final NodeDataRequest request =
+        switch (spilled.requestType()) {
+          case ACCOUNT_TRIE_NODE ->
+              NodeDataRequest.createAccountDataRequest(spilled.hash(), spilled.location());
+          case STORAGE_TRIE_NODE ->
+              NodeDataRequest.createStorageDataRequest(
+                  spilled.hash(), spilled.accountHash(), spilled.location());
+          case CODE -> NodeDataRequest.createCodeRequest(spilled.hash(), spilled.accountHash());
+        };
+    request.relinkParent(parent, spilled.depth(), spilled.priority());
+    spilled.data().ifPresent(request::setData);
+    request.setRequiresPersisting(spilled.requiresPersisting());
+    return request;
+  }
+
+  @Override
+  public boolean matches(final Bytes serialized, final NodeDataRequest request) {
+    final SpilledRequest spilled = SpilledRequest.readFrom(serialized);
+    final Optional<Long> parentId =
+        request.getPossibleParent().map(linksByParent::get).map(link -> link.id);
+    return spilled.requestType() == request.getRequestType()
+        && spilled.hash().equals(request.getHash())
+        && spilled.accountHash().equals(request.getAccountHash())
+        && spilled.location().equals(request.getLocation())
+        && spilled.depth() == request.getDepth()
+        && spilled.priority() == request.getPriority()
+        && spilled.parentId().equals(parentId);
+  }
+
+  @Override
+  public void clear() {
+    linksByParent.clear();
+    linksById.clear();
+  }
+
+  int retainedParentCount() {
+    return linksById.size();
+  }
+
+  private ParentLink retainParent(final NodeDataRequest parent) {
+    final ParentLink link =
+        linksByParent.computeIfAbsent(
+            parent,
+            key -> {
+              final ParentLink newLink = new ParentLink(nextParentId++, parent);
+              linksById.put(newLink.id, newLink);
+              return newLink;
+            });
+    link.spilledChildren++;
+    return link;
+  }
+
+  private NodeDataRequest releaseParent(final long parentId, final Hash parentHash) {
+    final ParentLink link = linksById.get(parentId);
+    if (link == null || !link.parent.getHash().equals(parentHash)) {
+      throw new IllegalStateException("Unknown parent " + parentHash + " of a spilled request");
+    }
+    if (--link.spilledChildren == 0) {
+      linksById.remove(parentId);
+      linksByParent.remove(link.parent);
+    }
+    return link.parent;
+  }
+
+  private static void writeOptional(final RLPOutput out, final Optional<? extends Bytes> value) {
+    out.startList();
+    value.ifPresent(out::writeBytes);
+    out.endList();
+  }
+
+  private static Optional<Bytes> readOptional(final RLPInput in) {
+    in.enterList();
+    final Optional<Bytes> value =
+        in.isEndOfCurrentList() ? Optional.empty() : Optional.of(in.readBytes());
+    in.leaveList();
+    return value;
+  }
+
+  private static class ParentLink {
+    private final long id;
+    private final NodeDataRequest parent;
+    private int spilledChildren = 0;
+
+    private ParentLink(final long id, final NodeDataRequest parent) {
+      this.id = id;
+      this.parent = parent;
+    }
+  }
+
+  private record SpilledRequest(
+      RequestType requestType,
+      Hash hash,
+      Optional<Hash> accountHash,
+      Optional<Bytes> location,
+      Optional<Bytes> data,
+      boolean requiresPersisting,
+      int depth,
+      long priority,
+      Optional<Long> parentId,
+      Optional<Hash> parentHash) {
+
+    private static SpilledRequest readFrom(final Bytes serialized) {
+      final RLPInput in = RLP.input(serialized);
+      in.enterList();
+      final RequestType requestType = RequestType.fromValue(in.readByte());
+      final Hash hash = Hash.wrap(in.readBytes32());
+      final Optional<Hash> accountHash =
+          readOptional(in).map(accountHashBytes -> Hash.wrap(Bytes32.wrap(accountHashBytes)));
+      final Optional<Bytes> location = readOptional(in);
+      final Optional<Bytes> data = readOptional(in);
+      final boolean requiresPersisting = in.readIntScalar() == 1;
+      final int depth = in.readIntScalar();
+      final long priority = in.readLongScalar();
+      in.enterList();
+      Optional<Long> parentId = Optional.empty();
+      Optional<Hash> parentHash = Optional.empty();
+      if (!in.isEndOfCurrentList()) {
+        parentId = Optional.of(in.readLongScalar());
+        parentHash = Optional.of(Hash.wrap(in.readBytes32()));
+      }
+      in.leaveList();
+      in.leaveList();
+      return new SpilledRequest(
+          requestType,
+          hash,
+          accountHash,
+          location,
+          data,
+          requiresPersisting,
+          depth,
+          priority,
+          parentId,
+          parentHash);
+    }
+  }
+}
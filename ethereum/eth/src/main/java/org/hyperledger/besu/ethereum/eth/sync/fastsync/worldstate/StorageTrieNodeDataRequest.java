@@ -96,6 +96,7 @@ class StorageTrieNodeDataRequest extends TrieNodeDataRequest {
     return Stream.empty();
   }
 
+  @Override
   public Optional<Hash> getAccountHash() {
     return accountHash;
   }
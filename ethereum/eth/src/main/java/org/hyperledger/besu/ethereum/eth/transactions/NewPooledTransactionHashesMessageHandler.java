@@ -22,6 +22,7 @@ import org.hyperledger.besu.ethereum.eth.manager.EthMessages;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.messages.NewPooledTransactionHashesMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -31,14 +32,17 @@ class NewPooledTransactionHashesMessageHandler implements EthMessages.MessageCal
 
   private final NewPooledTransactionHashesMessageProcessor transactionsMessageProcessor;
   private final EthScheduler scheduler;
+  private final TransactionPoolMetrics metrics;
   private final Duration txMsgKeepAlive;
   private final AtomicBoolean isEnabled = new AtomicBoolean(false);
 
   public NewPooledTransactionHashesMessageHandler(
       final EthScheduler scheduler,
       final NewPooledTransactionHashesMessageProcessor transactionsMessageProcessor,
+      final TransactionPoolMetrics metrics,
       final int txMsgKeepAliveSeconds) {
     this.scheduler = scheduler;
+    this.metrics = metrics;
     this.transactionsMessageProcessor = transactionsMessageProcessor;
     this.txMsgKeepAlive = Duration.ofSeconds(txMsgKeepAliveSeconds);
   }
@@ -50,10 +54,15 @@ class NewPooledTransactionHashesMessageHandler implements EthMessages.MessageCal
         NewPooledTransactionHashesMessage.readFrom(message.getData(), capability);
     final Instant startedAt = now();
     if (isEnabled.get()) {
+      final OperationTimer.TimingContext queueWait =
+          metrics.startMessageQueueWaitTimer(
+              NewPooledTransactionHashesMessageProcessor.METRIC_LABEL);
       scheduler.scheduleTxWorkerTask(
-          () ->
-              transactionsMessageProcessor.processNewPooledTransactionHashesMessage(
-                  message.getPeer(), transactionsMessage, startedAt, txMsgKeepAlive));
+          () -> {
+            queueWait.stopTimer();
+            transactionsMessageProcessor.processNewPooledTransactionHashesMessage(
+                message.getPeer(), transactionsMessage, startedAt, txMsgKeepAlive);
+          });
     }
   }
 
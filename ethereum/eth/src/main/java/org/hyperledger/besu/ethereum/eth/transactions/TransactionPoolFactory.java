@@ -121,6 +121,7 @@ public class TransactionPoolFactory {
         new TransactionsMessageHandler(
             ethContext.getScheduler(),
             new TransactionsMessageProcessor(transactionTracker, transactionPool, metrics),
+            metrics,
             transactionPoolConfiguration.getUnstable().getTxMessageKeepAliveSeconds());
 
     final NewPooledTransactionHashesMessageHandler pooledTransactionsMessageHandler =
@@ -132,6 +133,7 @@ public class TransactionPoolFactory {
                 transactionPoolConfiguration,
                 ethContext,
                 metrics),
+            metrics,
             transactionPoolConfiguration.getUnstable().getTxMessageKeepAliveSeconds());
 
     subscribeTransactionHandlers(
@@ -23,6 +23,7 @@ import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledGauge;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.util.HashMap;
 import java.util.Map;
@@ -38,6 +39,7 @@ public class TransactionPoolMetrics {
   public static final String REMOVED_COUNTER_NAME = "removed_total";
   public static final String REJECTED_COUNTER_NAME = "rejected_total";
   public static final String EXPIRED_MESSAGES_COUNTER_NAME = "messages_expired_total";
+  public static final String MESSAGES_QUEUE_WAIT_TIMER_NAME = "messages_queue_wait_seconds";
   private static final int SKIPPED_MESSAGES_LOGGING_THRESHOLD = 1000;
   private final MetricsSystem metricsSystem;
   private final LabelledMetric<Counter> addedCounter;
@@ -49,6 +51,7 @@ public class TransactionPoolMetrics {
   private final LabelledGauge uniqueSenderCount;
   private final LabelledMetric<Counter> expiredMessagesCounter;
   private final Map<String, RunnableCounter> expiredMessagesRunnableCounters = new HashMap<>();
+  private final LabelledMetric<OperationTimer> messagesQueueWaitTimer;
   private final LabelledMetric<Counter> alreadySeenTransactionsCounter;
   private final Map<String, ReplaceableDoubleSupplier> spaceUsedSuppliers = new HashMap<>();
   private final Map<String, ReplaceableDoubleSupplier> transactionCountSuppliers = new HashMap<>();
@@ -124,6 +127,13 @@ public class TransactionPoolMetrics {
             "Total number of received transaction pool messages expired and not processed.",
             "message");
 
+    messagesQueueWaitTimer =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.TRANSACTION_POOL,
+            MESSAGES_QUEUE_WAIT_TIMER_NAME,
+            "Time received transaction pool messages wait in the worker queue before processing",
+            "message");
+
     alreadySeenTransactionsCounter =
         metricsSystem.createLabelledCounter(
             BesuMetricCategory.TRANSACTION_POOL,
@@ -250,6 +260,10 @@ public class TransactionPoolMetrics {
     expiredMessagesCounter.labels(message).inc();
   }
 
+  public OperationTimer.TimingContext startMessageQueueWaitTimer(final String message) {
+    return messagesQueueWaitTimer.labels(message).startTimer();
+  }
+
   public void incrementAlreadySeenTransactions(final String message, final long count) {
     alreadySeenTransactionsCounter.labels(message).inc(count);
   }
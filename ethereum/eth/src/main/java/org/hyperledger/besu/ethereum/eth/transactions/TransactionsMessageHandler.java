@@ -20,6 +20,7 @@ import org.hyperledger.besu.ethereum.eth.manager.EthMessage;
 import org.hyperledger.besu.ethereum.eth.manager.EthMessages;
 import org.hyperledger.besu.ethereum.eth.manager.EthScheduler;
 import org.hyperledger.besu.ethereum.eth.messages.TransactionsMessage;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.time.Duration;
 import java.time.Instant;
@@ -29,14 +30,17 @@ class TransactionsMessageHandler implements EthMessages.MessageCallback {
 
   private final TransactionsMessageProcessor transactionsMessageProcessor;
   private final EthScheduler scheduler;
+  private final TransactionPoolMetrics metrics;
   private final Duration txMsgKeepAlive;
   private final AtomicBoolean isEnabled = new AtomicBoolean(false);
 
   public TransactionsMessageHandler(
       final EthScheduler scheduler,
       final TransactionsMessageProcessor transactionsMessageProcessor,
+      final TransactionPoolMetrics metrics,
       final int txMsgKeepAliveSeconds) {
     this.scheduler = scheduler;
+    this.metrics = metrics;
     this.transactionsMessageProcessor = transactionsMessageProcessor;
     this.txMsgKeepAlive = Duration.ofSeconds(txMsgKeepAliveSeconds);
   }
@@ -46,10 +50,14 @@ class TransactionsMessageHandler implements EthMessages.MessageCallback {
     final TransactionsMessage transactionsMessage = TransactionsMessage.readFrom(message.getData());
     final Instant startedAt = now();
     if (isEnabled.get()) {
+      final OperationTimer.TimingContext queueWait =
+          metrics.startMessageQueueWaitTimer(TransactionsMessageProcessor.METRIC_LABEL);
       scheduler.scheduleTxWorkerTask(
-          () ->
-              transactionsMessageProcessor.processTransactionsMessage(
-                  message.getPeer(), transactionsMessage, startedAt, txMsgKeepAlive));
+          () -> {
+            queueWait.stopTimer();
+            transactionsMessageProcessor.processTransactionsMessage(
+                message.getPeer(), transactionsMessage, startedAt, txMsgKeepAlive);
+          });
     }
   }
 
@@ -16,13 +16,19 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static org.hyperledger.besu.ethereum.core.Transaction.toHashList;
 
+import org.hyperledger.besu.datatypes.Hash;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.messages.LimitedTransactionsMessages;
+import org.hyperledger.besu.ethereum.eth.messages.TransactionsMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
 import java.util.Set;
-import java.util.stream.StreamSupport;
 
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,14 +42,61 @@ class TransactionsMessageSender {
     this.transactionTracker = transactionTracker;
   }
 
+  /**
+   * Sends the pending transactions of all the peers. Peers waiting for the same transactions, which
+   * is the common case once a batch of new transactions is received, are sent the same messages,
+   * which are encoded and compressed only once. Peers are grouped by the hashes of their
+   * transactions, so the transactions themselves are neither hashed nor compared.
+   */
   public void sendTransactionsToPeers() {
-    StreamSupport.stream(transactionTracker.getEthPeersWithUnsentTransactions().spliterator(), true)
-        .parallel()
-        .forEach(this::sendTransactionsToPeer);
+    final Map<Set<Hash>, PeersGroup> peersByTransactionHashes = new HashMap<>();
+    for (final EthPeer peer : transactionTracker.getEthPeersWithUnsentTransactions()) {
+      final Set<Transaction> transactions = transactionTracker.claimTransactionsToSendToPeer(peer);
+      if (!transactions.isEmpty()) {
+        peersByTransactionHashes
+            .computeIfAbsent(
+                Set.copyOf(toHashList(transactions)),
+                __ -> new PeersGroup(transactions, new ArrayList<>()))
+            .peers()
+            .add(peer);
+      }
+    }
+    peersByTransactionHashes
+        .values()
+        .parallelStream()
+        .forEach(
+            group ->
+                sendTransactionsToPeers(group.peers(), new LinkedHashSet<>(group.transactions())));
+  }
+
+  private void sendTransactionsToPeers(
+      final List<EthPeer> peers, final Set<Transaction> allTxToSend) {
+    if (peers.size() == 1) {
+      sendTransactionsToPeer(peers.get(0), allTxToSend);
+      return;
+    }
+    final List<EthPeer> connectedPeers = new ArrayList<>(peers);
+    while (!allTxToSend.isEmpty() && !connectedPeers.isEmpty()) {
+      final LimitedTransactionsMessages limitedTransactionsMessages =
+          LimitedTransactionsMessages.createLimited(allTxToSend);
+      LOG.atTrace()
+          .setMessage("Broadcasting {} transactions to {} peers, remaining transactions {}")
+          .addArgument(() -> limitedTransactionsMessages.getIncludedTransactions().size())
+          .addArgument(connectedPeers::size)
+          .addArgument(allTxToSend::size)
+          .log();
+      allTxToSend.removeAll(limitedTransactionsMessages.getIncludedTransactions());
+      final TransactionsMessage message = limitedTransactionsMessages.getTransactionsMessage();
+      message.markAsBroadcast();
+      connectedPeers.removeIf(peer -> !send(peer, message));
+    }
   }
 
   void sendTransactionsToPeer(final EthPeer peer) {
-    final Set<Transaction> allTxToSend = transactionTracker.claimTransactionsToSendToPeer(peer);
+    sendTransactionsToPeer(peer, transactionTracker.claimTransactionsToSendToPeer(peer));
+  }
+
+  private void sendTransactionsToPeer(final EthPeer peer, final Set<Transaction> allTxToSend) {
     while (!allTxToSend.isEmpty()) {
       final LimitedTransactionsMessages limitedTransactionsMessages =
           LimitedTransactionsMessages.createLimited(allTxToSend);
@@ -59,11 +112,20 @@ class TransactionsMessageSender {
           .addArgument(() -> toHashList(includedTransactions))
           .log();
       allTxToSend.removeAll(limitedTransactionsMessages.getIncludedTransactions());
-      try {
-        peer.send(limitedTransactionsMessages.getTransactionsMessage());
-      } catch (final PeerNotConnected e) {
+      if (!send(peer, limitedTransactionsMessages.getTransactionsMessage())) {
         return;
       }
     }
   }
+
+  private record PeersGroup(Set<Transaction> transactions, List<EthPeer> peers) {}
+
+  private static boolean send(final EthPeer peer, final TransactionsMessage message) {
+    try {
+      peer.send(message);
+      return true;
+    } catch (final PeerNotConnected e) {
+      return false;
+    }
+  }
 }
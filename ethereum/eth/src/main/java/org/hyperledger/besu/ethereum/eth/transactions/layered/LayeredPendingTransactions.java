@@ -48,6 +48,9 @@ import java.util.Optional;
 import java.util.OptionalLong;
 import java.util.Set;
 import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
 import java.util.stream.Collector;
 import java.util.stream.Collectors;
 
@@ -63,6 +66,11 @@ public class LayeredPendingTransactions implements PendingTransactions {
   private static final Marker INVALID_TX_REMOVED = MarkerFactory.getMarker("INVALID_TX_REMOVED");
   private final TransactionPoolConfiguration poolConfig;
   private final AbstractPrioritizedTransactions prioritizedTransactions;
+  // queries by hash, counts and listings are served lock free from the layers concurrent maps, so
+  // RPC reads never wait for block building or transaction ingestion, and are weakly consistent.
+  // Other read only queries can run concurrently, anything that changes the layers needs exclusive
+  // access
+  private final ReadWriteLock rwLock = new ReentrantReadWriteLock();
 
   public LayeredPendingTransactions(
       final TransactionPoolConfiguration poolConfig,
@@ -72,35 +80,46 @@ public class LayeredPendingTransactions implements PendingTransactions {
   }
 
   @Override
-  public synchronized void reset() {
-    prioritizedTransactions.reset();
+  public void reset() {
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      prioritizedTransactions.reset();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized TransactionAddedResult addTransaction(
+  public TransactionAddedResult addTransaction(
       final PendingTransaction pendingTransaction, final Optional<Account> maybeSenderAccount) {
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      final long stateSenderNonce = maybeSenderAccount.map(AccountState::getNonce).orElse(0L);
 
-    final long stateSenderNonce = maybeSenderAccount.map(AccountState::getNonce).orElse(0L);
-
-    logTransactionForReplayAdd(pendingTransaction, stateSenderNonce);
+      logTransactionForReplayAdd(pendingTransaction, stateSenderNonce);
 
-    if (hasAccountNonceDisparity(pendingTransaction, stateSenderNonce)) {
-      reconcileSender(pendingTransaction.getSender(), stateSenderNonce);
-    }
+      if (hasAccountNonceDisparity(pendingTransaction, stateSenderNonce)) {
+        reconcileSender(pendingTransaction.getSender(), stateSenderNonce);
+      }
 
-    final long nonceDistance = pendingTransaction.getNonce() - stateSenderNonce;
+      final long nonceDistance = pendingTransaction.getNonce() - stateSenderNonce;
 
-    final TransactionAddedResult nonceChecksResult =
-        nonceChecks(pendingTransaction, stateSenderNonce, nonceDistance);
-    if (nonceChecksResult != null) {
-      return nonceChecksResult;
-    }
+      final TransactionAddedResult nonceChecksResult =
+          nonceChecks(pendingTransaction, stateSenderNonce, nonceDistance);
+      if (nonceChecksResult != null) {
+        return nonceChecksResult;
+      }
 
-    try {
-      return prioritizedTransactions.add(pendingTransaction, (int) nonceDistance);
-    } catch (final Throwable throwable) {
-      return reconcileAndRetryAdd(
-          pendingTransaction, stateSenderNonce, (int) nonceDistance, throwable);
+      try {
+        return prioritizedTransactions.add(pendingTransaction, (int) nonceDistance);
+      } catch (final Throwable throwable) {
+        return reconcileAndRetryAdd(
+            pendingTransaction, stateSenderNonce, (int) nonceDistance, throwable);
+      }
+    } finally {
+      lock.unlock();
     }
   }
 
@@ -301,12 +320,12 @@ public class LayeredPendingTransactions implements PendingTransactions {
   public void evictOldTransactions() {}
 
   @Override
-  public synchronized List<Transaction> getLocalTransactions() {
+  public List<Transaction> getLocalTransactions() {
     return prioritizedTransactions.getAllLocal();
   }
 
   @Override
-  public synchronized List<Transaction> getPriorityTransactions() {
+  public List<Transaction> getPriorityTransactions() {
     return prioritizedTransactions.getAllPriority();
   }
 
@@ -318,8 +337,17 @@ public class LayeredPendingTransactions implements PendingTransactions {
   // block could end up with transactions of the new type.
   // This seems like it would be very rare but worth it to document that we don't handle that case
   // right now.
-  public synchronized void selectTransactions(
-      final PendingTransactions.TransactionSelector selector) {
+  public void selectTransactions(final PendingTransactions.TransactionSelector selector) {
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      internalSelectTransactions(selector);
+    } finally {
+      lock.unlock();
+    }
+  }
+
+  private void internalSelectTransactions(final PendingTransactions.TransactionSelector selector) {
     final List<PendingTransaction> invalidTransactions = new ArrayList<>();
     final Set<Hash> alreadyChecked = new HashSet<>();
     final Set<Address> skipSenders = new HashSet<>();
@@ -390,23 +418,27 @@ public class LayeredPendingTransactions implements PendingTransactions {
   }
 
   @Override
-  public synchronized int size() {
+  public int size() {
     return prioritizedTransactions.count();
   }
 
   @Override
-  public synchronized boolean containsTransaction(final Transaction transaction) {
+  public boolean containsTransaction(final Transaction transaction) {
     return prioritizedTransactions.contains(transaction);
   }
 
   @Override
-  public synchronized Optional<Transaction> getTransactionByHash(final Hash transactionHash) {
+  public Optional<Transaction> getTransactionByHash(final Hash transactionHash) {
     return prioritizedTransactions.getByHash(transactionHash);
   }
 
   @Override
-  public synchronized List<PendingTransaction> getPendingTransactions() {
-    return prioritizedTransactions.getAll();
+  public List<PendingTransaction> getPendingTransactions() {
+    // since this is read without locking, a tx moving between layers could be seen twice
+    final Set<Hash> seen = new HashSet<>();
+    return prioritizedTransactions.getAll().stream()
+        .filter(pendingTransaction -> seen.add(pendingTransaction.getHash()))
+        .collect(Collectors.toCollection(ArrayList::new));
   }
 
   @Override
@@ -431,37 +463,49 @@ public class LayeredPendingTransactions implements PendingTransactions {
 
   @Override
   public OptionalLong getNextNonceForSender(final Address sender) {
-    return prioritizedTransactions.getNextNonceFor(sender);
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.getNextNonceFor(sender);
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
-  public synchronized void manageBlockAdded(
+  public void manageBlockAdded(
       final BlockHeader blockHeader,
       final List<Transaction> confirmedTransactions,
       final List<Transaction> reorgTransactions,
       final FeeMarket feeMarket) {
-    LOG.atTrace()
-        .setMessage("Managing new added block {}")
-        .addArgument(blockHeader::toLogString)
-        .log();
+    final Lock lock = rwLock.writeLock();
+    lock.lock();
+    try {
+      LOG.atTrace()
+          .setMessage("Managing new added block {}")
+          .addArgument(blockHeader::toLogString)
+          .log();
 
-    final var maxConfirmedNonceBySender = maxNonceBySender(confirmedTransactions);
+      final var maxConfirmedNonceBySender = maxNonceBySender(confirmedTransactions);
 
-    final var reorgNonceRangeBySender = nonceRangeBySender(reorgTransactions);
+      final var reorgNonceRangeBySender = nonceRangeBySender(reorgTransactions);
 
-    try {
-      prioritizedTransactions.blockAdded(feeMarket, blockHeader, maxConfirmedNonceBySender);
-    } catch (final Throwable throwable) {
-      LOG.warn(
-          "Unexpected error {} when managing added block {}, maxNonceBySender {}, reorgNonceRangeBySender {}",
-          throwable,
-          blockHeader.toLogString(),
-          maxConfirmedNonceBySender,
-          reorgTransactions);
-      LOG.warn("Stack trace", throwable);
-    }
+      try {
+        prioritizedTransactions.blockAdded(feeMarket, blockHeader, maxConfirmedNonceBySender);
+      } catch (final Throwable throwable) {
+        LOG.warn(
+            "Unexpected error {} when managing added block {}, maxNonceBySender {}, reorgNonceRangeBySender {}",
+            throwable,
+            blockHeader.toLogString(),
+            maxConfirmedNonceBySender,
+            reorgTransactions);
+        LOG.warn("Stack trace", throwable);
+      }
 
-    logBlockHeaderForReplay(blockHeader, maxConfirmedNonceBySender, reorgNonceRangeBySender);
+      logBlockHeaderForReplay(blockHeader, maxConfirmedNonceBySender, reorgNonceRangeBySender);
+    } finally {
+      lock.unlock();
+    }
   }
 
   private void logBlockHeaderForReplay(
@@ -547,13 +591,19 @@ public class LayeredPendingTransactions implements PendingTransactions {
   }
 
   @Override
-  public synchronized String toTraceLog() {
+  public String toTraceLog() {
     return "";
   }
 
   @Override
-  public synchronized String logStats() {
-    return prioritizedTransactions.logStats();
+  public String logStats() {
+    final Lock lock = rwLock.readLock();
+    lock.lock();
+    try {
+      return prioritizedTransactions.logStats();
+    } finally {
+      lock.unlock();
+    }
   }
 
   @Override
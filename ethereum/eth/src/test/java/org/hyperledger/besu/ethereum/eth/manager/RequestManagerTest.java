@@ -15,6 +15,10 @@
 package org.hyperledger.besu.ethereum.eth.manager;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.eth.EthProtocol;
 import org.hyperledger.besu.ethereum.eth.EthProtocolConfiguration;
@@ -24,6 +28,8 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
 import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 import org.hyperledger.besu.testutil.TestClock;
 
 import java.util.ArrayList;
@@ -275,6 +281,28 @@ public class RequestManagerTest {
     assertThat(receivedMessagesA.size() + receivedMessagesB.size()).isEqualTo(1);
   }
 
+  @Test
+  @SuppressWarnings("unchecked")
+  public void timesRoundTripOfRequests() throws Exception {
+    for (final boolean supportsRequestId : List.of(true, false)) {
+      final EthPeer peer = createPeer();
+      final LabelledMetric<OperationTimer> requestLatencyTimer = mock(LabelledMetric.class);
+      final OperationTimer timer = mock(OperationTimer.class);
+      final OperationTimer.TimingContext timingContext = mock(OperationTimer.TimingContext.class);
+      when(requestLatencyTimer.labels(EthProtocol.NAME, "1")).thenReturn(timer);
+      when(timer.startTimer()).thenReturn(timingContext);
+      final RequestManager requestManager =
+          new RequestManager(peer, supportsRequestId, EthProtocol.NAME, requestLatencyTimer);
+
+      requestManager.dispatchRequest(__ -> {}, new RawMessage(0x01, Bytes.EMPTY));
+      verify(timer).startTimer();
+      verify(timingContext, never()).stopTimer();
+
+      requestManager.dispatchResponse(mockMessage(peer, supportsRequestId));
+      verify(timingContext).stopTimer();
+    }
+  }
+
   private EthMessage mockMessage(final EthPeer peer, final boolean supportsRequestId) {
     if (!supportsRequestId) {
       return new EthMessage(peer, new RawMessage(1, Bytes.EMPTY));
@@ -0,0 +1,123 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.eth.sync.fastsync.worldstate;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.datatypes.Hash;
+import org.hyperledger.besu.ethereum.trie.forest.storage.ForestWorldStateKeyValueStorage;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.Optional;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+public class NodeDataRequestSerializerTest {
+
+  private final ForestWorldStateKeyValueStorage worldStateKeyValueStorage =
+      new ForestWorldStateKeyValueStorage(new InMemoryKeyValueStorage());
+  private final NodeDataRequestSerializer serializer = new NodeDataRequestSerializer();
+
+  @Test
+  public void shouldRoundTripRequestsOfEveryType() {
+    final NodeDataRequest parent = accountRequest(Bytes.of(1), Optional.of(Bytes.EMPTY));
+    final NodeDataRequest account = accountRequest(Bytes.of(2), Optional.of(Bytes.of(3)));
+    final NodeDataRequest storage =
+        NodeDataRequest.createStorageDataRequest(
+            Hash.hash(Bytes.of(4)), Optional.of(Hash.hash(Bytes.of(5))), Optional.empty());
+    final NodeDataRequest code =
+        NodeDataRequest.createCodeRequest(
+            Hash.hash(Bytes.of(6)), Optional.of(Hash.hash(Bytes.of(7))));
+    account.registerParent(parent);
+    storage.registerParent(parent);
+    code.registerParent(parent);
+
+    for (final NodeDataRequest request : new NodeDataRequest[] {account, storage, code}) {
+      final NodeDataRequest restored = serializer.deserialize(serializer.serialize(request));
+
+      assertThat(restored.getRequestType()).isEqualTo(request.getRequestType());
+      assertThat(restored.getHash()).isEqualTo(request.getHash());
+      assertThat(restored.getAccountHash()).isEqualTo(request.getAccountHash());
+      assertThat(restored.getLocation()).isEqualTo(request.getLocation());
+      assertThat(restored.getDepth()).isEqualTo(request.getDepth());
+      assertThat(restored.getPriority()).isEqualTo(request.getPriority());
+      assertThat(restored.getPossibleParent()).containsSame(parent);
+    }
+    assertThat(serializer.retainedParentCount()).isZero();
+  }
+
+  @Test
+  public void shouldPersistParentOnceAllSpilledChildrenArePersisted() {
+    final NodeDataRequest parent = accountRequest(Bytes.of(1), Optional.of(Bytes.EMPTY));
+    final NodeDataRequest firstChild = accountRequest(Bytes.of(2), Optional.of(Bytes.of(1)));
+    final NodeDataRequest secondChild = accountRequest(Bytes.of(3), Optional.of(Bytes.of(2)));
+    firstChild.registerParent(parent);
+    secondChild.registerParent(parent);
+    persist(parent);
+
+    final Bytes firstSpilled = serializer.serialize(firstChild);
+    final Bytes secondSpilled = serializer.serialize(secondChild);
+    assertThat(serializer.retainedParentCount()).isEqualTo(1);
+
+    persist(serializer.deserialize(firstSpilled));
+    assertThat(worldStateKeyValueStorage.getAccountStateTrieNode(parent.getHash())).isEmpty();
+
+    persist(serializer.deserialize(secondSpilled));
+    assertThat(worldStateKeyValueStorage.getAccountStateTrieNode(parent.getHash()))
+        .contains(parent.getData());
+    assertThat(serializer.retainedParentCount()).isZero();
+  }
+
+  @Test
+  public void shouldMatchOnlyTheSerializedRequest() {
+    final NodeDataRequest parent = accountRequest(Bytes.of(1), Optional.of(Bytes.EMPTY));
+    final NodeDataRequest child = accountRequest(Bytes.of(2), Optional.of(Bytes.of(1)));
+    final NodeDataRequest sibling = accountRequest(Bytes.of(3), Optional.of(Bytes.of(2)));
+    child.registerParent(parent);
+    sibling.registerParent(parent);
+
+    final Bytes spilled = serializer.serialize(child);
+
+    assertThat(serializer.matches(spilled, child)).isTrue();
+    assertThat(serializer.matches(spilled, sibling)).isFalse();
+    assertThat(serializer.matches(spilled, parent)).isFalse();
+  }
+
+  @Test
+  public void shouldReleaseParentsOnClear() {
+    final NodeDataRequest parent = accountRequest(Bytes.of(1), Optional.of(Bytes.EMPTY));
+    final NodeDataRequest child = accountRequest(Bytes.of(2), Optional.of(Bytes.of(1)));
+    child.registerParent(parent);
+
+    final Bytes spilled = serializer.serialize(child);
+    serializer.clear();
+
+    assertThat(serializer.retainedParentCount()).isZero();
+    assertThatThrownBy(() -> serializer.deserialize(spilled))
+        .isInstanceOf(IllegalStateException.class);
+  }
+
+  private NodeDataRequest accountRequest(final Bytes data, final Optional<Bytes> location) {
+    return NodeDataRequest.createAccountDataRequest(Hash.hash(data), location).setData(data);
+  }
+
+  private void persist(final NodeDataRequest request) {
+    final ForestWorldStateKeyValueStorage.Updater updater = worldStateKeyValueStorage.updater();
+    request.persist(updater);
+    updater.commit();
+  }
+}
@@ -16,17 +16,20 @@ package org.hyperledger.besu.ethereum.eth.transactions;
 
 import static com.google.common.collect.Sets.newHashSet;
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.argThat;
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.verifyNoMoreInteractions;
+import static org.mockito.Mockito.when;
 
 import org.hyperledger.besu.ethereum.core.BlockDataGenerator;
 import org.hyperledger.besu.ethereum.core.Transaction;
 import org.hyperledger.besu.ethereum.eth.manager.EthPeer;
 import org.hyperledger.besu.ethereum.eth.messages.EthPV62;
 import org.hyperledger.besu.ethereum.eth.messages.TransactionsMessage;
+import org.hyperledger.besu.ethereum.p2p.rlpx.connections.PeerConnection.PeerNotConnected;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 
 import java.util.List;
@@ -85,6 +88,43 @@ public class TransactionsMessageSenderTest {
     assertThat(Sets.union(firstBatch, secondBatch)).isEqualTo(transactions);
   }
 
+  @Test
+  public void shouldShareMessageBetweenPeersWithSameTransactions() throws Exception {
+    transactionTracker.addToPeerSendQueue(peer1, transaction1);
+    transactionTracker.addToPeerSendQueue(peer1, transaction2);
+    transactionTracker.addToPeerSendQueue(peer2, transaction1);
+    transactionTracker.addToPeerSendQueue(peer2, transaction2);
+
+    messageSender.sendTransactionsToPeers();
+
+    final ArgumentCaptor<MessageData> peer1Message = ArgumentCaptor.forClass(MessageData.class);
+    final ArgumentCaptor<MessageData> peer2Message = ArgumentCaptor.forClass(MessageData.class);
+    verify(peer1).send(peer1Message.capture());
+    verify(peer2).send(peer2Message.capture());
+    verifyNoMoreInteractions(peer1, peer2);
+
+    assertThat(peer1Message.getValue()).isSameAs(peer2Message.getValue());
+    assertThat(peer1Message.getValue().isBroadcast()).isTrue();
+    assertThat(getTransactionsFromMessage(peer1Message.getValue()))
+        .containsExactlyInAnyOrder(transaction1, transaction2);
+  }
+
+  @Test
+  public void shouldKeepSendingToOtherPeersWhenOneDisconnects() throws Exception {
+    final Set<Transaction> transactions = generator.transactions(6000);
+    transactions.forEach(
+        transaction -> {
+          transactionTracker.addToPeerSendQueue(peer1, transaction);
+          transactionTracker.addToPeerSendQueue(peer2, transaction);
+        });
+    when(peer1.send(any())).thenThrow(new PeerNotConnected("disconnected"));
+
+    messageSender.sendTransactionsToPeers();
+
+    verify(peer1, times(1)).send(any());
+    verify(peer2, times(2)).send(any());
+  }
+
   private MessageData transactionsMessageContaining(final Transaction... transactions) {
     return argThat(
         message -> {
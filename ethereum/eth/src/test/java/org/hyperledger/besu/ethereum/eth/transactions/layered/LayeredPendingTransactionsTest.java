@@ -57,6 +57,8 @@ import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.OptionalLong;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
 import java.util.function.BiFunction;
 import java.util.stream.Stream;
 
@@ -372,6 +374,27 @@ public class LayeredPendingTransactionsTest extends BaseTransactionPoolTest {
     assertThat(parsedTransactions.get(1)).isEqualTo(transaction1);
   }
 
+  @Test
+  public void readOnlyQueriesDoNotWaitForSelection() {
+    pendingTransactions.addTransaction(
+        createRemotePendingTransaction(transaction0), Optional.empty());
+
+    final List<PendingTransaction> readDuringSelection = new ArrayList<>();
+    pendingTransactions.selectTransactions(
+        pendingTx -> {
+          // reading from another thread must not block on the ongoing selection
+          readDuringSelection.addAll(
+              CompletableFuture.supplyAsync(pendingTransactions::getPendingTransactions)
+                  .orTimeout(5, TimeUnit.SECONDS)
+                  .join());
+          return SELECTED;
+        });
+
+    assertThat(readDuringSelection)
+        .map(PendingTransaction::getTransaction)
+        .containsExactly(transaction0);
+  }
+
   @Test
   public void notSelectReplacedTransaction() {
     final Transaction transaction1 = createTransaction(0, KEYS1);
@@ -41,6 +41,7 @@ import org.hyperledger.besu.metrics.BesuMetricCategory;
 import org.hyperledger.besu.plugin.services.MetricsSystem;
 import org.hyperledger.besu.plugin.services.metrics.Counter;
 import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
 
 import java.io.IOException;
 import java.net.InetSocketAddress;
@@ -74,7 +75,13 @@ final class DeFramer extends ByteToMessageDecoder {
   private final boolean inboundInitiated;
   private final PeerTable peerTable;
   private boolean hellosExchanged;
+  private CapabilityMultiplexer capabilityMultiplexer;
   private final LabelledMetric<Counter> outboundMessagesCounter;
+  private final MessageMetrics messageMetrics;
+  private boolean compressionEnabled;
+  // wire bytes of the message being deframed, which may take several reads
+  private int pendingWireBytes;
+  private int deframedWireBytes;
 
   DeFramer(
       final Framer framer,
@@ -102,15 +109,24 @@ final class DeFramer extends ByteToMessageDecoder {
             "protocol",
             "name",
             "code");
+    this.messageMetrics = new MessageMetrics(metricsSystem);
   }
 
   @Override
   protected void decode(final ChannelHandlerContext ctx, final ByteBuf in, final List<Object> out) {
     MessageData message;
-    while ((message = framer.deframe(in)) != null) {
+    while ((message = deframe(in)) != null) {
 
       if (hellosExchanged) {
 
+        final CapabilityMultiplexer.ProtocolMessage demultiplexed =
+            capabilityMultiplexer.demultiplex(message);
+        messageMetrics.recordInbound(
+            capabilityMultiplexer,
+            demultiplexed.getCapability(),
+            demultiplexed.getMessage().getCode(),
+            message.getSize(),
+            deframedWireBytes);
         out.add(message);
 
       } else if (message.getCode() == WireMessageCodes.HELLO) {
@@ -130,9 +146,10 @@ final class DeFramer extends ByteToMessageDecoder {
         if (peerInfo.getVersion() >= 5) {
           LOG.trace("Enable compression for p2pVersion: {}", peerInfo.getVersion());
           framer.enableCompression();
+          compressionEnabled = true;
         }
 
-        final CapabilityMultiplexer capabilityMultiplexer =
+        capabilityMultiplexer =
             new CapabilityMultiplexer(
                 subProtocols,
                 localNode.getPeerInfo().getCapabilities(),
@@ -197,7 +214,7 @@ final class DeFramer extends ByteToMessageDecoder {
                 new WireKeepAlive(connection, waitingForPong),
                 new ApiHandler(
                     capabilityMultiplexer, connection, connectionEventDispatcher, waitingForPong),
-                new MessageFramer(capabilityMultiplexer, framer));
+                new MessageFramer(capabilityMultiplexer, framer, messageMetrics));
         connectFuture.complete(connection);
 
       } else if (message.getCode() == WireMessageCodes.DISCONNECT) {
@@ -232,6 +249,21 @@ final class DeFramer extends ByteToMessageDecoder {
     }
   }
 
+  private MessageData deframe(final ByteBuf in) {
+    final int readableBytes = in.readableBytes();
+    final MessageData message;
+    try (final OperationTimer.TimingContext ignored =
+        messageMetrics.startDecodeTimer(compressionEnabled)) {
+      message = framer.deframe(in);
+    }
+    pendingWireBytes += readableBytes - in.readableBytes();
+    if (message != null) {
+      deframedWireBytes = pendingWireBytes;
+      pendingWireBytes = 0;
+    }
+    return message;
+  }
+
   private Optional<Peer> createPeer(final PeerInfo peerInfo, final ChannelHandlerContext ctx) {
     final InetSocketAddress remoteAddress = ((InetSocketAddress) ctx.channel().remoteAddress());
     if (remoteAddress == null) {
@@ -21,20 +21,38 @@ import io.netty.buffer.ByteBuf;
 import io.netty.channel.ChannelHandlerContext;
 import io.netty.handler.codec.MessageToByteEncoder;
 
+/**
+ * Frames outbound messages into pooled heap buffers, which the {@link Framer} compresses, encrypts
+ * and authenticates in place without going through temporary arrays.
+ */
 final class MessageFramer extends MessageToByteEncoder<OutboundMessage> {
 
   private final CapabilityMultiplexer multiplexer;
 
   private final Framer framer;
 
-  MessageFramer(final CapabilityMultiplexer multiplexer, final Framer framer) {
+  private final MessageMetrics messageMetrics;
+
+  MessageFramer(
+      final CapabilityMultiplexer multiplexer,
+      final Framer framer,
+      final MessageMetrics messageMetrics) {
+    super(false);
     this.multiplexer = multiplexer;
     this.framer = framer;
+    this.messageMetrics = messageMetrics;
   }
 
   @Override
   protected void encode(
       final ChannelHandlerContext ctx, final OutboundMessage msg, final ByteBuf out) {
+    final int start = out.writerIndex();
     framer.frame(multiplexer.multiplex(msg.getCapability(), msg.getData()), out);
+    messageMetrics.recordOutbound(
+        multiplexer,
+        msg.getCapability(),
+        msg.getData().getCode(),
+        msg.getData().getSize(),
+        out.writerIndex() - start);
   }
 }
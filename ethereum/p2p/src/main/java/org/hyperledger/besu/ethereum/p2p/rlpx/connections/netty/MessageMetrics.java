@@ -0,0 +1,113 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.CapabilityMultiplexer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.SubProtocol;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.WireMessageCodes;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.Counter;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+/**
+ * Per message type metrics of the RLPx connections: the bytes sent and received, before
+ * compression and on the wire, and the time spent decrypting and decompressing the received
+ * frames.
+ *
+ * <p>The type of a received message is only known once its frame is decrypted, so the decoding
+ * time is labelled by whether the connection uses compression instead of by message type.
+ */
+final class MessageMetrics {
+  private static final String[] LABELS = {"protocol", "name", "code"};
+
+  private final LabelledMetric<Counter> payloadBytesOutbound;
+  private final LabelledMetric<Counter> wireBytesOutbound;
+  private final LabelledMetric<Counter> payloadBytesInbound;
+  private final LabelledMetric<Counter> wireBytesInbound;
+  private final LabelledMetric<OperationTimer> decodeTimeInbound;
+
+  MessageMetrics(final MetricsSystem metricsSystem) {
+    payloadBytesOutbound =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "p2p_message_payload_bytes_outbound",
+            "Total size of the P2P messages sent outbound, before compression",
+            LABELS);
+    wireBytesOutbound =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "p2p_message_wire_bytes_outbound",
+            "Total size of the P2P messages sent outbound, once compressed and framed",
+            LABELS);
+    payloadBytesInbound =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "p2p_message_payload_bytes_inbound",
+            "Total size of the P2P messages received inbound, once decompressed",
+            LABELS);
+    wireBytesInbound =
+        metricsSystem.createLabelledCounter(
+            BesuMetricCategory.NETWORK,
+            "p2p_message_wire_bytes_inbound",
+            "Total size of the P2P messages received inbound, as framed on the wire",
+            LABELS);
+    decodeTimeInbound =
+        metricsSystem.createLabelledTimer(
+            BesuMetricCategory.NETWORK,
+            "p2p_message_decode_seconds_inbound",
+            "Time spent decrypting and decompressing the P2P frames received inbound",
+            "compression");
+  }
+
+  void recordOutbound(
+      final CapabilityMultiplexer multiplexer,
+      final Capability capability,
+      final int code,
+      final int payloadBytes,
+      final int wireBytes) {
+    final String[] labels = labels(multiplexer, capability, code);
+    payloadBytesOutbound.labels(labels).inc(payloadBytes);
+    wireBytesOutbound.labels(labels).inc(wireBytes);
+  }
+
+  void recordInbound(
+      final CapabilityMultiplexer multiplexer,
+      final Capability capability,
+      final int code,
+      final int payloadBytes,
+      final int wireBytes) {
+    final String[] labels = labels(multiplexer, capability, code);
+    payloadBytesInbound.labels(labels).inc(payloadBytes);
+    wireBytesInbound.labels(labels).inc(wireBytes);
+  }
+
+  OperationTimer.TimingContext startDecodeTimer(final boolean compressionEnabled) {
+    return decodeTimeInbound.labels(compressionEnabled ? "snappy" : "none").startTimer();
+  }
+
+  private static String[] labels(
+      final CapabilityMultiplexer multiplexer, final Capability capability, final int code) {
+    if (capability == null) {
+      return new String[] {"Wire", WireMessageCodes.messageName(code), Integer.toString(code)};
+    }
+    final SubProtocol subProtocol = multiplexer.subProtocol(capability);
+    final String name =
+        subProtocol == null ? "Unknown" : subProtocol.messageName(capability.getVersion(), code);
+    return new String[] {capability.toString(), name, Integer.toString(code)};
+  }
+}
@@ -25,20 +25,23 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MessageData;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 
+import java.nio.ByteBuffer;
+import java.security.GeneralSecurityException;
 import java.util.Arrays;
+import javax.crypto.Cipher;
+import javax.crypto.ShortBufferException;
+import javax.crypto.spec.IvParameterSpec;
+import javax.crypto.spec.SecretKeySpec;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.base.Preconditions;
 import com.google.errorprone.annotations.FormatMethod;
 import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import org.apache.tuweni.bytes.Bytes;
-import org.apache.tuweni.bytes.MutableBytes;
 import org.bouncycastle.crypto.BlockCipher;
-import org.bouncycastle.crypto.StreamCipher;
 import org.bouncycastle.crypto.engines.AESEngine;
-import org.bouncycastle.crypto.modes.SICBlockCipher;
 import org.bouncycastle.crypto.params.KeyParameter;
-import org.bouncycastle.crypto.params.ParametersWithIV;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -53,6 +56,11 @@ import org.slf4j.LoggerFactory;
  * fragmented frames, as well as streams of multiple messages within the same incoming buffer, as
  * long as the order of incoming bytes matches the underlying TCP sequence.
  *
+ * <p>Frames are encrypted, decrypted and authenticated in place, directly in the Netty buffers they
+ * are written to or read from, with the JCA AES-CTR implementation which is intrinsified by the JVM
+ * on most platforms. Heap buffers are processed without any intermediate copy, other buffers are
+ * processed through a small scratch array.
+ *
  * @see <a href="https://github.com/ethereum/devp2p/blob/master/rlpx.md#framing">RLPx framing</a>
  */
 public class Framer {
@@ -62,6 +70,7 @@ public class Framer {
   private static final int LENGTH_MAC = 16;
   private static final int LENGTH_FULL_HEADER = LENGTH_HEADER_DATA + LENGTH_MAC;
   private static final int LENGTH_MESSAGE_ID = 1;
+  private static final int LENGTH_SCRATCH = 1024;
 
   private static final byte[] IV = {0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0, 0};
   private static final byte[] PROTOCOL_HEADER =
@@ -76,9 +85,11 @@ public class Framer {
 
   private final HandshakeSecrets secrets;
   private static final SnappyCompressor compressor = new SnappyCompressor();
-  private final StreamCipher encryptor;
-  private final StreamCipher decryptor;
+  private final Cipher encryptor;
+  private final Cipher decryptor;
   private final BlockCipher macEncryptor;
+  // used to process the buffers without a backing array in chunks, guarded by this framer
+  private final byte[] scratch;
   private boolean headerProcessed;
   private int frameSize;
   private boolean compressionEnabled = false;
@@ -90,6 +101,7 @@ public class Framer {
     this.encryptor = null;
     this.decryptor = null;
     this.macEncryptor = null;
+    this.scratch = null;
   }
 
   /**
@@ -100,17 +112,23 @@ public class Framer {
   public Framer(final HandshakeSecrets secrets) {
     this.secrets = secrets;
 
-    final KeyParameter aesKey = new KeyParameter(secrets.getAesSecret());
-    final KeyParameter macKey = new KeyParameter(secrets.getMacSecret());
+    encryptor = aesCtr(Cipher.ENCRYPT_MODE, secrets.getAesSecret());
+    decryptor = aesCtr(Cipher.DECRYPT_MODE, secrets.getAesSecret());
 
-    encryptor = new SICBlockCipher(new AESEngine());
-    encryptor.init(true, new ParametersWithIV(aesKey, IV));
+    macEncryptor = new AESEngine();
+    macEncryptor.init(true, new KeyParameter(secrets.getMacSecret()));
 
-    decryptor = new SICBlockCipher(new AESEngine());
-    decryptor.init(false, new ParametersWithIV(aesKey, IV));
+    scratch = new byte[LENGTH_SCRATCH];
+  }
 
-    macEncryptor = new AESEngine();
-    macEncryptor.init(true, macKey);
+  private static Cipher aesCtr(final int mode, final byte[] key) {
+    try {
+      final Cipher cipher = Cipher.getInstance("AES/CTR/NoPadding");
+      cipher.init(mode, new SecretKeySpec(key, "AES"), new IvParameterSpec(IV));
+      return cipher;
+    } catch (final GeneralSecurityException e) {
+      throw new IllegalStateException("AES-CTR is not available", e);
+    }
   }
 
   public void enableCompression() {
@@ -212,7 +230,7 @@ public class Framer {
     validateMac(hMac, expectedMac);
 
     // Perform the header decryption.
-    decryptor.processBytes(hCipher, 0, hCipher.length, hCipher, 0);
+    transform(decryptor, hCipher);
     final ByteBuf h = wrappedBuffer(hCipher);
 
     // Read the frame length.
@@ -249,24 +267,27 @@ public class Framer {
    * Parses, decrypts and performs MAC verification on a frame.
    *
    * <p>This method expects a well-formed frame, sized according to the length indicated in this
-   * packet's header.
+   * packet's header. The frame is decrypted in place, so the message data is only copied once, out
+   * of the buffer, or decompressed straight from it.
    *
    * @param f The buffer containing
    * @param frameSize The expected
    */
   private MessageData processFrame(final ByteBuf f, final int frameSize) {
     final int pad = padding16(frameSize);
-    final int expectedSize = frameSize + pad + LENGTH_MAC;
+    final int frameLength = frameSize + pad;
+    final int expectedSize = frameLength + LENGTH_MAC;
     if (f.readableBytes() != expectedSize) {
       throw error("Expected %s bytes in header, got %s", expectedSize, f.readableBytes());
     }
+    final int frameIndex = f.readerIndex();
 
-    final byte[] frameData = new byte[frameSize + pad];
     final byte[] fMac = new byte[LENGTH_MAC];
-    f.readBytes(frameData).readBytes(fMac);
+    f.getBytes(frameIndex + frameLength, fMac);
 
     // Validate the frame's MAC.
-    final byte[] fMacSeed = secrets.updateIngress(frameData).getIngressMac();
+    updateIngress(f, frameIndex, frameLength);
+    final byte[] fMacSeed = secrets.getIngressMac();
     final byte[] fMacSeedEnc = new byte[16];
     macEncryptor.processBlock(fMacSeed, 0, fMacSeedEnc, 0);
     byte[] expectedMac = secrets.updateIngress(xor(fMacSeedEnc, fMacSeed)).getIngressMac();
@@ -275,24 +296,25 @@ public class Framer {
     validateMac(fMac, expectedMac);
 
     // Decrypt frame data.
-    decryptor.processBytes(frameData, 0, frameData.length, frameData, 0);
+    transform(decryptor, f, frameIndex, frameLength);
 
     // Read the id.
-    final Bytes idbv = RLP.decodeOne(Bytes.of(frameData[0]));
+    final Bytes idbv = RLP.decodeOne(Bytes.of(f.getByte(frameIndex)));
     final int id = idbv.isZero() || idbv.size() == 0 ? 0 : idbv.get(0);
 
-    // Write message data to ByteBuf, decompressing as necessary
+    final int dataIndex = frameIndex + LENGTH_MESSAGE_ID;
+    final int messageLength = frameSize - LENGTH_MESSAGE_ID;
+
+    // Copy message data out of the buffer, decompressing as necessary
     final Bytes data;
     if (compressionEnabled) {
-      final byte[] compressedMessageData = Arrays.copyOfRange(frameData, 1, frameData.length - pad);
-      final int uncompressedLength = compressor.uncompressedLength(compressedMessageData);
+      final int uncompressedLength = compressor.uncompressedLength(f, dataIndex, messageLength);
       if (uncompressedLength >= LENGTH_MAX_MESSAGE_FRAME) {
         throw error("Message size %s in excess of maximum length.", uncompressedLength);
       }
       Bytes _data;
       try {
-        final byte[] decompressedMessageData = compressor.decompress(compressedMessageData);
-        _data = Bytes.wrap(decompressedMessageData);
+        _data = Bytes.wrap(compressor.decompress(f, dataIndex, messageLength));
         compressionSuccessful = true;
       } catch (final FramingException fe) {
         if (compressionSuccessful) {
@@ -302,15 +324,12 @@ public class Framer {
           // If failing on the first packet downgrade to uncompressed
           compressionEnabled = false;
           LOG.debug("Snappy decompression failed: downgrading to uncompressed");
-          final int messageLength = frameSize - LENGTH_MESSAGE_ID;
-          _data = Bytes.wrap(frameData, 1, messageLength);
+          _data = Bytes.wrap(ByteBufUtil.getBytes(f, dataIndex, messageLength));
         }
       }
       data = _data;
     } else {
-      // Move data to a ByteBuf
-      final int messageLength = frameSize - LENGTH_MESSAGE_ID;
-      data = Bytes.wrap(frameData, 1, messageLength);
+      data = Bytes.wrap(ByteBufUtil.getBytes(f, dataIndex, messageLength));
     }
 
     return new RawMessage(id, data);
@@ -328,30 +347,56 @@ public class Framer {
    * Frames a message for sending to an RLPx peer, encrypting it and calculating the appropriate
    * MACs.
    *
+   * <p>The message is compressed, if enabled, straight into the output buffer, then encrypted and
+   * authenticated in place. Broadcast messages are compressed once, the compressed data being
+   * shared by all the connections they are framed for.
+   *
    * @param message The message to frame.
    * @param output The {@link ByteBuf} to write framed data to.
    */
   public synchronized void frame(final MessageData message, final ByteBuf output) {
     Preconditions.checkArgument(
         message.getSize() < LENGTH_MAX_MESSAGE_FRAME, "Message size in excess of maximum length.");
-    // Compress message
-    if (compressionEnabled) {
-      // Extract data from message
-      // Compress data
-      final byte[] compressed = compressor.compress(message.getData().toArrayUnsafe());
-      // Construct new, compressed message
-      frameMessage(new RawMessage(message.getCode(), Bytes.wrap(compressed)), output);
+    if (compressionEnabled && message.isBroadcast()) {
+      final Bytes compressed = message.getCompressedData(Framer::compress);
+      frameMessage(new RawMessage(message.getCode(), compressed), output, false);
     } else {
-      frameMessage(message, output);
+      frameMessage(message, output, compressionEnabled);
     }
   }
 
+  private static Bytes compress(final Bytes data) {
+    return Bytes.wrap(compressor.compress(data.toArrayUnsafe()));
+  }
+
   @VisibleForTesting
   void frameMessage(final MessageData message, final ByteBuf buf) {
-    final int frameSize = message.getSize() + LENGTH_MESSAGE_ID;
-    final int pad = padding16(frameSize);
+    frameMessage(message, buf, false);
+  }
+
+  private void frameMessage(final MessageData message, final ByteBuf buf, final boolean compress) {
+    final int headerIndex = buf.writerIndex();
+    final int frameIndex = headerIndex + LENGTH_FULL_HEADER;
+
+    // The header is written once the size of the (possibly compressed) frame is known.
+    buf.ensureWritable(LENGTH_FULL_HEADER + LENGTH_MESSAGE_ID + message.getSize());
+    buf.writerIndex(frameIndex);
 
     final byte id = (byte) message.getCode();
+    final Bytes bv = id == 0 ? RLP.NULL : RLP.encodeOne(Bytes.of(id));
+    assert bv.size() == 1;
+    buf.writeByte(bv.get(0));
+
+    if (compress) {
+      compressor.compress(message.getData().toArrayUnsafe(), buf);
+    } else {
+      buf.writeBytes(message.getData().toArrayUnsafe());
+    }
+
+    final int frameSize = buf.writerIndex() - frameIndex;
+    final int pad = padding16(frameSize);
+    // Zero-padded to 16-byte boundary.
+    buf.writeZero(pad);
 
     // Generate the header data.
     final byte[] h = new byte[LENGTH_HEADER_DATA];
@@ -359,35 +404,89 @@ public class Framer {
     h[1] = (byte) ((frameSize >> 8) & 0xff);
     h[2] = (byte) (frameSize & 0xff);
     System.arraycopy(PROTOCOL_HEADER, 0, h, LENGTH_FRAME_SIZE, PROTOCOL_HEADER.length);
-    Arrays.fill(h, LENGTH_FRAME_SIZE + PROTOCOL_HEADER.length, h.length - 1, (byte) 0x00);
-    encryptor.processBytes(h, 0, LENGTH_HEADER_DATA, h, 0);
+    transform(encryptor, h);
 
     // Generate the header MAC.
     byte[] hMac = Arrays.copyOf(secrets.getEgressMac(), LENGTH_MAC);
     macEncryptor.processBlock(hMac, 0, hMac, 0);
     hMac = secrets.updateEgress(xor(h, hMac)).getEgressMac();
-    hMac = Arrays.copyOf(hMac, LENGTH_MAC);
-    buf.writeBytes(h).writeBytes(hMac);
+    buf.setBytes(headerIndex, h).setBytes(headerIndex + LENGTH_HEADER_DATA, hMac, 0, LENGTH_MAC);
 
     // Encrypt payload.
-    final MutableBytes f = MutableBytes.create(frameSize + pad);
-
-    final Bytes bv = id == 0 ? RLP.NULL : RLP.encodeOne(Bytes.of(id));
-    assert bv.size() == 1;
-    f.set(0, bv.get(0));
-
-    // Zero-padded to 16-byte boundary.
-    message.getData().copyTo(f, 1);
-    encryptor.processBytes(f.toArrayUnsafe(), 0, f.size(), f.toArrayUnsafe(), 0);
+    transform(encryptor, buf, frameIndex, frameSize + pad);
 
     // Calculate the frame MAC.
-    final byte[] fMacSeed =
-        Arrays.copyOf(secrets.updateEgress(f.toArrayUnsafe()).getEgressMac(), LENGTH_MAC);
+    updateEgress(buf, frameIndex, frameSize + pad);
+    final byte[] fMacSeed = Arrays.copyOf(secrets.getEgressMac(), LENGTH_MAC);
     byte[] fMac = new byte[16];
     macEncryptor.processBlock(fMacSeed, 0, fMac, 0);
-    fMac = Arrays.copyOf(secrets.updateEgress(xor(fMac, fMacSeed)).getEgressMac(), LENGTH_MAC);
+    fMac = secrets.updateEgress(xor(fMac, fMacSeed)).getEgressMac();
+
+    buf.writeBytes(fMac, 0, LENGTH_MAC);
+  }
+
+  private void updateEgress(final ByteBuf buf, final int index, final int length) {
+    if (buf.hasArray()) {
+      secrets.updateEgress(buf.array(), buf.arrayOffset() + index, length);
+      return;
+    }
+    for (int i = 0; i < length; i += scratch.length) {
+      final int chunk = Math.min(scratch.length, length - i);
+      buf.getBytes(index + i, scratch, 0, chunk);
+      secrets.updateEgress(scratch, 0, chunk);
+    }
+  }
+
+  private void updateIngress(final ByteBuf buf, final int index, final int length) {
+    if (buf.hasArray()) {
+      secrets.updateIngress(buf.array(), buf.arrayOffset() + index, length);
+      return;
+    }
+    for (int i = 0; i < length; i += scratch.length) {
+      final int chunk = Math.min(scratch.length, length - i);
+      buf.getBytes(index + i, scratch, 0, chunk);
+      secrets.updateIngress(scratch, 0, chunk);
+    }
+  }
 
-    buf.writeBytes(f.toArrayUnsafe()).writeBytes(fMac);
+  /**
+   * Encrypts or decrypts, the transformation being the same in CTR mode, a region of a buffer in
+   * place.
+   */
+  private void transform(
+      final Cipher cipher, final ByteBuf buf, final int index, final int length) {
+    if (buf.hasArray()) {
+      final int offset = buf.arrayOffset() + index;
+      update(cipher, buf.array(), offset, length);
+    } else if (buf.nioBufferCount() == 1) {
+      final ByteBuffer region = buf.nioBuffer(index, length);
+      try {
+        cipher.update(region, region.duplicate());
+      } catch (final ShortBufferException e) {
+        throw new IllegalStateException(e);
+      }
+    } else {
+      for (int i = 0; i < length; i += scratch.length) {
+        final int chunk = Math.min(scratch.length, length - i);
+        buf.getBytes(index + i, scratch, 0, chunk);
+        update(cipher, scratch, 0, chunk);
+        buf.setBytes(index + i, scratch, 0, chunk);
+      }
+    }
+  }
+
+  private static void transform(final Cipher cipher, final byte[] bytes) {
+    update(cipher, bytes, 0, bytes.length);
+  }
+
+  private static void update(
+      final Cipher cipher, final byte[] bytes, final int offset, final int length) {
+    try {
+      cipher.update(bytes, offset, length, bytes, offset);
+    } catch (final ShortBufferException e) {
+      // cannot happen, CTR produces as many bytes as it consumes
+      throw new IllegalStateException(e);
+    }
   }
 
   private static int padding16(final int size) {
@@ -18,11 +18,16 @@ import static com.google.common.base.Preconditions.checkNotNull;
 
 import java.io.IOException;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.ByteBufUtil;
 import org.xerial.snappy.Snappy;
 
 /**
  * A strategy for compressing and decompressing data with the Snappy algorithm.
  *
+ * <p>Data can also be compressed into, or decompressed from, a Netty {@link ByteBuf}. Heap buffers
+ * are read and written in place, other buffers go through a temporary array.
+ *
  * @see <a href="https://google.github.io/snappy/">Snappy algorithm</a>
  */
 public class SnappyCompressor {
@@ -53,4 +58,76 @@ public class SnappyCompressor {
       throw new FramingException("Snappy uncompressedLength failed", e);
     }
   }
+
+  /**
+   * Compresses data, appending the result to a buffer at its writer index.
+   *
+   * @param uncompressed the data to compress
+   * @param output the buffer to write the compressed data to
+   */
+  public void compress(final byte[] uncompressed, final ByteBuf output) {
+    checkNotNull(uncompressed, "input data must not be null");
+    if (!output.hasArray()) {
+      output.writeBytes(compress(uncompressed));
+      return;
+    }
+    output.ensureWritable(Snappy.maxCompressedLength(uncompressed.length));
+    try {
+      final int compressedLength =
+          Snappy.compress(
+              uncompressed,
+              0,
+              uncompressed.length,
+              output.array(),
+              output.arrayOffset() + output.writerIndex());
+      output.writerIndex(output.writerIndex() + compressedLength);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy compression failed", e);
+    }
+  }
+
+  /**
+   * Decompresses a region of a buffer, leaving its indexes untouched.
+   *
+   * @param compressed the buffer holding the compressed data
+   * @param index the index of the first compressed byte
+   * @param length the number of compressed bytes
+   * @return the decompressed data
+   */
+  public byte[] decompress(final ByteBuf compressed, final int index, final int length) {
+    checkNotNull(compressed, "input data must not be null");
+    if (!compressed.hasArray()) {
+      return decompress(ByteBufUtil.getBytes(compressed, index, length));
+    }
+    final byte[] array = compressed.array();
+    final int offset = compressed.arrayOffset() + index;
+    try {
+      final byte[] uncompressed = new byte[Snappy.uncompressedLength(array, offset, length)];
+      Snappy.uncompress(array, offset, length, uncompressed, 0);
+      return uncompressed;
+    } catch (final IOException e) {
+      throw new FramingException("Snappy decompression failed", e);
+    }
+  }
+
+  /**
+   * Reads the uncompressed length of the data held in a region of a buffer.
+   *
+   * @param compressed the buffer holding the compressed data
+   * @param index the index of the first compressed byte
+   * @param length the number of compressed bytes
+   * @return the length of the data once decompressed
+   */
+  public int uncompressedLength(final ByteBuf compressed, final int index, final int length) {
+    checkNotNull(compressed, "input data must not be null");
+    if (!compressed.hasArray()) {
+      return uncompressedLength(ByteBufUtil.getBytes(compressed, index, length));
+    }
+    try {
+      return Snappy.uncompressedLength(
+          compressed.array(), compressed.arrayOffset() + index, length);
+    } catch (final IOException e) {
+      throw new FramingException("Snappy uncompressedLength failed", e);
+    }
+  }
 }
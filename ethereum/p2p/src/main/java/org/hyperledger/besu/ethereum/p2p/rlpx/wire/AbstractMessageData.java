@@ -15,17 +15,47 @@
 package org.hyperledger.besu.ethereum.p2p.rlpx.wire;
 
 import java.util.Objects;
+import java.util.function.UnaryOperator;
 
 import org.apache.tuweni.bytes.Bytes;
 
 public abstract class AbstractMessageData implements MessageData {
 
   protected final Bytes data;
+  private volatile boolean broadcast;
+  private volatile Bytes compressedData;
 
   protected AbstractMessageData(final Bytes data) {
     this.data = data;
   }
 
+  /**
+   * Marks this message as broadcast to many peers, so its data is compressed the first time it is
+   * framed for a peer and the compressed data is reused for all the other ones.
+   */
+  public void markAsBroadcast() {
+    broadcast = true;
+  }
+
+  @Override
+  public boolean isBroadcast() {
+    return broadcast;
+  }
+
+  @Override
+  public Bytes getCompressedData(final UnaryOperator<Bytes> compressor) {
+    if (!broadcast) {
+      return compressor.apply(data);
+    }
+    // racing connections may both compress the data, they get the same result
+    Bytes compressed = compressedData;
+    if (compressed == null) {
+      compressed = compressor.apply(data);
+      compressedData = compressed;
+    }
+    return compressed;
+  }
+
   @Override
   public final int getSize() {
     return data.size();
@@ -23,6 +23,7 @@ import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.function.UnaryOperator;
 
 import com.google.common.collect.ImmutableMap;
 import com.google.common.collect.ImmutableRangeMap;
@@ -108,6 +109,16 @@ public class CapabilityMultiplexer {
         return originalMessage.getData();
       }
 
+      @Override
+      public boolean isBroadcast() {
+        return originalMessage.isBroadcast();
+      }
+
+      @Override
+      public Bytes getCompressedData(final UnaryOperator<Bytes> compressor) {
+        return originalMessage.getCompressedData(compressor);
+      }
+
       @Override
       public String toString() {
         return "Message{ code=" + getCode() + ", size=" + getSize() + "}";
@@ -21,6 +21,7 @@ import org.hyperledger.besu.ethereum.rlp.RLPInput;
 import java.math.BigInteger;
 import java.util.AbstractMap;
 import java.util.Map;
+import java.util.function.UnaryOperator;
 
 import org.apache.tuweni.bytes.Bytes;
 
@@ -47,6 +48,27 @@ public interface MessageData {
    */
   Bytes getData();
 
+  /**
+   * Returns whether this message is broadcast unchanged to many peers, in which case its data is
+   * compressed only once and shared by all the connections it is sent to.
+   *
+   * @return true if this message is broadcast to many peers
+   */
+  default boolean isBroadcast() {
+    return false;
+  }
+
+  /**
+   * Returns the data of this message compressed by the provided function. Broadcast messages keep
+   * the result, so the same compressed data is framed for all the peers.
+   *
+   * @param compressor the function compressing the data of this message
+   * @return the compressed data of this message
+   */
+  default Bytes getCompressedData(final UnaryOperator<Bytes> compressor) {
+    return compressor.apply(getData());
+  }
+
   default MessageData wrapMessageData(final BigInteger requestId) {
     final BytesValueRLPOutput rlpOutput = new BytesValueRLPOutput();
     rlpOutput.startList();
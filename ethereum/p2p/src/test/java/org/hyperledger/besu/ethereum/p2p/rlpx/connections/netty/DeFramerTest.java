@@ -52,8 +52,10 @@ import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.HelloMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.PingMessage;
 import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.WireMessageCodes;
 import org.hyperledger.besu.ethereum.rlp.RLPException;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
 import org.hyperledger.besu.metrics.noop.NoOpMetricsSystem;
 import org.hyperledger.besu.plugin.data.EnodeURL;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
 
 import java.net.InetAddress;
 import java.net.InetSocketAddress;
@@ -436,6 +438,47 @@ public class DeFramerTest {
     assertThat(out).isEmpty();
   }
 
+  @Test
+  public void decode_recordsBytesOfMessagesReceivedOverSeveralReads() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final DeFramer meteredDeFramer = createDeFramer(null, Optional.empty(), metricsSystem);
+    final ChannelFuture future = NettyMocks.channelFuture(false);
+    when(channel.closeFuture()).thenReturn(future);
+
+    final HelloMessage helloMessage = HelloMessage.create(createPeerInfo(createRemotePeer()));
+    final ByteBuf helloData = Unpooled.wrappedBuffer(helloMessage.getData().toArray());
+    when(framer.deframe(eq(helloData)))
+        .thenReturn(new RawMessage(helloMessage.getCode(), helloMessage.getData()))
+        .thenReturn(null);
+    final List<Object> out = new ArrayList<>();
+    meteredDeFramer.decode(ctx, helloData, out);
+
+    // the frame of the ping is only complete after the second read
+    final PingMessage pingMessage = PingMessage.get();
+    final ByteBuf firstRead = Unpooled.wrappedBuffer(Bytes.repeat((byte) 1, 20).toArray());
+    final ByteBuf secondRead = Unpooled.wrappedBuffer(Bytes.repeat((byte) 2, 12).toArray());
+    when(framer.deframe(any()))
+        .thenAnswer(
+            invocation -> {
+              final ByteBuf in = invocation.getArgument(0);
+              final int readableBytes = in.readableBytes();
+              in.skipBytes(readableBytes);
+              return in == secondRead && readableBytes > 0
+                  ? new RawMessage(pingMessage.getCode(), pingMessage.getData())
+                  : null;
+            });
+    meteredDeFramer.decode(ctx, firstRead, out);
+    assertThat(out).isEmpty();
+    meteredDeFramer.decode(ctx, secondRead, out);
+    assertThat(out).hasSize(1);
+
+    final String[] labels = {"Wire", "Ping", Integer.toString(WireMessageCodes.PING)};
+    assertThat(metricsSystem.getCounterValue("p2p_message_wire_bytes_inbound", labels))
+        .isEqualTo(32);
+    assertThat(metricsSystem.getCounterValue("p2p_message_payload_bytes_inbound", labels))
+        .isEqualTo(pingMessage.getSize());
+  }
+
   private Peer createRemotePeer() {
     return DefaultPeer.fromEnodeURL(
         EnodeURLImpl.builder()
@@ -456,6 +499,13 @@ public class DeFramerTest {
 
   private DeFramer createDeFramer(
       final Peer expectedPeer, final Optional<DiscoveryPeer> peerInPeerTable) {
+    return createDeFramer(expectedPeer, peerInPeerTable, new NoOpMetricsSystem());
+  }
+
+  private DeFramer createDeFramer(
+      final Peer expectedPeer,
+      final Optional<DiscoveryPeer> peerInPeerTable,
+      final MetricsSystem metricsSystem) {
     final PeerTable peerTable = new PeerTable(localNode.getPeerInfo().getNodeId());
     peerInPeerTable.ifPresent(peerTable::tryAdd);
     return new DeFramer(
@@ -465,7 +515,7 @@ public class DeFramerTest {
         Optional.ofNullable(expectedPeer),
         connectionEventDispatcher,
         connectFuture,
-        new NoOpMetricsSystem(),
+        metricsSystem,
         true,
         peerTable);
   }
@@ -0,0 +1,78 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.framing.Framer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.CapabilityMultiplexer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MockSubProtocol;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.RawMessage;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+
+import java.util.List;
+
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
+import io.netty.channel.ChannelHandlerContext;
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+public class MessageFramerTest {
+
+  private static final Capability ETH_63 = Capability.create("eth", 63);
+
+  private final Framer framer = mock(Framer.class);
+  private final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+  private final MessageFramer messageFramer =
+      new MessageFramer(
+          new CapabilityMultiplexer(
+              List.of(MockSubProtocol.create("eth")), List.of(ETH_63), List.of(ETH_63)),
+          framer,
+          new MessageMetrics(metricsSystem));
+
+  @Test
+  public void recordsPayloadAndFramedBytesOfEachMessage() {
+    doAnswer(
+            invocation -> {
+              invocation.<ByteBuf>getArgument(1).writeZero(48);
+              return null;
+            })
+        .when(framer)
+        .frame(any(), any());
+    final ByteBuf out = Unpooled.buffer();
+    // bytes already in the buffer are not attributed to the message
+    out.writeZero(16);
+
+    messageFramer.encode(
+        mock(ChannelHandlerContext.class),
+        new OutboundMessage(ETH_63, new RawMessage(3, Bytes.repeat((byte) 1, 100))),
+        out);
+
+    assertThat(out.readableBytes()).isEqualTo(64);
+    assertThat(
+            metricsSystem.getCounterValue(
+                "p2p_message_payload_bytes_outbound", "eth/63", "invalid", "3"))
+        .isEqualTo(100);
+    assertThat(
+            metricsSystem.getCounterValue(
+                "p2p_message_wire_bytes_outbound", "eth/63", "invalid", "3"))
+        .isEqualTo(48);
+  }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.p2p.rlpx.connections.netty;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.Capability;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.CapabilityMultiplexer;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.MockSubProtocol;
+import org.hyperledger.besu.ethereum.p2p.rlpx.wire.messages.WireMessageCodes;
+import org.hyperledger.besu.metrics.BesuMetricCategory;
+import org.hyperledger.besu.metrics.StubMetricsSystem;
+import org.hyperledger.besu.plugin.services.MetricsSystem;
+import org.hyperledger.besu.plugin.services.metrics.LabelledMetric;
+import org.hyperledger.besu.plugin.services.metrics.OperationTimer;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class MessageMetricsTest {
+
+  private static final Capability ETH_63 = Capability.create("eth", 63);
+
+  private final CapabilityMultiplexer multiplexer =
+      new CapabilityMultiplexer(
+          List.of(MockSubProtocol.create("eth")), List.of(ETH_63), List.of(ETH_63));
+
+  @Test
+  public void recordsOutboundBytesByMessageType() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final MessageMetrics messageMetrics = new MessageMetrics(metricsSystem);
+
+    messageMetrics.recordOutbound(multiplexer, ETH_63, 3, 100, 40);
+    messageMetrics.recordOutbound(multiplexer, ETH_63, 3, 50, 30);
+
+    assertThat(
+            metricsSystem.getCounterValue(
+                "p2p_message_payload_bytes_outbound", "eth/63", "invalid", "3"))
+        .isEqualTo(150);
+    assertThat(
+            metricsSystem.getCounterValue(
+                "p2p_message_wire_bytes_outbound", "eth/63", "invalid", "3"))
+        .isEqualTo(70);
+    assertThat(
+            metricsSystem.getCounterValue(
+                "p2p_message_payload_bytes_inbound", "eth/63", "invalid", "3"))
+        .isZero();
+  }
+
+  @Test
+  public void recordsInboundBytesOfWireMessages() {
+    final StubMetricsSystem metricsSystem = new StubMetricsSystem();
+    final MessageMetrics messageMetrics = new MessageMetrics(metricsSystem);
+
+    messageMetrics.recordInbound(multiplexer, null, WireMessageCodes.PING, 1, 32);
+
+    final String[] labels = {"Wire", "Ping", Integer.toString(WireMessageCodes.PING)};
+    assertThat(metricsSystem.getCounterValue("p2p_message_payload_bytes_inbound", labels))
+        .isEqualTo(1);
+    assertThat(metricsSystem.getCounterValue("p2p_message_wire_bytes_inbound", labels))
+        .isEqualTo(32);
+  }
+
+  @Test
+  @SuppressWarnings("unchecked")
+  public void labelsDecodeTimeByCompression() {
+    final MetricsSystem metricsSystem = mock(MetricsSystem.class);
+    final LabelledMetric<OperationTimer> decodeTimer = mock(LabelledMetric.class);
+    final OperationTimer snappyTimer = mock(OperationTimer.class);
+    final OperationTimer.TimingContext timingContext = mock(OperationTimer.TimingContext.class);
+    when(metricsSystem.createLabelledTimer(
+            eq(BesuMetricCategory.NETWORK),
+            eq("p2p_message_decode_seconds_inbound"),
+            any(),
+            eq("compression")))
+        .thenReturn(decodeTimer);
+    when(decodeTimer.labels("snappy")).thenReturn(snappyTimer);
+    when(snappyTimer.startTimer()).thenReturn(timingContext);
+    final MessageMetrics messageMetrics = new MessageMetrics(metricsSystem);
+
+    assertThat(messageMetrics.startDecodeTimer(true)).isSameAs(timingContext);
+    verify(decodeTimer).labels("snappy");
+  }
+}
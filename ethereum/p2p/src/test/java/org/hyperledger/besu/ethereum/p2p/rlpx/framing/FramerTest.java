@@ -271,6 +271,78 @@ public class FramerTest {
     assertThat(receivingFramer.isCompressionSuccessful()).isTrue();
   }
 
+  @Test
+  public void framesIdenticallyIntoHeapAndDirectBuffers() throws IOException {
+    final JsonNode td = MAPPER.readTree(FramerTest.class.getResource("/peer1.json"));
+    final Framer heapFramer = new Framer(secretsFrom(td, false));
+    final Framer directFramer = new Framer(secretsFrom(td, false));
+    heapFramer.enableCompression();
+    directFramer.enableCompression();
+
+    final byte[] payload = new byte[5000];
+    new Random(1).nextBytes(payload);
+    final ByteBuf heap = Unpooled.buffer();
+    final ByteBuf direct = Unpooled.directBuffer();
+    for (int i = 0; i < 3; i++) {
+      final MessageData message = new RawMessage(0x10 + i, Bytes.wrap(payload, 0, 1000 * (i + 1)));
+      heapFramer.frame(message, heap);
+      directFramer.frame(message, direct);
+    }
+
+    assertThat(direct).isEqualTo(heap);
+    direct.release();
+  }
+
+  @Test
+  public void deframesFromDirectBuffer() throws IOException {
+    final JsonNode td = MAPPER.readTree(FramerTest.class.getResource("/peer1.json"));
+    final Framer sendingFramer = new Framer(secretsFrom(td, false));
+    final Framer receivingFramer = new Framer(secretsFrom(td, true));
+    sendingFramer.enableCompression();
+    receivingFramer.enableCompression();
+
+    final byte[] payload = new byte[3000];
+    new Random(2).nextBytes(payload);
+    final ByteBuf framed = Unpooled.directBuffer();
+    sendingFramer.frame(new RawMessage(0x12, Bytes.wrap(payload)), framed);
+    sendingFramer.frame(DisconnectMessage.create(DisconnectReason.TIMEOUT), framed);
+
+    final MessageData first = receivingFramer.deframe(framed);
+    assertThat(first.getCode()).isEqualTo(0x12);
+    assertThat(first.getData()).isEqualTo(Bytes.wrap(payload));
+    final MessageData second = receivingFramer.deframe(framed);
+    assertThat(DisconnectMessage.readFrom(second).getReason()).isEqualTo(DisconnectReason.TIMEOUT);
+    assertThat(framed.readableBytes()).isZero();
+    framed.release();
+  }
+
+  @Test
+  public void broadcastMessageIsCompressedOnce() throws IOException {
+    final JsonNode td = MAPPER.readTree(FramerTest.class.getResource("/peer1.json"));
+    final Framer firstFramer = new Framer(secretsFrom(td, false));
+    final Framer secondFramer = new Framer(secretsFrom(td, false));
+    final Framer receivingFramer = new Framer(secretsFrom(td, true));
+    firstFramer.enableCompression();
+    secondFramer.enableCompression();
+    receivingFramer.enableCompression();
+
+    final byte[] payload = new byte[2000];
+    new Random(3).nextBytes(payload);
+    final RawMessage message = new RawMessage(0x12, Bytes.wrap(payload));
+    message.markAsBroadcast();
+
+    final ByteBuf first = Unpooled.buffer();
+    final ByteBuf second = Unpooled.buffer();
+    firstFramer.frame(message, first);
+    final Bytes compressed = message.getCompressedData(data -> Bytes.EMPTY);
+    secondFramer.frame(message, second);
+
+    assertThat(compressed).isEqualTo(Bytes.wrap(Snappy.compress(payload)));
+    assertThat(message.getCompressedData(data -> Bytes.EMPTY)).isSameAs(compressed);
+    assertThat(second).isEqualTo(first);
+    assertThat(receivingFramer.deframe(first).getData()).isEqualTo(Bytes.wrap(payload));
+  }
+
   private HandshakeSecrets secretsFrom(final JsonNode td, final boolean swap) {
     final byte[] aes = decodeHexDump(td.get("aes_secret").asText());
     final byte[] mac = decodeHexDump(td.get("mac_secret").asText());
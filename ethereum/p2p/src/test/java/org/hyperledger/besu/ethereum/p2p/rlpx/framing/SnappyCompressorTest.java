@@ -20,6 +20,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 import java.nio.charset.StandardCharsets;
 
+import io.netty.buffer.ByteBuf;
+import io.netty.buffer.Unpooled;
 import org.apache.tuweni.bytes.Bytes;
 import org.junit.jupiter.api.Test;
 
@@ -29,12 +31,36 @@ public class SnappyCompressorTest {
 
   @Test
   public void roundTrip() {
-    String input = "Uncompressed sample text for round-trip compression/decompression";
-    input = input + input + input + input; // Give it some repetition for good sample data
-    final byte[] data = input.getBytes(StandardCharsets.UTF_8);
+    final byte[] data = sampleData();
     assertThat(snappy.decompress(snappy.compress(data))).isEqualTo(data);
   }
 
+  @Test
+  public void roundTripThroughHeapBuffer() {
+    final byte[] data = sampleData();
+    final ByteBuf buffer = Unpooled.buffer();
+    buffer.writeByte(0x42);
+    snappy.compress(data, buffer);
+
+    final int length = buffer.readableBytes() - 1;
+    assertThat(snappy.uncompressedLength(buffer, 1, length)).isEqualTo(data.length);
+    assertThat(snappy.decompress(buffer, 1, length)).isEqualTo(data);
+    assertThat(buffer.readerIndex()).isZero();
+  }
+
+  @Test
+  public void roundTripThroughDirectBuffer() {
+    final byte[] data = sampleData();
+    final ByteBuf buffer = Unpooled.directBuffer();
+    buffer.writeByte(0x42);
+    snappy.compress(data, buffer);
+
+    final int length = buffer.readableBytes() - 1;
+    assertThat(snappy.uncompressedLength(buffer, 1, length)).isEqualTo(data.length);
+    assertThat(snappy.decompress(buffer, 1, length)).isEqualTo(data);
+    buffer.release();
+  }
+
   @Test
   public void roundTripEmptyByteArray() {
     final byte[] data = new byte[0];
@@ -120,4 +146,10 @@ public class SnappyCompressorTest {
     assertThat(snappy.decompress(snappy.compress(decompressed))).isEqualTo(decompressed);
     assertThat(snappy.compress(snappy.decompress(compressed))).isEqualTo(compressed);
   }
+
+  private static byte[] sampleData() {
+    String input = "Uncompressed sample text for round-trip compression/decompression";
+    input = input + input + input + input; // Give it some repetition for good sample data
+    return input.getBytes(StandardCharsets.UTF_8);
+  }
 }
@@ -0,0 +1,154 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import static com.google.common.base.Preconditions.checkState;
+
+import java.util.Arrays;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * An {@link RLPOutput} that encodes values as soon as they are written, directly into the
+ * underlying storage, instead of accumulating them and encoding everything at the end like {@link
+ * BytesValueRLPOutput} does.
+ *
+ * <p>The size of a list payload is only known when the list is ended, so a single byte is reserved
+ * for the list header when the list is started. If the payload turns out to be longer than 55 bytes,
+ * the payload is shifted to make room for the long header, and the header is then back-patched.
+ */
+public abstract class AbstractSinglePassRLPOutput implements RLPOutput {
+  // positions of the headers reserved for the currently open lists
+  private int[] openListHeaders = new int[4];
+  private int openListsCount = 0;
+
+  /** Default constructor. */
+  protected AbstractSinglePassRLPOutput() {}
+
+  /**
+   * The number of bytes written so far.
+   *
+   * @return the number of bytes written so far
+   */
+  protected abstract int position();
+
+  /**
+   * Appends a byte.
+   *
+   * @param b the byte to append
+   */
+  protected abstract void put(byte b);
+
+  /**
+   * Appends some bytes.
+   *
+   * @param bytes the bytes to append
+   */
+  protected abstract void put(Bytes bytes);
+
+  /**
+   * Overwrites an already written byte.
+   *
+   * @param index the position of the byte to overwrite
+   * @param b the new value of the byte
+   */
+  protected abstract void set(int index, byte b);
+
+  /**
+   * Moves the last written bytes, starting at {@code from}, forward by {@code distance} bytes. The
+   * bytes freed by the move are then overwritten through {@link #set(int, byte)}.
+   *
+   * @param from the position of the first byte to move
+   * @param distance the number of bytes to insert before the moved bytes
+   */
+  protected abstract void shift(int from, int distance);
+
+  @Override
+  public void writeBytes(final Bytes v) {
+    checkNotTerminated();
+    if (RLPEncodingHelpers.isSingleRLPByte(v)) {
+      put(v.get(0));
+      return;
+    }
+    if (RLPEncodingHelpers.isShortElement(v)) {
+      put((byte) (0x80 + v.size()));
+    } else {
+      final int sizeLength = RLPEncodingHelpers.sizeLength(v.size());
+      put((byte) (0xb7 + sizeLength));
+      for (int i = sizeLength - 1; i >= 0; i--) {
+        put((byte) (v.size() >> (8 * i)));
+      }
+    }
+    put(v);
+  }
+
+  @Override
+  public void writeRaw(final Bytes v) {
+    checkNotTerminated();
+    put(v);
+  }
+
+  @Override
+  public void startList() {
+    if (openListsCount == openListHeaders.length) {
+      openListHeaders = Arrays.copyOf(openListHeaders, (openListHeaders.length * 3) / 2);
+    }
+    openListHeaders[openListsCount++] = position();
+    // reserve the room for a short list header
+    put((byte) 0);
+  }
+
+  @Override
+  public void endList() {
+    checkState(openListsCount > 0, "LeaveList() called with no prior matching startList()");
+
+    final int header = openListHeaders[--openListsCount];
+    final int payloadSize = position() - header - 1;
+    if (RLPEncodingHelpers.isShortList(payloadSize)) {
+      set(header, (byte) (0xc0 + payloadSize));
+      return;
+    }
+
+    final int sizeLength = RLPEncodingHelpers.sizeLength(payloadSize);
+    shift(header + 1, sizeLength);
+    set(header, (byte) (0xf7 + sizeLength));
+    for (int i = 0; i < sizeLength; i++) {
+      set(header + sizeLength - i, (byte) (payloadSize >> (8 * i)));
+    }
+  }
+
+  /**
+   * Computes the final encoded data size.
+   *
+   * @return The size of the RLP-encoded data written to this output.
+   * @throws IllegalStateException if some opened list haven't been closed (the output is not valid
+   *     as is).
+   */
+  public int encodedSize() {
+    checkState(
+        openListsCount == 0, "A list has been entered (startList()) but not left (endList())");
+    return position();
+  }
+
+  /** Forgets about the lists opened so far, so the output can be reused. */
+  protected void reset() {
+    openListsCount = 0;
+  }
+
+  private void checkNotTerminated() {
+    checkState(
+        openListsCount > 0 || position() == 0, "Terminated RLP output, cannot add more elements");
+  }
+}
@@ -0,0 +1,128 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import java.util.Arrays;
+import java.util.function.Consumer;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.MutableBytes;
+
+/**
+ * An {@link RLPOutput} that encodes in a single pass into a growable byte array.
+ *
+ * <p>The byte array is kept across usages, so the only allocation needed to encode a value is the
+ * final copy of the result. Use {@link #encode(Consumer)} to borrow the instance kept for the
+ * current thread.
+ */
+public class BufferedRLPOutput extends AbstractSinglePassRLPOutput {
+  private static final int INITIAL_CAPACITY = 256;
+  // do not retain the memory used by an occasional huge value
+  private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+
+  private static final ThreadLocal<BufferedRLPOutput> THREAD_OUTPUT =
+      ThreadLocal.withInitial(BufferedRLPOutput::new);
+
+  private byte[] buffer = new byte[INITIAL_CAPACITY];
+  private MutableBytes bufferView = MutableBytes.wrap(buffer);
+  private int size = 0;
+  private boolean inUse = false;
+
+  /** Default constructor. */
+  public BufferedRLPOutput() {}
+
+  /**
+   * RLP encodes the data written by the provided writer, using the output kept for the current
+   * thread.
+   *
+   * @param writer A method that given an {@link RLPOutput}, writes some data to it.
+   * @return The RLP encoding of the data written by {@code writer}.
+   */
+  public static Bytes encode(final Consumer<RLPOutput> writer) {
+    final BufferedRLPOutput threadOutput = THREAD_OUTPUT.get();
+    // the writer may itself encode some nested value, that one gets its own output
+    final BufferedRLPOutput out = threadOutput.inUse ? new BufferedRLPOutput() : threadOutput;
+    out.inUse = true;
+    try {
+      writer.accept(out);
+      return out.encoded();
+    } finally {
+      out.reset();
+    }
+  }
+
+  /**
+   * Computes the final encoded data.
+   *
+   * @return A value containing the data written to this output RLP-encoded.
+   */
+  public Bytes encoded() {
+    final int encodedSize = encodedSize();
+    if (encodedSize == 0) {
+      return Bytes.EMPTY;
+    }
+    return Bytes.wrap(Arrays.copyOf(buffer, encodedSize));
+  }
+
+  /** Discards everything written so far, so the output can be reused. */
+  @Override
+  public void reset() {
+    super.reset();
+    size = 0;
+    inUse = false;
+    if (buffer.length > MAX_RETAINED_CAPACITY) {
+      buffer = new byte[INITIAL_CAPACITY];
+      bufferView = MutableBytes.wrap(buffer);
+    }
+  }
+
+  @Override
+  protected int position() {
+    return size;
+  }
+
+  @Override
+  protected void put(final byte b) {
+    ensureCapacity(1);
+    buffer[size++] = b;
+  }
+
+  @Override
+  protected void put(final Bytes bytes) {
+    ensureCapacity(bytes.size());
+    bytes.copyTo(bufferView, size);
+    size += bytes.size();
+  }
+
+  @Override
+  protected void set(final int index, final byte b) {
+    buffer[index] = b;
+  }
+
+  @Override
+  protected void shift(final int from, final int distance) {
+    ensureCapacity(distance);
+    System.arraycopy(buffer, from, buffer, from + distance, size - from);
+    size += distance;
+  }
+
+  private void ensureCapacity(final int additional) {
+    final int required = size + additional;
+    if (required > buffer.length) {
+      buffer = Arrays.copyOf(buffer, Math.max(required, buffer.length * 2));
+      bufferView = MutableBytes.wrap(buffer);
+    }
+  }
+}
@@ -86,9 +86,7 @@ public abstract class RLP {
    * @return The RLP encoding of the data written by {@code writer}.
    */
   public static Bytes encode(final Consumer<RLPOutput> writer) {
-    final BytesValueRLPOutput out = new BytesValueRLPOutput();
-    writer.accept(out);
-    return out.encoded();
+    return BufferedRLPOutput.encode(writer);
   }
 
   /**
@@ -0,0 +1,231 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.rlp;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.function.Consumer;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.units.bigints.UInt256;
+import org.junit.jupiter.api.Test;
+
+public class BufferedRLPOutputTest {
+
+  private static Bytes h(final String hex) {
+    return Bytes.fromHexString(hex);
+  }
+
+  private static String times(final String base, final int times) {
+    final StringBuilder sb = new StringBuilder();
+    for (int i = 0; i < times; i++) sb.append(base);
+    return sb.toString();
+  }
+
+  private static void assertSameEncoding(final Consumer<RLPOutput> writer) {
+    final BytesValueRLPOutput expected = new BytesValueRLPOutput();
+    writer.accept(expected);
+
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    writer.accept(out);
+
+    assertThat(out.encoded()).isEqualTo(expected.encoded());
+    assertThat(out.encodedSize()).isEqualTo(expected.encodedSize());
+    assertThat(BufferedRLPOutput.encode(writer)).isEqualTo(expected.encoded());
+  }
+
+  private static Consumer<RLPOutput> listOf(final int size) {
+    return out -> {
+      out.startList();
+      for (int i = 0; i < size; i++) {
+        out.writeByte((byte) 0x3c);
+      }
+      out.endList();
+    };
+  }
+
+  @Test
+  public void empty() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+
+    assertThat(out.encoded()).isEqualTo(Bytes.EMPTY);
+  }
+
+  @Test
+  public void singleByte() {
+    assertSameEncoding(out -> out.writeByte((byte) 1));
+    assertSameEncoding(out -> out.writeByte((byte) 0x7f));
+    assertSameEncoding(out -> out.writeByte((byte) 0x80));
+  }
+
+  @Test
+  public void shortElements() {
+    assertSameEncoding(out -> out.writeBytes(Bytes.EMPTY));
+    assertSameEncoding(out -> out.writeBytes(h("0x0102")));
+    assertSameEncoding(out -> out.writeBytes(h(times("3c", 55))));
+  }
+
+  @Test
+  public void longElements() {
+    assertSameEncoding(out -> out.writeBytes(h(times("3c", 56))));
+    assertSameEncoding(out -> out.writeBytes(h(times("3c", 255))));
+    assertSameEncoding(out -> out.writeBytes(h(times("3c", 256))));
+    assertSameEncoding(out -> out.writeBytes(h(times("3c", 65536))));
+  }
+
+  @Test
+  public void scalars() {
+    assertSameEncoding(out -> out.writeLongScalar(0));
+    assertSameEncoding(out -> out.writeLongScalar(1024));
+    assertSameEncoding(out -> out.writeUnsignedInt((1L << 32) - 1));
+    assertSameEncoding(out -> out.writeUInt256Scalar(UInt256.MAX_VALUE));
+  }
+
+  @Test
+  public void emptyList() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    out.startList();
+    out.endList();
+
+    assertThat(out.encoded()).isEqualTo(h("0xc0"));
+  }
+
+  @Test
+  public void simpleShortListUpperBoundary() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    listOf(55).accept(out);
+
+    assertThat(out.encoded()).isEqualTo(h("0xf7" + times("3c", 55)));
+  }
+
+  @Test
+  public void simpleLongListLowerBoundary() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    listOf(56).accept(out);
+
+    assertThat(out.encoded()).isEqualTo(h("0xf838" + times("3c", 56)));
+  }
+
+  @Test
+  public void simpleLongListBoundaries() {
+    assertSameEncoding(listOf(255));
+    assertSameEncoding(listOf(256));
+    assertSameEncoding(listOf(65535));
+    assertSameEncoding(listOf(65536));
+  }
+
+  @Test
+  public void simpleNestedList() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    out.startList();
+    out.writeByte((byte) 0x2c);
+    out.startList();
+    out.writeByte((byte) 0x03);
+    out.writeByte((byte) 0x12);
+    out.endList();
+    out.writeByte((byte) 0x3b);
+    out.endList();
+
+    assertThat(out.encoded()).isEqualTo(h("0xc52cc203123b"));
+  }
+
+  @Test
+  public void deeplyNestedLongLists() {
+    // every level crosses the long list threshold at a different depth, so headers get shifted
+    // multiple times
+    assertSameEncoding(
+        out -> {
+          for (int depth = 0; depth < 10; depth++) {
+            out.startList();
+            out.writeBytes(h(times("3c", depth * 7)));
+          }
+          for (int depth = 0; depth < 10; depth++) {
+            out.writeBytes(h(times("2d", 30)));
+            out.endList();
+          }
+        });
+  }
+
+  @Test
+  public void rawValues() {
+    assertSameEncoding(
+        out -> {
+          out.startList();
+          out.writeRaw(h("0xc3010203"));
+          out.writeRLPBytes(h("0x" + "b838" + times("3c", 56)));
+          out.endList();
+        });
+  }
+
+  @Test
+  public void nestedEncode() {
+    final Bytes inner = RLP.encode(out -> out.writeBytes(h(times("3c", 60))));
+
+    final Bytes encoded =
+        BufferedRLPOutput.encode(
+            out -> {
+              out.startList();
+              out.writeBytes(BufferedRLPOutput.encode(in -> in.writeBytes(h(times("3c", 60)))));
+              out.writeByte((byte) 1);
+              out.endList();
+            });
+
+    final BytesValueRLPOutput expected = new BytesValueRLPOutput();
+    expected.startList();
+    expected.writeBytes(inner);
+    expected.writeByte((byte) 1);
+    expected.endList();
+    assertThat(encoded).isEqualTo(expected.encoded());
+  }
+
+  @Test
+  public void reusedAfterReset() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    listOf(100).accept(out);
+    out.reset();
+    out.writeByte((byte) 1);
+
+    assertThat(out.encoded()).isEqualTo(h("0x01"));
+  }
+
+  @Test
+  public void reusedAfterFailedEncode() {
+    assertThatThrownBy(() -> BufferedRLPOutput.encode(RLPOutput::startList))
+        .isInstanceOf(IllegalStateException.class);
+
+    assertThat(BufferedRLPOutput.encode(out -> out.writeByte((byte) 1))).isEqualTo(h("0x01"));
+  }
+
+  @Test
+  public void unclosedList() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    out.startList();
+    assertThatThrownBy(out::encoded).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void closeUnopenedList() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    assertThatThrownBy(out::endList).isInstanceOf(IllegalStateException.class);
+  }
+
+  @Test
+  public void multipleElementAddedWithoutList() {
+    final BufferedRLPOutput out = new BufferedRLPOutput();
+    out.writeByte((byte) 0);
+    assertThatThrownBy(() -> out.writeByte((byte) 1)).isInstanceOf(IllegalStateException.class);
+  }
+}
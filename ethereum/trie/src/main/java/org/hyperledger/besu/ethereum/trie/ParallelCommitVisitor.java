@@ -0,0 +1,129 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import org.hyperledger.besu.ethereum.trie.patricia.BranchNode;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+
+/**
+ * A {@link CommitVisitor} that commits the dirty children of large branch nodes concurrently, in
+ * the common fork-join pool, down to a configurable depth.
+ *
+ * <p>Each subtree is visited by a thread of its own, hashing any node that was not hashed before the
+ * commit, and its nodes are buffered in a node updater of its own. Once all the subtrees of a
+ * branch are committed, their nodes are handed to the node updater of the branch, in the order of
+ * the children, so the provided node updater receives the nodes in the same order as with a
+ * sequential commit and is only ever called by the thread that started the commit.
+ *
+ * @param <V> the type of the values stored in the trie
+ */
+public class ParallelCommitVisitor<V> extends CommitVisitor<V> {
+
+  /** The default depth, in nibbles, down to which subtrees are committed concurrently. */
+  public static final int DEFAULT_PARALLEL_DEPTH = 2;
+
+  // below this number of dirty children, forking costs more than committing sequentially
+  private static final int MIN_DIRTY_CHILDREN = 4;
+
+  private final int parallelDepth;
+
+  /**
+   * Creates a visitor committing subtrees concurrently down to the default depth.
+   *
+   * @param nodeUpdater the node updater storing the committed nodes
+   */
+  public ParallelCommitVisitor(final NodeUpdater nodeUpdater) {
+    this(nodeUpdater, DEFAULT_PARALLEL_DEPTH);
+  }
+
+  /**
+   * Creates a visitor committing subtrees concurrently down to the provided depth.
+   *
+   * @param nodeUpdater the node updater storing the committed nodes
+   * @param parallelDepth the depth, in nibbles, of the deepest branch nodes whose children are
+   *     committed concurrently, 0 to only split the root
+   */
+  public ParallelCommitVisitor(final NodeUpdater nodeUpdater, final int parallelDepth) {
+    super(nodeUpdater);
+    checkArgument(parallelDepth >= 0, "Parallel depth must not be negative: %s", parallelDepth);
+    this.parallelDepth = parallelDepth;
+  }
+
+  @Override
+  public void visit(final Bytes location, final BranchNode<V> branchNode) {
+    if (!branchNode.isDirty()) {
+      return;
+    }
+    if (location.size() > parallelDepth) {
+      super.visit(location, branchNode);
+      return;
+    }
+
+    final List<SubtreeCommit> subtrees = new ArrayList<>(branchNode.maxChild());
+    for (int i = 0; i < branchNode.maxChild(); ++i) {
+      final Node<V> child = branchNode.child((byte) i);
+      if (child.isDirty()) {
+        subtrees.add(new SubtreeCommit(Bytes.concatenate(location, Bytes.of(i)), child));
+      }
+    }
+    if (subtrees.size() < MIN_DIRTY_CHILDREN) {
+      super.visit(location, branchNode);
+      return;
+    }
+
+    ForkJoinTask.invokeAll(subtrees);
+    subtrees.forEach(subtree -> subtree.storeNodes(nodeUpdater));
+
+    maybeStoreNode(location, branchNode);
+  }
+
+  private record CommittedNode(Bytes location, Bytes32 hash, Bytes value) {}
+
+  private class SubtreeCommit extends RecursiveAction {
+    private final Bytes location;
+    private final Node<V> node;
+    private final List<CommittedNode> committedNodes = new ArrayList<>();
+
+    private SubtreeCommit(final Bytes location, final Node<V> node) {
+      this.location = location;
+      this.node = node;
+    }
+
+    @Override
+    protected void compute() {
+      node.accept(
+          location,
+          new ParallelCommitVisitor<V>(
+              (nodeLocation, hash, value) ->
+                  committedNodes.add(new CommittedNode(nodeLocation, hash, value)),
+              parallelDepth));
+    }
+
+    private void storeNodes(final NodeUpdater target) {
+      committedNodes.forEach(
+          committedNode ->
+              target.store(committedNode.location(), committedNode.hash(), committedNode.value()));
+    }
+  }
+}
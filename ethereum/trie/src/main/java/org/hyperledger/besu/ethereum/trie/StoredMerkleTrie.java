@@ -146,6 +146,8 @@ public abstract class StoredMerkleTrie<K extends Bytes, V> implements MerkleTrie
 
   @Override
   public void commit(final NodeUpdater nodeUpdater, final CommitVisitor<V> commitVisitor) {
+    // nodes memoize their hash, so the commit visitor only reads the precomputed values
+    TrieNodeHasher.hashDirtyNodes(root);
     root.accept(Bytes.EMPTY, commitVisitor);
     // Make sure root node was stored
     if (root.isDirty() && root.getEncodedBytesRef().size() < 32) {
@@ -0,0 +1,73 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Computes the hashes of the dirty nodes of a trie before a commit.
+ *
+ * <p>The dirty nodes are hashed level by level, from the deepest one to the root, so the children
+ * of a node are always hashed before the node itself and the nodes of a large level can be hashed
+ * in parallel.
+ */
+public final class TrieNodeHasher {
+  // below this number of nodes, hashing a level in parallel costs more than it saves
+  private static final int PARALLEL_LEVEL_THRESHOLD = 64;
+
+  private TrieNodeHasher() {}
+
+  /**
+   * Hashes all the dirty nodes of a trie, so they do not need to be hashed one by one while they
+   * are committed. Nodes that are small enough to be inlined in their parent are only encoded.
+   *
+   * @param root the root of the trie
+   * @param <V> the type of the values stored in the trie
+   */
+  public static <V> void hashDirtyNodes(final Node<V> root) {
+    final List<List<Node<V>>> levels = new ArrayList<>();
+    collectDirtyNodes(root, 0, levels);
+    for (int depth = levels.size() - 1; depth >= 0; depth--) {
+      final List<Node<V>> level = levels.get(depth);
+      if (level.size() >= PARALLEL_LEVEL_THRESHOLD) {
+        level.parallelStream().forEach(TrieNodeHasher::hashNode);
+      } else {
+        level.forEach(TrieNodeHasher::hashNode);
+      }
+    }
+  }
+
+  private static <V> void collectDirtyNodes(
+      final Node<V> node, final int depth, final List<List<Node<V>>> levels) {
+    if (!node.isDirty()) {
+      return;
+    }
+    if (levels.size() == depth) {
+      levels.add(new ArrayList<>());
+    }
+    levels.get(depth).add(node);
+    for (final Node<V> child : node.getChildren()) {
+      collectDirtyNodes(child, depth + 1, levels);
+    }
+  }
+
+  private static <V> void hashNode(final Node<V> node) {
+    // nodes are memoizing their encoding and their hash
+    if (node.isReferencedByHash()) {
+      node.getHash();
+    }
+  }
+}
@@ -16,7 +16,6 @@ package org.hyperledger.besu.ethereum.trie.patricia;
 
 import static org.hyperledger.besu.crypto.Hash.keccak256;
 
-import org.hyperledger.besu.ethereum.rlp.BytesValueRLPOutput;
 import org.hyperledger.besu.ethereum.rlp.RLP;
 import org.hyperledger.besu.ethereum.trie.LocationNodeVisitor;
 import org.hyperledger.besu.ethereum.trie.Node;
@@ -127,18 +126,20 @@ public class BranchNode<V> implements Node<V> {
         return encoded;
       }
     }
-    final BytesValueRLPOutput out = new BytesValueRLPOutput();
-    out.startList();
-    for (int i = 0; i < maxChild(); ++i) {
-      out.writeRaw(children.get(i).getEncodedBytesRef());
-    }
-    if (value.isPresent()) {
-      out.writeBytes(valueSerializer.apply(value.get()));
-    } else {
-      out.writeNull();
-    }
-    out.endList();
-    final Bytes encoded = out.encoded();
+    final Bytes encoded =
+        RLP.encode(
+            out -> {
+              out.startList();
+              for (int i = 0; i < maxChild(); ++i) {
+                out.writeRaw(children.get(i).getEncodedBytesRef());
+              }
+              if (value.isPresent()) {
+                out.writeBytes(valueSerializer.apply(value.get()));
+              } else {
+                out.writeNull();
+              }
+              out.endList();
+            });
     encodedBytes = new WeakReference<>(encoded);
     return encoded;
   }
@@ -0,0 +1,133 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import org.hyperledger.besu.crypto.Hash;
+import org.hyperledger.besu.ethereum.trie.patricia.BranchNode;
+import org.hyperledger.besu.ethereum.trie.patricia.StoredMerklePatriciaTrie;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+
+public class ParallelCommitVisitorTest {
+
+  private record CommittedNode(Bytes location, Bytes hash, Bytes value) {}
+
+  @Test
+  public void storesTheSameNodesInTheSameOrderAsSequentialCommit() {
+    for (int parallelDepth = 0; parallelDepth <= 3; parallelDepth++) {
+      final StoredMerklePatriciaTrie<Bytes, Bytes> sequentialTrie = createTrie();
+      final StoredMerklePatriciaTrie<Bytes, Bytes> parallelTrie = createTrie();
+      final List<CommittedNode> sequentialNodes = new ArrayList<>();
+      final List<CommittedNode> parallelNodes = new ArrayList<>();
+
+      sequentialTrie.commit(
+          (location, hash, value) -> sequentialNodes.add(new CommittedNode(location, hash, value)));
+      final NodeUpdater nodeUpdater =
+          (location, hash, value) -> parallelNodes.add(new CommittedNode(location, hash, value));
+      parallelTrie.commit(nodeUpdater, new ParallelCommitVisitor<>(nodeUpdater, parallelDepth));
+
+      assertThat(parallelTrie.getRootHash()).isEqualTo(sequentialTrie.getRootHash());
+      assertThat(parallelNodes).containsExactlyElementsOf(sequentialNodes);
+    }
+  }
+
+  @Test
+  public void committedTrieCanBeReloaded() {
+    final KeyValueMerkleStorage storage =
+        new KeyValueMerkleStorage(new InMemoryKeyValueStorage());
+    final StoredMerklePatriciaTrie<Bytes, Bytes> trie =
+        new StoredMerklePatriciaTrie<>(storage::get, Function.identity(), Function.identity());
+    fill(trie);
+
+    final NodeUpdater nodeUpdater = storage::put;
+    trie.commit(nodeUpdater, new ParallelCommitVisitor<>(nodeUpdater));
+    storage.commit();
+
+    final StoredMerklePatriciaTrie<Bytes, Bytes> reloaded =
+        new StoredMerklePatriciaTrie<>(
+            storage::get, trie.getRootHash(), Function.identity(), Function.identity());
+    for (int i = 0; i < 1_000; i++) {
+      assertThat(reloaded.get(key(i))).isEqualTo(Optional.of(Bytes.ofUnsignedInt(i)));
+    }
+  }
+
+  @Test
+  public void dirtyNodesAreHashedBeforeTheParallelCommit() {
+    final AtomicInteger serializedValues = new AtomicInteger();
+    final StoredMerklePatriciaTrie<Bytes, Bytes> trie =
+        new StoredMerklePatriciaTrie<>(
+            (location, hash) -> Optional.empty(),
+            value -> {
+              serializedValues.incrementAndGet();
+              return value;
+            },
+            Function.identity());
+    fill(trie);
+    assertThat(serializedValues).hasValue(0);
+
+    final AtomicInteger serializedValuesWhenRootVisited = new AtomicInteger(-1);
+    final NodeUpdater nodeUpdater = (location, hash, value) -> {};
+    trie.commit(
+        nodeUpdater,
+        new ParallelCommitVisitor<Bytes>(nodeUpdater) {
+          @Override
+          public void visit(final Bytes location, final BranchNode<Bytes> branchNode) {
+            if (location.isEmpty()) {
+              serializedValuesWhenRootVisited.set(serializedValues.get());
+            }
+            super.visit(location, branchNode);
+          }
+        });
+
+    // every leaf was encoded, and hashed, before the commit visitor reached the root
+    assertThat(serializedValuesWhenRootVisited.get()).isGreaterThanOrEqualTo(1_000);
+    assertThat(trie.getRootHash()).isEqualTo(createTrie().getRootHash());
+  }
+
+  @Test
+  public void negativeDepthIsRejected() {
+    assertThatThrownBy(() -> new ParallelCommitVisitor<Bytes>((location, hash, value) -> {}, -1))
+        .isInstanceOf(IllegalArgumentException.class);
+  }
+
+  private static StoredMerklePatriciaTrie<Bytes, Bytes> createTrie() {
+    final StoredMerklePatriciaTrie<Bytes, Bytes> trie =
+        new StoredMerklePatriciaTrie<>(
+            (location, hash) -> Optional.empty(), Function.identity(), Function.identity());
+    fill(trie);
+    return trie;
+  }
+
+  private static void fill(final StoredMerklePatriciaTrie<Bytes, Bytes> trie) {
+    for (int i = 0; i < 1_000; i++) {
+      trie.put(key(i), Bytes.ofUnsignedInt(i));
+    }
+  }
+
+  private static Bytes key(final int i) {
+    return Hash.keccak256(Bytes.ofUnsignedInt(i));
+  }
+}
@@ -0,0 +1,57 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.ethereum.trie;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.crypto.Hash;
+import org.hyperledger.besu.ethereum.trie.patricia.SimpleMerklePatriciaTrie;
+import org.hyperledger.besu.ethereum.trie.patricia.StoredMerklePatriciaTrie;
+import org.hyperledger.besu.services.kvstore.InMemoryKeyValueStorage;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Function;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.apache.tuweni.bytes.Bytes32;
+import org.junit.jupiter.api.Test;
+
+public class TrieNodeHasherTest {
+
+  @Test
+  public void committedNodesAreStoredUnderTheirHash() {
+    final MerkleStorage merkleStorage = new KeyValueMerkleStorage(new InMemoryKeyValueStorage());
+    final StoredMerklePatriciaTrie<Bytes, Bytes> storedTrie =
+        new StoredMerklePatriciaTrie<>(
+            merkleStorage::get, Function.identity(), Function.identity());
+    final SimpleMerklePatriciaTrie<Bytes, Bytes> simpleTrie =
+        new SimpleMerklePatriciaTrie<>(Function.identity());
+    // enough entries for the upper levels to be hashed in parallel
+    for (int i = 0; i < 2_000; i++) {
+      final Bytes32 key = Hash.keccak256(Bytes.ofUnsignedInt(i));
+      final Bytes value = Bytes.ofUnsignedInt(i);
+      storedTrie.put(key, value);
+      simpleTrie.put(key, value);
+    }
+
+    final Map<Bytes32, Bytes> storedNodes = new HashMap<>();
+    storedTrie.commit((location, hash, value) -> storedNodes.put(hash, value));
+
+    assertThat(storedTrie.getRootHash()).isEqualTo(simpleTrie.getRootHash());
+    assertThat(storedNodes).containsKey(simpleTrie.getRootHash());
+    storedNodes.forEach((hash, node) -> assertThat(Hash.keccak256(node)).isEqualTo(hash));
+  }
+}
@@ -0,0 +1,272 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * A {@link InMemoryTasksPriorityQueues} that keeps at most {@code maxInMemoryTasks} queued tasks on
+ * heap and spills the rest to one append-only file per depth. Spilled tasks are read back, deepest
+ * depth first, whenever the in-memory window runs low or a deeper depth is waiting on disk, so the
+ * window may temporarily grow up to one and a half times its configured size.
+ *
+ * <p>Ordering between tasks of the same depth is only preserved for the in-memory window, spilled
+ * tasks of a given depth are returned in insertion order. Spill files are owned by the queue: any
+ * left behind by a previous run are deleted on creation and the remaining ones on close.
+ *
+ * @param <T> the type parameter
+ */
+public class FlatFileTasksPriorityQueues<T extends TasksPriorityProvider>
+    extends InMemoryTasksPriorityQueues<T> {
+
+  private static final String SPILL_FILE_PREFIX = "tasks-depth-";
+  private static final int LENGTH_PREFIX_SIZE = Integer.BYTES;
+
+  private final Path spillDirectory;
+  private final int maxInMemoryTasks;
+  private final TaskSerializer<T> serializer;
+  private final Map<Integer, SpillFile> spillFiles = new HashMap<>();
+  private long spilledTaskCount = 0;
+
+  /**
+   * Instantiates a new flat file tasks priority queues.
+   *
+   * @param spillDirectory the directory holding the spill files, created if missing
+   * @param maxInMemoryTasks the max number of queued tasks kept on heap
+   * @param serializer the task serializer
+   */
+  public FlatFileTasksPriorityQueues(
+      final Path spillDirectory, final int maxInMemoryTasks, final TaskSerializer<T> serializer) {
+    checkArgument(maxInMemoryTasks > 0, "maxInMemoryTasks must be positive");
+    this.spillDirectory = spillDirectory;
+    this.maxInMemoryTasks = maxInMemoryTasks;
+    this.serializer = serializer;
+    try {
+      Files.createDirectories(spillDirectory);
+      try (final Stream<Path> stream = Files.list(spillDirectory)) {
+        for (final Path path : stream.toList()) {
+          if (path.getFileName().toString().startsWith(SPILL_FILE_PREFIX)) {
+            Files.delete(path);
+          }
+        }
+      }
+    } catch (final IOException e) {
+      throw new IllegalStateException("Unable to prepare task spill directory", e);
+    }
+  }
+
+  @Override
+  public synchronized void add(final T taskData) {
+    if (super.size() < maxInMemoryTasks) {
+      super.add(taskData);
+      return;
+    }
+    spillFile(taskData.getDepth()).append(serializer.serialize(taskData));
+    spilledTaskCount++;
+  }
+
+  @Override
+  public synchronized Task<T> remove() {
+    refillFromDisk();
+    return super.remove();
+  }
+
+  @Override
+  public synchronized long size() {
+    return super.size() + spilledTaskCount;
+  }
+
+  @Override
+  public synchronized boolean isEmpty() {
+    return spilledTaskCount == 0 && super.isEmpty();
+  }
+
+  @Override
+  public synchronized void clear() {
+    super.clear();
+    spillFiles.values().forEach(SpillFile::truncate);
+    spilledTaskCount = 0;
+    serializer.clear();
+  }
+
+  @Override
+  public synchronized void close() {
+    super.close();
+    spillFiles.values().forEach(SpillFile::delete);
+    spillFiles.clear();
+    spilledTaskCount = 0;
+    serializer.clear();
+  }
+
+  @Override
+  public synchronized boolean contains(final T request) {
+    if (super.contains(request)) {
+      return true;
+    }
+    final SpillFile spillFile = spillFiles.get(request.getDepth());
+    return spillFile != null
+        && spillFile.anyMatch(serialized -> serializer.matches(serialized, request));
+  }
+
+  /**
+   * Returns the number of tasks currently stored on disk.
+   *
+   * @return the number of spilled tasks
+   */
+  public synchronized long spilledSize() {
+    return spilledTaskCount;
+  }
+
+  private void refillFromDisk() {
+    if (spilledTaskCount == 0) {
+      return;
+    }
+    final int deepestSpilledDepth = deepestSpilledDepth();
+    if (deepestSpilledDepth <= highestQueuedDepth() && super.size() > maxInMemoryTasks / 2) {
+      return;
+    }
+    // always load at least half a window so a deeper spilled depth can overtake the in-memory one
+    long toLoad = Math.max(maxInMemoryTasks - super.size(), Math.max(1, maxInMemoryTasks / 2));
+    final SpillFile spillFile = spillFiles.get(deepestSpilledDepth);
+    while (toLoad-- > 0 && spillFile.hasRemaining()) {
+      super.add(serializer.deserialize(spillFile.next()));
+      spilledTaskCount--;
+    }
+  }
+
+  private int deepestSpilledDepth() {
+    return spillFiles.entrySet().stream()
+        .filter(entry -> entry.getValue().hasRemaining())
+        .mapToInt(Map.Entry::getKey)
+        .max()
+        .orElse(-1);
+  }
+
+  private SpillFile spillFile(final int depth) {
+    return spillFiles.computeIfAbsent(
+        depth, d -> new SpillFile(spillDirectory.resolve(SPILL_FILE_PREFIX + d + ".dat")));
+  }
+
+  private static class SpillFile {
+    private final Path path;
+    private final FileChannel channel;
+    private long readPosition = 0;
+    private long writePosition = 0;
+
+    private SpillFile(final Path path) {
+      this.path = path;
+      try {
+        this.channel =
+            FileChannel.open(
+                path,
+                StandardOpenOption.CREATE,
+                StandardOpenOption.READ,
+                StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Unable to open task spill file " + path, e);
+      }
+    }
+
+    private boolean hasRemaining() {
+      return readPosition < writePosition;
+    }
+
+    private void append(final Bytes data) {
+      final ByteBuffer buffer = ByteBuffer.allocate(LENGTH_PREFIX_SIZE + data.size());
+      buffer.putInt(data.size());
+      buffer.put(data.toArrayUnsafe());
+      buffer.flip();
+      try {
+        while (buffer.hasRemaining()) {
+          writePosition += channel.write(buffer, writePosition);
+        }
+      } catch (final IOException e) {
+        throw new IllegalStateException("Unable to write to task spill file " + path, e);
+      }
+    }
+
+    private Bytes next() {
+      final int length = read(readPosition, LENGTH_PREFIX_SIZE).getInt();
+      final Bytes data = Bytes.wrap(read(readPosition + LENGTH_PREFIX_SIZE, length).array());
+      readPosition += LENGTH_PREFIX_SIZE + length;
+      if (!hasRemaining()) {
+        // everything written has been read back, reclaim the disk space
+        truncate();
+      }
+      return data;
+    }
+
+    private boolean anyMatch(final Predicate<Bytes> predicate) {
+      long position = readPosition;
+      while (position < writePosition) {
+        final int length = read(position, LENGTH_PREFIX_SIZE).getInt();
+        if (predicate.test(Bytes.wrap(read(position + LENGTH_PREFIX_SIZE, length).array()))) {
+          return true;
+        }
+        position += LENGTH_PREFIX_SIZE + length;
+      }
+      return false;
+    }
+
+    private ByteBuffer read(final long position, final int length) {
+      final ByteBuffer buffer = ByteBuffer.allocate(length);
+      try {
+        while (buffer.hasRemaining()) {
+          final int read = channel.read(buffer, position + buffer.position());
+          if (read < 0) {
+            throw new IllegalStateException("Unexpected end of task spill file " + path);
+          }
+        }
+      } catch (final IOException e) {
+        throw new IllegalStateException("Unable to read from task spill file " + path, e);
+      }
+      buffer.flip();
+      return buffer;
+    }
+
+    private void truncate() {
+      try {
+        channel.truncate(0);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Unable to truncate task spill file " + path, e);
+      }
+      readPosition = 0;
+      writePosition = 0;
+    }
+
+    private void delete() {
+      try {
+        channel.close();
+        Files.deleteIfExists(path);
+      } catch (final IOException e) {
+        throw new IllegalStateException("Unable to delete task spill file " + path, e);
+      }
+    }
+  }
+}
@@ -90,6 +90,20 @@ public class InMemoryTasksPriorityQueues<T extends TasksPriorityProvider>
     return internalQueues.get(0);
   }
 
+  /**
+   * Returns the depth of the deepest non-empty queue, or -1 if all queues are empty.
+   *
+   * @return the deepest depth that still has queued tasks
+   */
+  protected synchronized int highestQueuedDepth() {
+    for (int i = internalQueues.size() - 1; i >= 0; i--) {
+      if (!internalQueues.get(i).isEmpty()) {
+        return i;
+      }
+    }
+    return -1;
+  }
+
   @Override
   public synchronized long size() {
     return internalQueues.stream().mapToInt(Queue::size).sum();
@@ -0,0 +1,55 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import org.apache.tuweni.bytes.Bytes;
+
+/**
+ * Converts tasks to and from bytes so they can be stored off heap by {@link
+ * FlatFileTasksPriorityQueues}.
+ *
+ * @param <T> the type parameter
+ */
+public interface TaskSerializer<T> {
+
+  /**
+   * Serializes a task that is written to disk. Called exactly once for each spilled task.
+   *
+   * @param task the task
+   * @return the serialized task
+   */
+  Bytes serialize(T task);
+
+  /**
+   * Deserializes a task that is read back from disk. Called exactly once for each spilled task that
+   * is read back.
+   *
+   * @param serialized the serialized task
+   * @return the task
+   */
+  T deserialize(Bytes serialized);
+
+  /**
+   * Checks, without side effects, whether the serialized bytes hold the given task.
+   *
+   * @param serialized the serialized task
+   * @param task the task
+   * @return true if the serialized task is the given task
+   */
+  boolean matches(Bytes serialized, T task);
+
+  /** Releases any state kept for spilled tasks that are discarded without being read back. */
+  default void clear() {}
+}
@@ -0,0 +1,177 @@
+/*
+ * Copyright Hyperledger Besu Contributors.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance with
+ * the License. You may obtain a copy of the License at
+ *
+ * http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on
+ * an "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied. See the License for the
+ * specific language governing permissions and limitations under the License.
+ *
+ * SPDX-License-Identifier: Apache-2.0
+ */
+package org.hyperledger.besu.services.tasks;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.hyperledger.besu.services.tasks.InMemoryTasksPriorityQueuesTest.Item;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.Stream;
+
+import org.apache.tuweni.bytes.Bytes;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+public class FlatFileTasksPriorityQueuesTest {
+
+  @TempDir Path tempDir;
+
+  @Test
+  public void shouldSpillTasksBeyondInMemoryWindow() {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(2);
+
+    queue.add(new Item(1, 1));
+    queue.add(new Item(1, 2));
+    queue.add(new Item(1, 3));
+    queue.add(new Item(1, 4));
+
+    assertThat(queue.size()).isEqualTo(4);
+    assertThat(queue.spilledSize()).isEqualTo(2);
+    assertThat(queue.isEmpty()).isFalse();
+  }
+
+  @Test
+  public void shouldReturnAllTasksIncludingSpilledOnes() {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(3);
+    final List<Item> added = new ArrayList<>();
+    for (int i = 0; i < 20; i++) {
+      final Item item = new Item(i % 4, i);
+      added.add(item);
+      queue.add(item);
+    }
+
+    final List<Item> removed = new ArrayList<>();
+    while (!queue.isEmpty()) {
+      final Task<Item> task = queue.remove();
+      removed.add(task.getData());
+      task.markCompleted();
+    }
+
+    assertThat(removed).containsExactlyInAnyOrderElementsOf(added);
+    assertThat(queue.spilledSize()).isZero();
+    assertThat(queue.allTasksCompleted()).isTrue();
+  }
+
+  @Test
+  public void shouldPreferDeeperSpilledTasks() {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(2);
+
+    queue.add(new Item(1, 1));
+    queue.add(new Item(1, 2));
+    queue.add(new Item(5, 1));
+
+    assertThat(queue.remove().getData()).isEqualTo(new Item(5, 1));
+  }
+
+  @Test
+  public void shouldRequeueFailedTask() {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(1);
+
+    queue.add(new Item(1, 1));
+    queue.add(new Item(1, 2));
+
+    final Task<Item> task = queue.remove();
+    task.markFailed();
+
+    assertThat(queue.size()).isEqualTo(2);
+    assertThat(queue.allTasksCompleted()).isFalse();
+  }
+
+  @Test
+  public void shouldContainSpilledTasks() {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(1);
+
+    queue.add(new Item(1, 1));
+    queue.add(new Item(1, 2));
+    queue.add(new Item(2, 3));
+
+    assertThat(queue.spilledSize()).isEqualTo(2);
+    assertThat(queue.contains(new Item(1, 2))).isTrue();
+    assertThat(queue.contains(new Item(2, 3))).isTrue();
+    assertThat(queue.contains(new Item(2, 2))).isFalse();
+  }
+
+  @Test
+  public void shouldClearSpilledTasks() {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(1);
+
+    queue.add(new Item(1, 1));
+    queue.add(new Item(2, 2));
+    queue.clear();
+
+    assertThat(queue.size()).isZero();
+    assertThat(queue.isEmpty()).isTrue();
+    assertThat(queue.remove()).isNull();
+  }
+
+  @Test
+  public void shouldDeleteSpillFilesOnClose() throws IOException {
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(1);
+
+    queue.add(new Item(1, 1));
+    queue.add(new Item(2, 2));
+    assertThat(spillFiles()).isNotEmpty();
+
+    queue.close();
+
+    assertThat(spillFiles()).isEmpty();
+  }
+
+  @Test
+  public void shouldDeleteSpillFilesLeftByPreviousRun() throws IOException {
+    final FlatFileTasksPriorityQueues<Item> previous = createQueue(1);
+    previous.add(new Item(1, 1));
+    previous.add(new Item(2, 2));
+
+    final FlatFileTasksPriorityQueues<Item> queue = createQueue(1);
+
+    assertThat(spillFiles()).isEmpty();
+    assertThat(queue.isEmpty()).isTrue();
+  }
+
+  private List<Path> spillFiles() throws IOException {
+    try (final Stream<Path> files = Files.list(tempDir)) {
+      return files.toList();
+    }
+  }
+
+  private FlatFileTasksPriorityQueues<Item> createQueue(final int maxInMemoryTasks) {
+    return new FlatFileTasksPriorityQueues<>(tempDir, maxInMemoryTasks, new ItemSerializer());
+  }
+
+  private static class ItemSerializer implements TaskSerializer<Item> {
+
+    @Override
+    public Bytes serialize(final Item item) {
+      return Bytes.concatenate(
+          Bytes.ofUnsignedInt(item.getDepth()), Bytes.ofUnsignedLong(item.getPriority()));
+    }
+
+    @Override
+    public Item deserialize(final Bytes serialized) {
+      return new Item(serialized.slice(0, 4).toInt(), serialized.slice(4, 8).toLong());
+    }
+
+    @Override
+    public boolean matches(final Bytes serialized, final Item item) {
+      return deserialize(serialized).equals(item);
+    }
+  }
+}